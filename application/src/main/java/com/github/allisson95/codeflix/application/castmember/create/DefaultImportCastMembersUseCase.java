@@ -0,0 +1,51 @@
+package com.github.allisson95.codeflix.application.castmember.create;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.allisson95.codeflix.domain.castmember.CastMember;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public class DefaultImportCastMembersUseCase extends ImportCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultImportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCastMemberOutput>> execute(final List<CreateCastMemberCommand> aCommands) {
+        final var results = new ArrayList<Either<Notification, CreateCastMemberOutput>>(aCommands.size());
+        final var newMembers = new ArrayList<CastMember>(aCommands.size());
+
+        for (final var aCommand : aCommands) {
+            final var notification = Notification.create();
+
+            final var aMember = notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else {
+                newMembers.add(aMember);
+                results.add(Right(CreateCastMemberOutput.with(aMember)));
+            }
+        }
+
+        if (!newMembers.isEmpty()) {
+            Try(() -> this.castMemberGateway.createAll(newMembers))
+                    .onFailure(t -> results.replaceAll(it -> it.isRight() ? Left(Notification.create(t)) : it));
+        }
+
+        return results;
+    }
+
+}
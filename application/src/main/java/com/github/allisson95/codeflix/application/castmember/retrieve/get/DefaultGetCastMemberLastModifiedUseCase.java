@@ -0,0 +1,33 @@
+package com.github.allisson95.codeflix.application.castmember.retrieve.get;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.castmember.CastMember;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+
+public non-sealed class DefaultGetCastMemberLastModifiedUseCase extends GetCastMemberLastModifiedUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMemberLastModifiedUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Instant execute(final String anId) {
+        final var aMemberId = CastMemberID.from(anId);
+        return this.castMemberGateway.findLastModifiedById(aMemberId)
+                .orElseThrow(notFound(aMemberId));
+    }
+
+    private Supplier<? extends DomainException> notFound(final Identifier anId) {
+        return () -> NotFoundException.with(CastMember.class, anId);
+    }
+
+}
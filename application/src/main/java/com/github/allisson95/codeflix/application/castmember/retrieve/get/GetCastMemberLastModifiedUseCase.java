@@ -0,0 +1,11 @@
+package com.github.allisson95.codeflix.application.castmember.retrieve.get;
+
+import java.time.Instant;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract sealed class GetCastMemberLastModifiedUseCase
+        extends UseCase<String, Instant>
+        permits DefaultGetCastMemberLastModifiedUseCase {
+
+}
@@ -26,7 +26,7 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
         final var aName = aCommand.name();
         final var aType = aCommand.type();
 
-        final var aMember = this.castMemberGateway.findById(anId)
+        final var aMember = this.castMemberGateway.findForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
         final var notification = Notification.create();
@@ -0,0 +1,52 @@
+package com.github.allisson95.codeflix.application.category.create;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.allisson95.codeflix.domain.category.Category;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> aCommands) {
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(aCommands.size());
+        final var newCategories = new ArrayList<Category>(aCommands.size());
+
+        for (final var aCommand : aCommands) {
+            final var notification = Notification.create();
+
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else {
+                newCategories.add(aCategory);
+                results.add(Right(CreateCategoryOutput.from(aCategory)));
+            }
+        }
+
+        if (!newCategories.isEmpty()) {
+            Try(() -> this.categoryGateway.createAll(newCategories))
+                    .onFailure(t -> results.replaceAll(it -> it.isRight() ? Left(Notification.create(t)) : it));
+        }
+
+        return results;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.github.allisson95.codeflix.application.category.create;
+
+import java.util.List;
+
+import com.github.allisson95.codeflix.application.UseCase;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class ImportCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+
+}
@@ -0,0 +1,31 @@
+package com.github.allisson95.codeflix.application.category.retrieve.get;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.category.Category;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+
+public class DefaultGetCategoryLastModifiedUseCase extends GetCategoryLastModifiedUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryLastModifiedUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Instant execute(final String anId) {
+        final var aCategoryId = CategoryID.from(anId);
+        return this.categoryGateway.findLastModifiedById(aCategoryId)
+                .orElseThrow(notFound(aCategoryId));
+    }
+
+    private Supplier<? extends NotFoundException> notFound(final CategoryID categoryId) {
+        return () -> NotFoundException.with(Category.class, categoryId);
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.github.allisson95.codeflix.application.category.retrieve.get;
+
+import java.time.Instant;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class GetCategoryLastModifiedUseCase extends UseCase<String, Instant> { }
@@ -30,7 +30,7 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var aCategory = this.categoryGateway.findById(categoryId)
+        final var aCategory = this.categoryGateway.findForUpdate(categoryId)
                 .orElseThrow(notFound(categoryId));
 
         final var notification = Notification.create();
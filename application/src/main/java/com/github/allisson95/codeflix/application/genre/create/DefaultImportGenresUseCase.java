@@ -0,0 +1,91 @@
+package com.github.allisson95.codeflix.application.genre.create;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.Genre;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public class DefaultImportGenresUseCase extends ImportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+
+    public DefaultImportGenresUseCase(final GenreGateway genreGateway, final CategoryGateway categoryGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateGenreOutput>> execute(final List<CreateGenreCommand> aCommands) {
+        final var existingCategories = existingCategories(aCommands);
+
+        final var results = new ArrayList<Either<Notification, CreateGenreOutput>>(aCommands.size());
+        final var newGenres = new ArrayList<Genre>(aCommands.size());
+
+        for (final var aCommand : aCommands) {
+            final var categories = toCategory(aCommand.categories());
+
+            final var notification = Notification.create();
+
+            final var missingIds = categories.stream()
+                    .filter(Predicate.not(existingCategories::contains))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+            if (!missingIds.isEmpty()) {
+                notification.append(new Error("Some categories could not be found: %s".formatted(missingIds)));
+            }
+
+            final var aGenre = notification.validate(() -> Genre.newGenre(aCommand.name(), aCommand.active()));
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else {
+                aGenre.addCategories(categories);
+                newGenres.add(aGenre);
+                results.add(Right(CreateGenreOutput.from(aGenre)));
+            }
+        }
+
+        if (!newGenres.isEmpty()) {
+            Try(() -> this.genreGateway.createAll(newGenres))
+                    .onFailure(t -> results.replaceAll(it -> it.isRight() ? Left(Notification.create(t)) : it));
+        }
+
+        return results;
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> aCommands) {
+        final var ids = aCommands.stream()
+                .flatMap(it -> toCategory(it.categories()).stream())
+                .collect(Collectors.toSet());
+
+        return ids.isEmpty() ? Set.of() : new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+
+    private List<CategoryID> toCategory(final List<String> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+
+        return ids.stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.allisson95.codeflix.application.genre.retrieve.get;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.genre.Genre;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+
+public class DefaultGetGenreLastModifiedUseCase extends GetGenreLastModifiedUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenreLastModifiedUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Instant execute(final String anIn) {
+        final var aGenreId = GenreID.from(anIn);
+        return this.genreGateway.findLastModifiedById(aGenreId)
+                .orElseThrow(notFound(aGenreId));
+    }
+
+    private Supplier<? extends NotFoundException> notFound(final Identifier id) {
+        return () -> NotFoundException.with(Genre.class, id);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.allisson95.codeflix.application.genre.retrieve.get;
+
+import java.time.Instant;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class GetGenreLastModifiedUseCase extends UseCase<String, Instant> {
+
+}
@@ -36,7 +36,7 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var isActive = aCommand.isActive();
         final var categories = toCategory(aCommand.categories());
 
-        final var aGenre = this.genreGateway.findById(anId)
+        final var aGenre = this.genreGateway.findForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
         final var notification = Notification.create();
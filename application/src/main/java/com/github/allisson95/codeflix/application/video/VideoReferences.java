@@ -0,0 +1,139 @@
+package com.github.allisson95.codeflix.application.video;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+public class VideoReferences {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final Executor lookupExecutor;
+
+    public VideoReferences(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final Executor lookupExecutor) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.lookupExecutor = Objects.requireNonNull(lookupExecutor);
+    }
+
+    public Notification validate(
+            final Set<CategoryID> categories,
+            final Set<CastMemberID> castMembers,
+            final Set<GenreID> genres) {
+        final var existing = existing(categories, castMembers, genres);
+        final var notification = Notification.create();
+
+        appendMissing(notification, existing, categories, castMembers, genres);
+
+        return notification;
+    }
+
+    // The lookups are independent: all but the last non-empty one go to the executor and the caller runs that one
+    public Existing existing(
+            final Set<CategoryID> categories,
+            final Set<CastMemberID> castMembers,
+            final Set<GenreID> genres) {
+        final var existingCategories = lookup(categories, this.categoryGateway::existsByIds,
+                isNotEmpty(castMembers) || isNotEmpty(genres));
+        final var existingCastMembers = lookup(castMembers, this.castMemberGateway::existsByIds,
+                isNotEmpty(genres));
+        final var existingGenres = lookup(genres, this.genreGateway::existsByIds, false);
+
+        return new Existing(join(existingCategories), join(existingCastMembers), join(existingGenres));
+    }
+
+    // Errors are appended in a fixed order, whichever lookup finished first
+    public static void appendMissing(
+            final Notification notification,
+            final Existing existing,
+            final Set<CategoryID> categories,
+            final Set<CastMemberID> castMembers,
+            final Set<GenreID> genres) {
+        appendMissing(notification, "categories", categories, existing.categories());
+        appendMissing(notification, "cast members", castMembers, existing.castMembers());
+        appendMissing(notification, "genres", genres, existing.genres());
+    }
+
+    private static <T extends Identifier> void appendMissing(
+            final Notification notification,
+            final String aggregate,
+            final Set<T> ids,
+            final Set<T> existing) {
+        if (!isNotEmpty(ids)) {
+            return;
+        }
+
+        final var missingIds = ids.stream()
+                .filter(Predicate.not(existing::contains))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
+        }
+    }
+
+    private <T extends Identifier> CompletableFuture<Set<T>> lookup(
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds,
+            final boolean async) {
+        if (!isNotEmpty(ids)) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+
+        if (async) {
+            return CompletableFuture.supplyAsync(() -> new HashSet<>(existsByIds.apply(ids)), this.lookupExecutor);
+        }
+
+        try {
+            return CompletableFuture.completedFuture(new HashSet<>(existsByIds.apply(ids)));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> Set<T> join(final CompletableFuture<Set<T>> aLookup) {
+        try {
+            return aLookup.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isNotEmpty(final Set<?> ids) {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public record Existing(
+            Set<CategoryID> categories,
+            Set<CastMemberID> castMembers,
+            Set<GenreID> genres) {
+    }
+
+}
@@ -1,11 +1,23 @@
 package com.github.allisson95.codeflix.application.video.create;
 
+import java.time.Duration;
+import java.util.Map;
+
 import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+public record CreateVideoOutput(String id, Map<VideoMediaType, Duration> mediaTimings) {
 
-public record CreateVideoOutput(String id) {
+    public CreateVideoOutput(final String id) {
+        this(id, Map.of());
+    }
 
     public static CreateVideoOutput from(final Video aVideo) {
         return new CreateVideoOutput(aVideo.getId().getValue());
     }
 
+    public static CreateVideoOutput from(final Video aVideo, final Map<VideoMediaType, Duration> mediaTimings) {
+        return new CreateVideoOutput(aVideo.getId().getValue(), Map.copyOf(mediaTimings));
+    }
+
 }
@@ -1,14 +1,26 @@
 package com.github.allisson95.codeflix.application.video.create;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.application.video.VideoReferences;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
 import com.github.allisson95.codeflix.domain.category.CategoryGateway;
@@ -17,13 +29,14 @@ import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
 import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
 import com.github.allisson95.codeflix.domain.genre.GenreGateway;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
-import com.github.allisson95.codeflix.domain.validation.Error;
-import com.github.allisson95.codeflix.domain.validation.ValidationHandler;
-import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.Rating;
 import com.github.allisson95.codeflix.domain.video.Video;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoResource;
 
@@ -31,21 +44,21 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private final VideoGateway videoGateway;
     private final MediaResourceGateway mediaResourceGateway;
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
+    private final VideoReferences references;
+    private final Executor mediaStoreExecutor;
 
     public DefaultCreateVideoUseCase(
             final VideoGateway videoGateway,
             final MediaResourceGateway mediaResourceGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
-            final GenreGateway genreGateway) {
+            final GenreGateway genreGateway,
+            final Executor mediaStoreExecutor,
+            final Executor referenceLookupExecutor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.references = new VideoReferences(categoryGateway, castMemberGateway, genreGateway, referenceLookupExecutor);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
     }
 
     @Override
@@ -56,11 +69,7 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var castMembers = toIdentifier(aCommand.castMembers(), CastMemberID::from);
         final var genres = toIdentifier(aCommand.genres(), GenreID::from);
 
-        final var notification = Notification.create();
-
-        notification.append(validateCategories(categories));
-        notification.append(validateCastMembers(castMembers));
-        notification.append(validateGenres(genres));
+        final var notification = this.references.validate(categories, castMembers, genres);
 
         final var aVideo = Video.newVideo(
                 aCommand.title(),
@@ -80,90 +89,155 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
             throw new NotificationException("Could not create Aggregate Video", notification);
         }
 
-        return CreateVideoOutput.from(create(aCommand, aVideo));
+        final var mediaTimings = new ConcurrentHashMap<VideoMediaType, Duration>();
+
+        return CreateVideoOutput.from(create(aCommand, aVideo, mediaTimings), mediaTimings);
     }
 
-    private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
+    private Video create(
+            final CreateVideoCommand aCommand,
+            final Video aVideo,
+            final Map<VideoMediaType, Duration> mediaTimings) {
         final var anId = aVideo.getId();
+        final var completion = new ExecutorCompletionService<Object>(this.mediaStoreExecutor);
+        final var tasks = new ArrayList<MediaStoreTask>();
 
         try {
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.BANNER)))
-                    .orElse(null);
+            final var aBannerMedia = store(completion, tasks, mediaTimings, anId, aCommand.getBanner(),
+                    VideoMediaType.BANNER, this.mediaResourceGateway::storeImage);
+
+            final var aThumbnailMedia = store(completion, tasks, mediaTimings, anId, aCommand.getThumbnail(),
+                    VideoMediaType.THUMBNAIL, this.mediaResourceGateway::storeImage);
 
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL)))
-                    .orElse(null);
+            final var aThumbnailHalfMedia = store(completion, tasks, mediaTimings, anId, aCommand.getThumbnailHalf(),
+                    VideoMediaType.THUMBNAIL_HALF, this.mediaResourceGateway::storeImage);
 
-            final var aThumbnailHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(it, VideoMediaType.THUMBNAIL_HALF)))
-                    .orElse(null);
+            final var aVideoMedia = store(completion, tasks, mediaTimings, anId, aCommand.getVideo(),
+                    VideoMediaType.VIDEO, this.mediaResourceGateway::storeVideo);
 
-            final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeVideo(anId, VideoResource.with(it, VideoMediaType.VIDEO)))
-                    .orElse(null);
+            final var aTrailerMedia = store(completion, tasks, mediaTimings, anId, aCommand.getTrailer(),
+                    VideoMediaType.TRAILER, this.mediaResourceGateway::storeVideo);
 
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeVideo(anId, VideoResource.with(it, VideoMediaType.TRAILER)))
-                    .orElse(null);
+            awaitAll(completion, tasks);
 
             aVideo
-                    .updateBannerMedia(aBannerMedia)
-                    .updateThumbnailMedia(aThumbnailMedia)
-                    .updateThumbnailHalfMedia(aThumbnailHalfMedia)
-                    .updateVideoMedia(aVideoMedia)
-                    .updateTrailerMedia(aTrailerMedia);
+                    .updateBannerMedia((ImageMedia) resultOf(aBannerMedia))
+                    .updateThumbnailMedia((ImageMedia) resultOf(aThumbnailMedia))
+                    .updateThumbnailHalfMedia((ImageMedia) resultOf(aThumbnailHalfMedia))
+                    .updateVideoMedia((VideoMedia) resultOf(aVideoMedia))
+                    .updateTrailerMedia((VideoMedia) resultOf(aTrailerMedia));
 
             return this.videoGateway.create(aVideo);
         } catch (final Exception e) {
+            final var interrupted = cancelAll(tasks);
+
             this.mediaResourceGateway.clearResources(anId);
+
+            if (interrupted || e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
             throw new InternalErrorException(
                     "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
-                    e);
+                    e instanceof ExecutionException ? e.getCause() : e);
         }
     }
 
-    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
-        return ids.stream()
-                .map(mapper)
-                .collect(Collectors.toSet());
+    private MediaStoreTask store(
+            final ExecutorCompletionService<Object> completion,
+            final List<MediaStoreTask> tasks,
+            final Map<VideoMediaType, Duration> mediaTimings,
+            final VideoID anId,
+            final Optional<Resource> aResource,
+            final VideoMediaType aType,
+            final BiFunction<VideoID, VideoResource, Object> aStore) {
+        if (aResource.isEmpty()) {
+            return null;
+        }
+
+        final var aVideoResource = VideoResource.with(aResource.get(), aType);
+        final var task = new MediaStoreTask(() -> {
+            final var startedAt = System.nanoTime();
+            try {
+                return aStore.apply(anId, aVideoResource);
+            } finally {
+                mediaTimings.put(aType, Duration.ofNanos(System.nanoTime() - startedAt));
+            }
+        });
+
+        tasks.add(task);
+        completion.submit(task, null);
+        return task;
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
+    private void awaitAll(final ExecutorCompletionService<Object> completion, final List<MediaStoreTask> tasks)
+            throws InterruptedException, ExecutionException {
+        for (int i = 0; i < tasks.size(); i++) {
+            completion.take();
+            for (final var task : tasks) {
+                if (task.isDone()) {
+                    task.get();
+                }
+            }
+        }
+    }
+
+    private Object resultOf(final MediaStoreTask aTask) throws InterruptedException, ExecutionException {
+        return aTask != null ? aTask.get() : null;
     }
 
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
+    private boolean cancelAll(final List<MediaStoreTask> tasks) {
+        tasks.forEach(MediaStoreTask::cancelRunning);
+
+        var interrupted = false;
+        for (final var task : tasks) {
+            interrupted |= task.awaitStopped();
+        }
+        return interrupted;
     }
 
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
+    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
     }
 
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds) {
-        final var notification = Notification.create();
+    private static class MediaStoreTask extends FutureTask<Object> {
 
-        if (ids == null || ids.isEmpty()) {
-            return notification;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private MediaStoreTask(final Callable<Object> aCallable) {
+            super(aCallable);
         }
 
-        final var retrievedIds = existsByIds.apply(ids);
-        if (ids.size() != retrievedIds.size()) {
-            final var commandIds = new ArrayList<>(ids);
-            commandIds.removeAll(retrievedIds);
+        @Override
+        public void run() {
+            this.started.set(true);
+            try {
+                super.run();
+            } finally {
+                this.stopped.countDown();
+            }
+        }
 
-            final var missingIds = commandIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
+        private void cancelRunning() {
+            cancel(true);
+        }
 
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
+        private boolean awaitStopped() {
+            if (!this.started.get()) {
+                return false;
+            }
+
+            try {
+                this.stopped.await();
+                return false;
+            } catch (final InterruptedException e) {
+                return true;
+            }
         }
 
-        return notification;
     }
 
 }
@@ -0,0 +1,120 @@
+package com.github.allisson95.codeflix.application.video.create;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.allisson95.codeflix.application.video.VideoReferences;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+import com.github.allisson95.codeflix.domain.video.Rating;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+
+import io.vavr.control.Either;
+
+public class DefaultImportVideosUseCase extends ImportVideosUseCase {
+
+    private final VideoGateway videoGateway;
+    private final VideoReferences references;
+
+    public DefaultImportVideosUseCase(
+            final VideoGateway videoGateway,
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final Executor referenceLookupExecutor) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.references = new VideoReferences(categoryGateway, castMemberGateway, genreGateway, referenceLookupExecutor);
+    }
+
+    @Override
+    public List<Either<Notification, CreateVideoOutput>> execute(final List<CreateVideoCommand> aCommands) {
+        final var existing = this.references.existing(
+                referenced(aCommands, CreateVideoCommand::categories, CategoryID::from),
+                referenced(aCommands, CreateVideoCommand::castMembers, CastMemberID::from),
+                referenced(aCommands, CreateVideoCommand::genres, GenreID::from));
+
+        final var results = new ArrayList<Either<Notification, CreateVideoOutput>>(aCommands.size());
+        final var newVideos = new ArrayList<Video>(aCommands.size());
+
+        for (final var aCommand : aCommands) {
+            final var categories = toIdentifier(aCommand.categories(), CategoryID::from);
+            final var castMembers = toIdentifier(aCommand.castMembers(), CastMemberID::from);
+            final var genres = toIdentifier(aCommand.genres(), GenreID::from);
+
+            final var notification = Notification.create();
+
+            VideoReferences.appendMissing(notification, existing, categories, castMembers, genres);
+
+            if (aCommand.duration() == null) {
+                notification.append(new Error("'duration' should not be null"));
+                results.add(Left(notification));
+                continue;
+            }
+
+            final var aVideo = Video.newVideo(
+                    aCommand.title(),
+                    aCommand.description(),
+                    aCommand.getLaunchedAt().map(Year::of).orElse(null),
+                    aCommand.duration(),
+                    Rating.of(aCommand.rating()).orElse(null),
+                    Boolean.TRUE.equals(aCommand.opened()),
+                    Boolean.TRUE.equals(aCommand.published()),
+                    categories,
+                    genres,
+                    castMembers);
+
+            aVideo.validate(notification);
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else {
+                newVideos.add(aVideo);
+                results.add(Right(CreateVideoOutput.from(aVideo)));
+            }
+        }
+
+        if (!newVideos.isEmpty()) {
+            Try(() -> this.videoGateway.createAll(newVideos))
+                    .onFailure(t -> results.replaceAll(it -> it.isRight() ? Left(Notification.create(t)) : it));
+        }
+
+        return results;
+    }
+
+    private <T> Set<T> referenced(
+            final List<CreateVideoCommand> aCommands,
+            final Function<CreateVideoCommand, Set<String>> aReference,
+            final Function<String, T> anIdentifier) {
+        return aCommands.stream()
+                .flatMap(it -> toIdentifier(aReference.apply(it), anIdentifier).stream())
+                .collect(Collectors.toSet());
+    }
+
+    private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        if (ids == null) {
+            return Set.of();
+        }
+
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -21,8 +21,10 @@ public class DefaultDeleteVideoUseCase extends DeleteVideoUseCase {
     @Override
     public void execute(final String anId) {
         final var videoId = VideoID.from(anId);
-        this.videoGateway.deleteById(videoId);
-        this.mediaResourceGateway.clearResources(videoId);
+        // a repeated delete would enqueue the same folder again
+        if (this.videoGateway.deleteById(videoId)) {
+            this.mediaResourceGateway.scheduleClearResources(videoId);
+        }
     }
 
 }
@@ -0,0 +1,51 @@
+package com.github.allisson95.codeflix.application.video.media.get;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+public class DefaultGetMediaVersionUseCase extends GetMediaVersionUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetMediaVersionUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public MediaVersionOutput execute(final GetMediaCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.mediaType())
+                .orElseThrow(typeNotFound(aCommand.mediaType()));
+
+        // One query answers both: a missing row means no video, a missing checksum means no media of that type
+        final var aVersion = this.videoGateway.findMediaVersion(anId, aType)
+                .orElseThrow(videoNotFound(anId));
+
+        final var checksum = aVersion.mediaChecksum()
+                .orElseThrow(notFound(anId, aType));
+
+        return MediaVersionOutput.with(checksum, aVersion.updatedAt());
+    }
+
+    private Supplier<? extends NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException
+                .with(new Error("Media type %s doesn't exists".formatted(aType)));
+    }
+
+    private Supplier<? extends NotFoundException> videoNotFound(final VideoID anId) {
+        return () -> NotFoundException.with(Video.class, anId);
+    }
+
+    private Supplier<? extends NotFoundException> notFound(final VideoID anId, final VideoMediaType aType) {
+        return () -> NotFoundException
+                .with(new Error("Resource %s not found for video %s".formatted(aType.name(), anId.getValue())));
+    }
+
+}
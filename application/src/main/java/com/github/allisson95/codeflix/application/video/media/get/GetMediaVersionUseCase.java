@@ -0,0 +1,7 @@
+package com.github.allisson95.codeflix.application.video.media.get;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class GetMediaVersionUseCase extends UseCase<GetMediaCommand, MediaVersionOutput> {
+
+}
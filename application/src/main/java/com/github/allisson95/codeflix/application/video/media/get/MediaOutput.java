@@ -3,13 +3,17 @@ package com.github.allisson95.codeflix.application.video.media.get;
 import com.github.allisson95.codeflix.domain.resource.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        String checksum,
+        Resource.Source content,
+        long size,
         String contentType,
         String name) {
 
     public static MediaOutput with(final Resource aResource) {
         return new MediaOutput(
-                aResource.content(),
+                aResource.checksum(),
+                aResource.source(),
+                aResource.size(),
                 aResource.contentType(),
                 aResource.name());
     }
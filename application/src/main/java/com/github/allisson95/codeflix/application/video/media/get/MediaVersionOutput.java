@@ -0,0 +1,13 @@
+package com.github.allisson95.codeflix.application.video.media.get;
+
+import java.time.Instant;
+
+public record MediaVersionOutput(
+        String checksum,
+        Instant lastModified) {
+
+    public static MediaVersionOutput with(final String checksum, final Instant lastModified) {
+        return new MediaVersionOutput(checksum, lastModified);
+    }
+
+}
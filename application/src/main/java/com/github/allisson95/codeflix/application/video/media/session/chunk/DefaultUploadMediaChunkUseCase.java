@@ -0,0 +1,48 @@
+package com.github.allisson95.codeflix.application.video.media.session.chunk;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+
+    private final MediaUploadSessionGateway mediaUploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultUploadMediaChunkUseCase(
+            final MediaUploadSessionGateway mediaUploadSessionGateway,
+            final MediaResourceGateway mediaResourceGateway) {
+        this.mediaUploadSessionGateway = Objects.requireNonNull(mediaUploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadMediaChunkOutput execute(final UploadMediaChunkCommand aCommand) {
+        final var anId = MediaUploadSessionID.from(aCommand.sessionId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var aChunk = aCommand.content();
+
+        final var aSession = this.mediaUploadSessionGateway.findForUpdate(anId)
+                .filter(it -> it.getVideoId().equals(aVideoId))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(aCommand.mediaType()))
+                .orElseThrow(notFound(anId));
+
+        aSession.checkChunk(aCommand.part(), aCommand.offset(), aChunk.size());
+
+        // Every attempt is stored apart, so a racer that loses the versioned commit cannot overwrite the winner's bytes
+        final var aKey = this.mediaResourceGateway.storeChunk(aSession, aCommand.part(), aChunk);
+
+        return UploadMediaChunkOutput.from(this.mediaUploadSessionGateway.update(aSession.commitChunk(aChunk.size(), aKey)));
+    }
+
+    private Supplier<? extends NotFoundException> notFound(final MediaUploadSessionID anId) {
+        return () -> NotFoundException.with(MediaUploadSession.class, anId);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.allisson95.codeflix.application.video.media.session.chunk;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+
+public record UploadMediaChunkCommand(
+        String videoId,
+        String mediaType,
+        String sessionId,
+        int part,
+        long offset,
+        Resource content) {
+
+    public static UploadMediaChunkCommand with(
+            final String videoId,
+            final String mediaType,
+            final String sessionId,
+            final int part,
+            final long offset,
+            final Resource content) {
+        return new UploadMediaChunkCommand(videoId, mediaType, sessionId, part, offset, content);
+    }
+
+}
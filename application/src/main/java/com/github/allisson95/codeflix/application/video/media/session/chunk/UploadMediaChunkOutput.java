@@ -0,0 +1,17 @@
+package com.github.allisson95.codeflix.application.video.media.session.chunk;
+
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+
+public record UploadMediaChunkOutput(
+        String id,
+        long committedOffset,
+        int chunks) {
+
+    public static UploadMediaChunkOutput from(final MediaUploadSession aSession) {
+        return new UploadMediaChunkOutput(
+                aSession.getId().getValue(),
+                aSession.getCommittedOffset(),
+                aSession.getChunks());
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.github.allisson95.codeflix.application.video.media.session.chunk;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class UploadMediaChunkUseCase extends UseCase<UploadMediaChunkCommand, UploadMediaChunkOutput> {
+
+}
@@ -0,0 +1,15 @@
+package com.github.allisson95.codeflix.application.video.media.session.complete;
+
+public record CompleteMediaUploadSessionCommand(
+        String videoId,
+        String mediaType,
+        String sessionId) {
+
+    public static CompleteMediaUploadSessionCommand with(
+            final String videoId,
+            final String mediaType,
+            final String sessionId) {
+        return new CompleteMediaUploadSessionCommand(videoId, mediaType, sessionId);
+    }
+
+}
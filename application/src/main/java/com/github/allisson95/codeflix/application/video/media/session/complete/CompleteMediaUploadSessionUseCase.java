@@ -0,0 +1,9 @@
+package com.github.allisson95.codeflix.application.video.media.session.complete;
+
+import com.github.allisson95.codeflix.application.UseCase;
+import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteMediaUploadSessionUseCase
+        extends UseCase<CompleteMediaUploadSessionCommand, UploadMediaOutput> {
+
+}
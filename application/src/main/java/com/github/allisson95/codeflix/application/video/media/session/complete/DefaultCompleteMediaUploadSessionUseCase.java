@@ -0,0 +1,93 @@
+package com.github.allisson95.codeflix.application.video.media.session.complete;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaOutput;
+import com.github.allisson95.codeflix.domain.AggregateRoot;
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.domain.video.VideoResource;
+
+public class DefaultCompleteMediaUploadSessionUseCase extends CompleteMediaUploadSessionUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaUploadSessionGateway mediaUploadSessionGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultCompleteMediaUploadSessionUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadSessionGateway mediaUploadSessionGateway,
+            final MediaResourceGateway mediaResourceGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadSessionGateway = Objects.requireNonNull(mediaUploadSessionGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteMediaUploadSessionCommand aCommand) {
+        final var anId = MediaUploadSessionID.from(aCommand.sessionId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+
+        final var aSession = this.mediaUploadSessionGateway.findForUpdate(anId)
+                .filter(it -> it.getVideoId().equals(aVideoId))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(aCommand.mediaType()))
+                .orElseThrow(notFound(MediaUploadSession.class, anId));
+
+        final var aVideo = this.videoGateway.findForUpdate(aVideoId)
+                .orElseThrow(notFound(Video.class, aVideoId));
+
+        // The versioned write claims the session, so a concurrent completion fails here before assembling anything
+        final var aClaim = this.mediaUploadSessionGateway.update(aSession.complete());
+
+        final UploadMediaOutput output;
+        try {
+            output = store(aVideo, aClaim);
+        } catch (final RuntimeException e) {
+            reopen(aClaim, e);
+            throw e;
+        }
+
+        this.mediaResourceGateway.clearChunks(aClaim);
+
+        return output;
+    }
+
+    private UploadMediaOutput store(final Video aVideo, final MediaUploadSession aSession) {
+        final var aType = aSession.getMediaType();
+        final var aResource = VideoResource.with(this.mediaResourceGateway.assembleChunks(aSession), aType);
+        final var aMedia = this.mediaResourceGateway.storeVideo(aVideo.getId(), aResource);
+
+        if (aType == VideoMediaType.TRAILER) {
+            aVideo.updateTrailerMedia(aMedia);
+        } else {
+            aVideo.updateVideoMedia(aMedia);
+        }
+
+        return UploadMediaOutput.with(this.videoGateway.update(aVideo), aType);
+    }
+
+    private void reopen(final MediaUploadSession aSession, final RuntimeException aCause) {
+        try {
+            this.mediaUploadSessionGateway.update(aSession.reopen());
+        } catch (final RuntimeException e) {
+            aCause.addSuppressed(e);
+        }
+    }
+
+    private Supplier<? extends DomainException> notFound(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier anId) {
+        return () -> NotFoundException.with(anAggregate, anId);
+    }
+
+}
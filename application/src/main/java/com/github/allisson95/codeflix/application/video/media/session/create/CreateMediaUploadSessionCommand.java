@@ -0,0 +1,19 @@
+package com.github.allisson95.codeflix.application.video.media.session.create;
+
+public record CreateMediaUploadSessionCommand(
+        String videoId,
+        String mediaType,
+        String name,
+        String contentType,
+        long size) {
+
+    public static CreateMediaUploadSessionCommand with(
+            final String videoId,
+            final String mediaType,
+            final String name,
+            final String contentType,
+            final long size) {
+        return new CreateMediaUploadSessionCommand(videoId, mediaType, name, contentType, size);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.github.allisson95.codeflix.application.video.media.session.create;
+
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+
+public record CreateMediaUploadSessionOutput(String id) {
+
+    public static CreateMediaUploadSessionOutput from(final MediaUploadSession aSession) {
+        return new CreateMediaUploadSessionOutput(aSession.getId().getValue());
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.github.allisson95.codeflix.application.video.media.session.create;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class CreateMediaUploadSessionUseCase
+        extends UseCase<CreateMediaUploadSessionCommand, CreateMediaUploadSessionOutput> {
+
+}
@@ -0,0 +1,57 @@
+package com.github.allisson95.codeflix.application.video.media.session.create;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+public class DefaultCreateMediaUploadSessionUseCase extends CreateMediaUploadSessionUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    public DefaultCreateMediaUploadSessionUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadSessionGateway mediaUploadSessionGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadSessionGateway = Objects.requireNonNull(mediaUploadSessionGateway);
+    }
+
+    @Override
+    public CreateMediaUploadSessionOutput execute(final CreateMediaUploadSessionCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.mediaType())
+                .orElseThrow(invalidType(aCommand.mediaType()));
+
+        this.videoGateway.findById(anId)
+                .orElseThrow(notFound(anId));
+
+        final var aSession = MediaUploadSession.newSession(
+                anId,
+                aType,
+                aCommand.name(),
+                aCommand.contentType(),
+                aCommand.size());
+
+        return CreateMediaUploadSessionOutput.from(this.mediaUploadSessionGateway.create(aSession));
+    }
+
+    private Supplier<? extends DomainException> invalidType(final String aType) {
+        return () -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(aType)));
+    }
+
+    private Supplier<? extends DomainException> notFound(final Identifier anId) {
+        return () -> NotFoundException.with(Video.class, anId);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.allisson95.codeflix.application.video.media.session.get;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+
+public class DefaultGetMediaUploadSessionUseCase extends GetMediaUploadSessionUseCase {
+
+    private final MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    public DefaultGetMediaUploadSessionUseCase(final MediaUploadSessionGateway mediaUploadSessionGateway) {
+        this.mediaUploadSessionGateway = Objects.requireNonNull(mediaUploadSessionGateway);
+    }
+
+    @Override
+    public MediaUploadSessionOutput execute(final GetMediaUploadSessionCommand aCommand) {
+        final var anId = MediaUploadSessionID.from(aCommand.sessionId());
+        final var aVideoId = VideoID.from(aCommand.videoId());
+
+        return this.mediaUploadSessionGateway.findById(anId)
+                .filter(it -> it.getVideoId().equals(aVideoId))
+                .filter(it -> it.getMediaType().name().equalsIgnoreCase(aCommand.mediaType()))
+                .map(MediaUploadSessionOutput::from)
+                .orElseThrow(notFound(anId));
+    }
+
+    private Supplier<? extends NotFoundException> notFound(final MediaUploadSessionID anId) {
+        return () -> NotFoundException.with(MediaUploadSession.class, anId);
+    }
+
+}
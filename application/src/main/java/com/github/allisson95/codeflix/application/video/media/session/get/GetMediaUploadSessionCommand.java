@@ -0,0 +1,15 @@
+package com.github.allisson95.codeflix.application.video.media.session.get;
+
+public record GetMediaUploadSessionCommand(
+        String videoId,
+        String mediaType,
+        String sessionId) {
+
+    public static GetMediaUploadSessionCommand with(
+            final String videoId,
+            final String mediaType,
+            final String sessionId) {
+        return new GetMediaUploadSessionCommand(videoId, mediaType, sessionId);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.github.allisson95.codeflix.application.video.media.session.get;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class GetMediaUploadSessionUseCase
+        extends UseCase<GetMediaUploadSessionCommand, MediaUploadSessionOutput> {
+
+}
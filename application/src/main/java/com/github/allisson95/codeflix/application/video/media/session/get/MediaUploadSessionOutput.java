@@ -0,0 +1,37 @@
+package com.github.allisson95.codeflix.application.video.media.session.get;
+
+import java.time.Instant;
+
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+public record MediaUploadSessionOutput(
+        String id,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        String contentType,
+        long size,
+        long committedOffset,
+        int chunks,
+        MediaUploadStatus status,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    public static MediaUploadSessionOutput from(final MediaUploadSession aSession) {
+        return new MediaUploadSessionOutput(
+                aSession.getId().getValue(),
+                aSession.getVideoId().getValue(),
+                aSession.getMediaType(),
+                aSession.getName(),
+                aSession.getContentType(),
+                aSession.getSize(),
+                aSession.getCommittedOffset(),
+                aSession.getChunks(),
+                aSession.getStatus(),
+                aSession.getCreatedAt(),
+                aSession.getUpdatedAt());
+    }
+
+}
@@ -30,7 +30,7 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
         final var folder = aCommand.folder();
         final var filename = aCommand.filename();
 
-        final var aVideo = this.videoGateway.findById(anId)
+        final var aVideo = this.videoGateway.findForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
         final var encodedPath = "%s/%s".formatted(folder, filename);
@@ -1,15 +1,19 @@
 package com.github.allisson95.codeflix.application.video.media.upload;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import com.github.allisson95.codeflix.domain.Identifier;
 import com.github.allisson95.codeflix.domain.exceptions.DomainException;
 import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
 import com.github.allisson95.codeflix.domain.video.Video;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
 import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
+import com.github.allisson95.codeflix.domain.video.VideoResource;
 
 public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
 
@@ -26,9 +30,13 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
         final var anId = VideoID.from(aCommand.videoId());
         final var aResource = aCommand.videoResource();
 
-        final var aVideo = this.videoGateway.findById(anId)
+        final var aVideo = this.videoGateway.findForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
+        if (isCurrentMedia(aVideo, aResource)) {
+            return UploadMediaOutput.with(aVideo, aResource.getType());
+        }
+
         switch (aResource.getType()) {
             case BANNER:
                 aVideo.updateBannerMedia(this.mediaResourceGateway.storeImage(anId, aResource));
@@ -53,6 +61,21 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
         return UploadMediaOutput.with(this.videoGateway.update(aVideo), aResource.getType());
     }
 
+    private boolean isCurrentMedia(final Video aVideo, final VideoResource aResource) {
+        final Optional<String> currentChecksum = switch (aResource.getType()) {
+            case BANNER -> aVideo.getBanner().map(ImageMedia::checksum);
+            case THUMBNAIL -> aVideo.getThumbnail().map(ImageMedia::checksum);
+            case THUMBNAIL_HALF -> aVideo.getThumbnailHalf().map(ImageMedia::checksum);
+            case TRAILER -> aVideo.getTrailer().map(VideoMedia::checksum);
+            case VIDEO -> aVideo.getVideo().map(VideoMedia::checksum);
+        };
+
+        return currentChecksum
+                .filter(aResource.getResource().checksum()::equals)
+                .isPresent()
+                && this.mediaResourceGateway.contains(aVideo.getId(), aResource);
+    }
+
     private Supplier<? extends DomainException> notFound(final Identifier anId) {
         return () -> NotFoundException.with(Video.class, anId);
     }
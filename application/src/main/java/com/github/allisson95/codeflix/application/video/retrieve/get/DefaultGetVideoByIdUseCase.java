@@ -21,7 +21,7 @@ public class DefaultGetVideoByIdUseCase extends GetVideoByIdUseCase {
     public VideoOutput execute(final String anId) {
         final var videoId = VideoID.from(anId);
         return this.videoGateway
-                .findById(videoId)
+                .findDetailsById(videoId)
                 .map(VideoOutput::from)
                 .orElseThrow(notFound(videoId));
     }
@@ -0,0 +1,9 @@
+package com.github.allisson95.codeflix.application.video.retrieve.get;
+
+import java.time.Instant;
+
+import com.github.allisson95.codeflix.application.UseCase;
+
+public abstract class GetVideoLastModifiedUseCase extends UseCase<String, Instant> {
+
+}
@@ -3,11 +3,10 @@ package com.github.allisson95.codeflix.application.video.retrieve.get;
 import java.time.Instant;
 import java.util.Set;
 
-import com.github.allisson95.codeflix.domain.Identifier;
-import com.github.allisson95.codeflix.domain.utils.CollectionUtils;
 import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.Rating;
 import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoDetails;
 import com.github.allisson95.codeflix.domain.video.VideoMedia;
 
 public record VideoOutput(
@@ -31,25 +30,29 @@ public record VideoOutput(
         Set<String> castMembers) {
 
     public static VideoOutput from(final Video aVideo) {
+        return from(new VideoDetails(aVideo));
+    }
+
+    public static VideoOutput from(final VideoDetails aVideo) {
         return new VideoOutput(
-                aVideo.getId().getValue(),
-                aVideo.getTitle(),
-                aVideo.getDescription(),
-                aVideo.getLaunchedAt().getValue(),
-                aVideo.getDuration(),
-                aVideo.getRating(),
-                aVideo.isOpened(),
-                aVideo.isPublished(),
-                aVideo.getCreatedAt(),
-                aVideo.getUpdatedAt(),
-                aVideo.getBanner().orElse(null),
-                aVideo.getThumbnail().orElse(null),
-                aVideo.getThumbnailHalf().orElse(null),
-                aVideo.getTrailer().orElse(null),
-                aVideo.getVideo().orElse(null),
-                CollectionUtils.mapTo(aVideo.getCategories(), Identifier::getValue),
-                CollectionUtils.mapTo(aVideo.getGenres(), Identifier::getValue),
-                CollectionUtils.mapTo(aVideo.getCastMembers(), Identifier::getValue));
+                aVideo.id(),
+                aVideo.title(),
+                aVideo.description(),
+                aVideo.launchedAt(),
+                aVideo.duration(),
+                aVideo.rating(),
+                aVideo.opened(),
+                aVideo.published(),
+                aVideo.createdAt(),
+                aVideo.updatedAt(),
+                aVideo.banner(),
+                aVideo.thumbnail(),
+                aVideo.thumbnailHalf(),
+                aVideo.trailer(),
+                aVideo.video(),
+                aVideo.categories(),
+                aVideo.genres(),
+                aVideo.castMembers());
     }
 
 }
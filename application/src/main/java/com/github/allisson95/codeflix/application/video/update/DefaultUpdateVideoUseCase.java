@@ -1,14 +1,14 @@
 package com.github.allisson95.codeflix.application.video.update;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.github.allisson95.codeflix.application.video.VideoReferences;
 import com.github.allisson95.codeflix.domain.Identifier;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
@@ -20,9 +20,6 @@ import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
 import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
 import com.github.allisson95.codeflix.domain.genre.GenreGateway;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
-import com.github.allisson95.codeflix.domain.validation.Error;
-import com.github.allisson95.codeflix.domain.validation.ValidationHandler;
-import com.github.allisson95.codeflix.domain.validation.handler.Notification;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
 import com.github.allisson95.codeflix.domain.video.Rating;
 import com.github.allisson95.codeflix.domain.video.Video;
@@ -35,21 +32,18 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
     private final VideoGateway videoGateway;
     private final MediaResourceGateway mediaResourceGateway;
-    private final CategoryGateway categoryGateway;
-    private final CastMemberGateway castMemberGateway;
-    private final GenreGateway genreGateway;
+    private final VideoReferences references;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final MediaResourceGateway mediaResourceGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
-            final GenreGateway genreGateway) {
+            final GenreGateway genreGateway,
+            final Executor referenceLookupExecutor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.references = new VideoReferences(categoryGateway, castMemberGateway, genreGateway, referenceLookupExecutor);
     }
 
     @Override
@@ -62,14 +56,10 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var castMembers = toIdentifier(aCommand.castMembers(), CastMemberID::from);
         final var genres = toIdentifier(aCommand.genres(), GenreID::from);
 
-        final var aVideo = this.videoGateway.findById(anId)
+        final var aVideo = this.videoGateway.findForUpdate(anId)
                 .orElseThrow(notFound(anId));
 
-        final var notification = Notification.create();
-
-        notification.append(validateCategories(categories));
-        notification.append(validateCastMembers(castMembers));
-        notification.append(validateGenres(genres));
+        final var notification = this.references.validate(categories, castMembers, genres);
 
         aVideo.update(
                 aCommand.title(),
@@ -141,41 +131,4 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
                 .collect(Collectors.toSet());
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateCastMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds) {
-        final var notification = Notification.create();
-
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-        if (ids.size() != retrievedIds.size()) {
-            final var commandIds = new ArrayList<>(ids);
-            commandIds.removeAll(retrievedIds);
-
-            final var missingIds = commandIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
-        }
-
-        return notification;
-    }
-
 }
@@ -0,0 +1,63 @@
+package com.github.allisson95.codeflix.application.castmember.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+
+class GetCastMemberLastModifiedUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @InjectMocks
+    private DefaultGetCastMemberLastModifiedUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    void Given_AValidId_When_CallsGetCastMemberLastModified_Should_ReturnUpdatedAt() {
+        final var expectedId = CastMemberID.unique();
+        final var expectedLastModified = InstantUtils.now();
+
+        when(castMemberGateway.findLastModifiedById(expectedId)).thenReturn(Optional.of(expectedLastModified));
+
+        final var actualLastModified = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedLastModified, actualLastModified);
+
+        verify(castMemberGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+    @Test
+    void Given_AInvalidId_When_CallsGetCastMemberLastModified_Should_ReturnNotFound() {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedErrorMessage = "CastMember with id 123 was not found";
+
+        when(castMemberGateway.findLastModifiedById(expectedId)).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, exception.getMessage());
+
+        verify(castMemberGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+}
@@ -53,7 +53,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedName,
                 expectedType);
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findForUpdate(expectedId))
                 .thenReturn(Optional.of(CastMember.with(aMember)));
 
         when(castMemberGateway.update(any()))
@@ -64,7 +64,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
 
         verify(castMemberGateway).update(argThat(aUpdatedMember -> Objects.equals(expectedId, aUpdatedMember.getId())
                 && Objects.equals(expectedName, aUpdatedMember.getName())
@@ -88,7 +88,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedName,
                 expectedType);
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findForUpdate(expectedId))
                 .thenReturn(Optional.of(aMember));
 
         final var actualException = assertThrows(
@@ -99,7 +99,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -118,7 +118,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedName,
                 expectedType);
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findForUpdate(expectedId))
                 .thenReturn(Optional.of(aMember));
 
         final var actualException = assertThrows(
@@ -129,7 +129,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -145,7 +145,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
                 expectedName,
                 expectedType);
 
-        when(castMemberGateway.findById(expectedId))
+        when(castMemberGateway.findForUpdate(expectedId))
                 .thenReturn(Optional.empty());
 
         final var actualException = assertThrows(
@@ -155,7 +155,7 @@ class UpdateCastMemberUseCaseTest extends UseCaseTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -0,0 +1,79 @@
+package com.github.allisson95.codeflix.application.category.create;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+
+class ImportCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void Given_ValidAndInvalidCommands_When_CallsImportCategories_Then_CreateTheValidOnesInOneCall() {
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, false));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var results = useCase.execute(aCommands);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isRight());
+        assertEquals("'name' should not be null", results.get(1).getLeft().firstError().message());
+        assertTrue(results.get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2
+                && Objects.equals(results.get(0).get().id(), categories.get(0).getId().getValue())
+                && Objects.equals("Filmes", categories.get(0).getName())
+                && Objects.equals(results.get(2).get().id(), categories.get(1).getId().getValue())
+                && !categories.get(1).isActive()));
+    }
+
+    @Test
+    void Given_OnlyInvalidCommands_When_CallsImportCategories_Then_NotCallTheGateway() {
+        final var results = useCase.execute(List.of(CreateCategoryCommand.with(" ", null, true)));
+
+        assertEquals("'name' should not be empty", results.get(0).getLeft().firstError().message());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    void Given_AGatewayError_When_CallsImportCategories_Then_FailTheValidCommands() {
+        final var expectedErrorMessage = "Gateway error";
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var results = useCase.execute(List.of(CreateCategoryCommand.with("Filmes", null, true)));
+
+        assertEquals(expectedErrorMessage, results.get(0).getLeft().firstError().message());
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.allisson95.codeflix.application.category.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+
+class GetCategoryLastModifiedUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultGetCategoryLastModifiedUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    void Given_AValidId_When_CallsGetCategoryLastModified_Should_ReturnUpdatedAt() {
+        final var expectedId = CategoryID.unique();
+        final var expectedLastModified = InstantUtils.now();
+
+        when(categoryGateway.findLastModifiedById(expectedId)).thenReturn(Optional.of(expectedLastModified));
+
+        final var actualLastModified = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedLastModified, actualLastModified);
+
+        verify(categoryGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+    @Test
+    void Given_AInvalidId_When_CallsGetCategoryLastModified_Should_ReturnNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with id 123 was not found";
+
+        when(categoryGateway.findLastModifiedById(expectedId)).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, exception.getMessage());
+
+        verify(categoryGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+}
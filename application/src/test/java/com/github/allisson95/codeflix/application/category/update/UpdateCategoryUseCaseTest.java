@@ -54,7 +54,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedDescription,
                 expectedIsActive);
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.findForUpdate(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         final var updatedCategory = useCase.execute(aCommand).get();
@@ -62,7 +62,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         assertNotNull(updatedCategory);
         assertNotNull(updatedCategory.id());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findForUpdate(expectedId);
 
         verify(categoryGateway, times(1))
                 .update(argThat(
@@ -92,14 +92,14 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedDescription,
                 expectedIsActive);
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.findForUpdate(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
 
         final var notification = useCase.execute(aCommand).getLeft();
 
         assertEquals(expectedErrorCount, notification.getErrors().size());
         assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findForUpdate(expectedId);
 
         verify(categoryGateway, times(0)).update(any());
     }
@@ -119,7 +119,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedDescription,
                 expectedIsActive);
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.findForUpdate(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
         assertTrue(aCategory.isActive());
@@ -130,7 +130,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         assertNotNull(updatedCategory);
         assertNotNull(updatedCategory.id());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findForUpdate(expectedId);
 
         verify(categoryGateway, times(1))
                 .update(argThat(
@@ -160,7 +160,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedDescription,
                 expectedIsActive);
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.findForUpdate(expectedId)).thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var notification = useCase.execute(aCommand).getLeft();
@@ -168,7 +168,7 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, notification.getErrors().size());
         assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findForUpdate(expectedId);
 
         verify(categoryGateway, times(1))
                 .update(argThat(
@@ -195,13 +195,13 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                 expectedDescription,
                 expectedIsActive);
 
-        when(categoryGateway.findById(CategoryID.from(expectedId))).thenReturn(Optional.empty());
+        when(categoryGateway.findForUpdate(CategoryID.from(expectedId))).thenReturn(Optional.empty());
 
         final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
 
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(categoryGateway, times(1)).findById(CategoryID.from(expectedId));
+        verify(categoryGateway, times(1)).findForUpdate(CategoryID.from(expectedId));
 
         verify(categoryGateway, times(0)).update(any());
     }
@@ -0,0 +1,91 @@
+package com.github.allisson95.codeflix.application.genre.create;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+
+class ImportGenresUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DefaultImportGenresUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(genreGateway, categoryGateway);
+    }
+
+    @Test
+    void Given_ValidAndInvalidCommands_When_CallsImportGenres_Then_ResolveCategoriesOnceAndCreateOnlyTheValidOnes() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var missing = CategoryID.from("789");
+
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, asString(List.of(filmes))),
+                CreateGenreCommand.with(" ", true, List.of()),
+                CreateGenreCommand.with("Drama", true, asString(List.of(series, missing))),
+                CreateGenreCommand.with("Terror", false, asString(List.of(filmes, series))));
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var results = useCase.execute(aCommands);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isRight());
+        assertEquals("'name' should not be empty", results.get(1).getLeft().firstError().message());
+        assertEquals("Some categories could not be found: 789", results.get(2).getLeft().firstError().message());
+        assertTrue(results.get(3).isRight());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> Set.of(filmes, series, missing).equals(ids)));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2
+                && Objects.equals(results.get(0).get().id(), genres.get(0).getId().getValue())
+                && Objects.equals(List.of(filmes), genres.get(0).getCategories())
+                && Objects.equals(results.get(3).get().id(), genres.get(1).getId().getValue())
+                && !genres.get(1).isActive()));
+    }
+
+    @Test
+    void Given_AGatewayError_When_CallsImportGenres_Then_FailOnlyTheValidCommands() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with(null, true, List.of()));
+
+        when(genreGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var results = useCase.execute(aCommands);
+
+        assertEquals(expectedErrorMessage, results.get(0).getLeft().firstError().message());
+        assertEquals("'name' should not be null", results.get(1).getLeft().firstError().message());
+
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.allisson95.codeflix.application.genre.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+
+class GetGenreLastModifiedUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @InjectMocks
+    private DefaultGetGenreLastModifiedUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    void Given_AValidId_When_CallsGetGenreLastModified_Should_ReturnUpdatedAt() {
+        final var expectedId = GenreID.unique();
+        final var expectedLastModified = InstantUtils.now();
+
+        when(genreGateway.findLastModifiedById(expectedId)).thenReturn(Optional.of(expectedLastModified));
+
+        final var actualLastModified = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedLastModified, actualLastModified);
+
+        verify(genreGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+    @Test
+    void Given_AInvalidId_When_CallsGetGenreLastModified_Should_ReturnNotFound() {
+        final var expectedId = GenreID.from("123");
+        final var expectedErrorMessage = "Genre with id 123 was not found";
+
+        when(genreGateway.findLastModifiedById(expectedId)).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, exception.getMessage());
+
+        verify(genreGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+}
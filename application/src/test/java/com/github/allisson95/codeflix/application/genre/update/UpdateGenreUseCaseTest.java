@@ -53,7 +53,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(genreGateway.findForUpdate(any())).thenReturn(Optional.of(Genre.with(aGenre)));
         when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
 
         final var actualOutput = useCase.execute(aCommand);
@@ -61,7 +61,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(genreGateway, times(1)).update(argThat(aUpdatedGenre -> 
             Objects.equals(expectedId, aUpdatedGenre.getId())
                 && Objects.equals(expectedName, aUpdatedGenre.getName())
@@ -88,7 +88,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(genreGateway.findForUpdate(any())).thenReturn(Optional.of(Genre.with(aGenre)));
         when(categoryGateway.existsByIds(any())).thenReturn(List.copyOf(expectedCategories));
         when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -97,7 +97,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, times(1)).existsByIds(expectedCategories);
         verify(genreGateway, times(1)).update(argThat(aUpdatedGenre -> 
             Objects.equals(expectedId, aUpdatedGenre.getId())
@@ -124,7 +124,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(genreGateway.findForUpdate(any())).thenReturn(Optional.of(Genre.with(aGenre)));
 
         final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
 
@@ -132,7 +132,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -151,7 +151,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(genreGateway.findForUpdate(any())).thenReturn(Optional.of(Genre.with(aGenre)));
 
         final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
 
@@ -159,7 +159,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -187,7 +187,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
 
         final var aCommand = UpdateGenreCommand.with(expectedId.getValue(), expectedName, expectedIsActive, asString(expectedCategories));
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(genreGateway.findForUpdate(any())).thenReturn(Optional.of(Genre.with(aGenre)));
         when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
 
         final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
@@ -197,7 +197,7 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorMessageOne, actualException.getErrors().get(0).message());
         assertEquals(expectedErrorMessageTwo, actualException.getErrors().get(1).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, times(1)).existsByIds(expectedCategories);
         verify(genreGateway, never()).update(any());
     }
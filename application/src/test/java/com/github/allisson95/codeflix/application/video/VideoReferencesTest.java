@@ -0,0 +1,118 @@
+package com.github.allisson95.codeflix.application.video;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+
+class VideoReferencesTest extends UseCaseTest {
+
+    private VideoReferences references;
+
+    private ExecutorService lookupExecutor;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.lookupExecutor = Executors.newFixedThreadPool(2);
+        this.references = new VideoReferences(categoryGateway, castMemberGateway, genreGateway, lookupExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.lookupExecutor.shutdownNow();
+    }
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(categoryGateway, castMemberGateway, genreGateway);
+    }
+
+    @Test
+    void Given_MissingReferencesOfEveryKind_When_TheFirstLookupIsTheSlowest_Should_AppendErrorsInAFixedOrder() {
+        final var categoryId = Fixture.Categories.random().getId();
+        final var castMemberId = Fixture.CastMembers.clintEastwood().getId();
+        final var genreId = Fixture.Genres.random().getId();
+
+        when(categoryGateway.existsByIds(any())).thenAnswer(it -> {
+            Thread.sleep(100);
+            return List.of();
+        });
+        when(castMemberGateway.existsByIds(any())).thenReturn(List.of());
+        when(genreGateway.existsByIds(any())).thenReturn(List.of());
+
+        final var actualNotification = references.validate(
+                Set.<CategoryID>of(categoryId),
+                Set.<CastMemberID>of(castMemberId),
+                Set.<GenreID>of(genreId));
+
+        assertEquals(3, actualNotification.getErrors().size());
+        assertEquals("Some categories could not be found: %s".formatted(categoryId.getValue()),
+                actualNotification.getErrors().get(0).message());
+        assertEquals("Some cast members could not be found: %s".formatted(castMemberId.getValue()),
+                actualNotification.getErrors().get(1).message());
+        assertEquals("Some genres could not be found: %s".formatted(genreId.getValue()),
+                actualNotification.getErrors().get(2).message());
+    }
+
+    @Test
+    void Given_EmptyReferences_When_CallsValidate_Should_NotLookUpThem() {
+        final var categoryId = Fixture.Categories.random().getId();
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(categoryId));
+
+        final var actualNotification = references.validate(Set.<CategoryID>of(categoryId), Set.of(), null);
+
+        assertFalse(actualNotification.hasError());
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(0)).existsByIds(any());
+        verify(genreGateway, times(0)).existsByIds(any());
+    }
+
+    @Test
+    void Given_AFailingLookupOnTheExecutor_When_CallsValidate_Should_ThrowTheGatewayException() {
+        final var expectedException = new IllegalStateException("Gateway error");
+
+        when(categoryGateway.existsByIds(any())).thenThrow(expectedException);
+        when(genreGateway.existsByIds(any())).thenReturn(List.of());
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> references.validate(
+                Set.<CategoryID>of(Fixture.Categories.random().getId()),
+                Set.of(),
+                Set.<GenreID>of(Fixture.Genres.random().getId())));
+
+        assertSame(expectedException, actualException);
+    }
+
+}
@@ -16,9 +16,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.github.allisson95.codeflix.application.UseCaseTest;
@@ -41,9 +46,12 @@ import com.github.allisson95.codeflix.domain.video.VideoResource;
 
 class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
+    private ExecutorService mediaStoreExecutor;
+
+    private ExecutorService referenceLookupExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -59,6 +67,26 @@ class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.mediaStoreExecutor = Executors.newFixedThreadPool(5);
+        this.referenceLookupExecutor = Executors.newFixedThreadPool(2);
+        this.useCase = new DefaultCreateVideoUseCase(
+                videoGateway,
+                mediaResourceGateway,
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaStoreExecutor,
+                referenceLookupExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.mediaStoreExecutor.shutdownNow();
+        this.referenceLookupExecutor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocksForClean() {
         return List.of(
@@ -1057,6 +1085,88 @@ class CreateVideoUseCaseTest extends UseCaseTest {
         verify(mediaResourceGateway, times(1)).clearResources(any());
     }
 
+    @Test
+    void Given_AllMedias_When_CallsCreateVideo_Should_StoreThemConcurrentlyAndExposeTimings() {
+        final var aCommand = commandWithAllMedias();
+        final var allStarted = new CountDownLatch(5);
+
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .then(it -> {
+                    allStarted.countDown();
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+                    final var resource = it.getArgument(1, VideoResource.class).getResource();
+                    return ImageMedia.with(resource.checksum(), resource.name(), "/images");
+                });
+
+        when(mediaResourceGateway.storeVideo(any(), any()))
+                .then(it -> {
+                    allStarted.countDown();
+                    assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+                    final var resource = it.getArgument(1, VideoResource.class).getResource();
+                    return VideoMedia.with(resource.checksum(), resource.name(), "/videos");
+                });
+
+        when(videoGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertNotNull(actualOutput.id());
+        assertEquals(Set.of(VideoMediaType.values()), actualOutput.mediaTimings().keySet());
+
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(mediaResourceGateway, times(2)).storeVideo(any(), any());
+        verify(videoGateway).create(argThat(actualVideo -> actualVideo.getBanner().isPresent()
+                && actualVideo.getThumbnail().isPresent()
+                && actualVideo.getThumbnailHalf().isPresent()
+                && actualVideo.getTrailer().isPresent()
+                && actualVideo.getVideo().isPresent()));
+        verify(mediaResourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    void Given_AFailingMediaStore_When_CallsCreateVideo_Should_CancelPendingStoresAndCallClearResources() {
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+        final var aCommand = commandWithAllMedias();
+        final var releaseImages = new CountDownLatch(1);
+
+        when(mediaResourceGateway.storeImage(any(), any()))
+                .then(it -> {
+                    releaseImages.await();
+                    return null;
+                });
+
+        when(mediaResourceGateway.storeVideo(any(), any()))
+                .thenThrow(new RuntimeException("Generic Error"));
+
+        final var actualResult = assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+        assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+        assertEquals("Generic Error", actualResult.getCause().getMessage());
+
+        verify(videoGateway, times(0)).create(any());
+        verify(mediaResourceGateway, times(1)).clearResources(any());
+    }
+
+    private CreateVideoCommand commandWithAllMedias() {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.Videos.rating().getName(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.VIDEO));
+    }
+
     private void mockVideo() {
         when(mediaResourceGateway.storeVideo(any(), any()))
                 .then(it -> {
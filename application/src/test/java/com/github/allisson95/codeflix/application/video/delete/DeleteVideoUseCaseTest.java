@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 
@@ -41,32 +43,31 @@ class DeleteVideoUseCaseTest extends UseCaseTest {
     void Given_AValidId_When_CallsDeleteVideo_Should_DeleteIt() {
         final var videoId = VideoID.unique();
 
-        doNothing()
-                .when(videoGateway).deleteById(any());
+        when(videoGateway.deleteById(any()))
+                .thenReturn(true);
 
         doNothing()
-                .when(mediaResourceGateway).clearResources(any());
+                .when(mediaResourceGateway).scheduleClearResources(any());
 
         assertDoesNotThrow(() -> this.useCase.execute(videoId.getValue()));
 
         verify(videoGateway).deleteById(videoId);
-        verify(mediaResourceGateway).clearResources(videoId);
+        verify(mediaResourceGateway).scheduleClearResources(videoId);
+        verify(mediaResourceGateway, never()).clearResources(any());
     }
 
     @Test
     void Given_AInvalidId_When_CallsDeleteVideo_Should_DoNothing() {
         final var videoId = VideoID.from("invalid");
 
-        doNothing()
-                .when(videoGateway).deleteById(any());
-
-        doNothing()
-                .when(mediaResourceGateway).clearResources(any());
+        when(videoGateway.deleteById(any()))
+                .thenReturn(false);
 
         assertDoesNotThrow(() -> this.useCase.execute(videoId.getValue()));
 
         verify(videoGateway).deleteById(videoId);
-        verify(mediaResourceGateway).clearResources(videoId);
+        verify(mediaResourceGateway, never()).scheduleClearResources(any());
+        verify(mediaResourceGateway, never()).clearResources(any());
     }
 
     @Test
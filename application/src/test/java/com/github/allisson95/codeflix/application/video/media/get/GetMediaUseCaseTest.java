@@ -1,5 +1,6 @@
 package com.github.allisson95.codeflix.application.video.media.get;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -31,7 +32,7 @@ class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    void Given_VideoIdAndType_When_IsValidCommand_Should_ReturnResource() {
+    void Given_VideoIdAndType_When_IsValidCommand_Should_ReturnResource() throws Exception {
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.Videos.videoMediaType();
         final var expectedResource = Fixture.Videos.resource(expectedType);
@@ -44,7 +45,9 @@ class GetMediaUseCaseTest extends UseCaseTest {
         final var actualResult = this.useCase.execute(aCommand);
 
         assertEquals(expectedResource.name(), actualResult.name());
-        assertEquals(expectedResource.content(), actualResult.content());
+        assertEquals(expectedResource.checksum(), actualResult.checksum());
+        assertEquals(expectedResource.size(), actualResult.size());
+        assertArrayEquals(expectedResource.content(), actualResult.content().open().readAllBytes());
         assertEquals(expectedResource.contentType(), actualResult.contentType());
     }
 
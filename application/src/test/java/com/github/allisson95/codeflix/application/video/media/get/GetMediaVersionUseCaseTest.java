@@ -0,0 +1,88 @@
+package com.github.allisson95.codeflix.application.video.media.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaVersion;
+
+class GetMediaVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetMediaVersionUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    void Given_VideoIdAndType_When_MediaExists_Should_ReturnChecksumAndLastModified() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = Fixture.Videos.videoMediaType();
+        final var expectedChecksum = "abc";
+        final var expectedLastModified = InstantUtils.now();
+
+        when(videoGateway.findMediaVersion(expectedId, expectedType))
+                .thenReturn(Optional.of(new VideoMediaVersion(expectedLastModified, expectedChecksum)));
+
+        final var aCommand = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        final var actualResult = this.useCase.execute(aCommand);
+
+        assertEquals(expectedChecksum, actualResult.checksum());
+        assertEquals(expectedLastModified, actualResult.lastModified());
+    }
+
+    @Test
+    void Given_VideoIdAndType_When_VideoDoesntExists_Should_ReturnNotFoundException() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = Fixture.Videos.videoMediaType();
+        final var expectedErrorMessage = "Video with id %s was not found".formatted(expectedId.getValue());
+
+        when(videoGateway.findMediaVersion(expectedId, expectedType)).thenReturn(Optional.empty());
+
+        final var aCommand = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        final var actualException = assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void Given_VideoIdAndType_When_MediaIsNotFound_Should_ReturnNotFoundException() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = Fixture.Videos.videoMediaType();
+        final var expectedErrorMessage = "Resource %s not found for video %s".formatted(expectedType.name(), expectedId.getValue());
+
+        when(videoGateway.findMediaVersion(expectedId, expectedType))
+                .thenReturn(Optional.of(new VideoMediaVersion(InstantUtils.now(), null)));
+
+        final var aCommand = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        final var actualException = assertThrows(
+                NotFoundException.class,
+                () -> this.useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.github.allisson95.codeflix.application.video.media.session.chunk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+class UploadMediaChunkUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @InjectMocks
+    private DefaultUploadMediaChunkUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(mediaUploadSessionGateway, mediaResourceGateway);
+    }
+
+    @Test
+    void Given_TheNextChunk_When_CallsUploadChunk_Should_StoreItAndAdvanceTheOffset() {
+        final var aChunk = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 100L);
+        final var expectedKey = "part-000000-attempt";
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        when(mediaResourceGateway.storeChunk(any(), eq(0), any()))
+                .thenReturn(expectedKey);
+
+        when(mediaUploadSessionGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCommand = UploadMediaChunkCommand.with(
+                aSession.getVideoId().getValue(),
+                VideoMediaType.VIDEO.name(),
+                aSession.getId().getValue(),
+                0,
+                0,
+                aChunk);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(aSession.getId().getValue(), actualOutput.id());
+        assertEquals(aChunk.size(), actualOutput.committedOffset());
+        assertEquals(1, actualOutput.chunks());
+        assertEquals(Map.of(0, expectedKey), aSession.getChunkKeys());
+
+        verify(mediaResourceGateway, times(1)).storeChunk(aSession, 0, aChunk);
+        verify(mediaUploadSessionGateway, times(1)).update(aSession);
+    }
+
+    @Test
+    void Given_AnOutOfOrderChunk_When_CallsUploadChunk_Should_NotStoreIt() {
+        final var aChunk = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 100L);
+        final var expectedErrorMessage = "Chunk offset 50 doesn't match the committed offset 0";
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        final var aCommand = UploadMediaChunkCommand.with(
+                aSession.getVideoId().getValue(),
+                VideoMediaType.VIDEO.name(),
+                aSession.getId().getValue(),
+                0,
+                50,
+                aChunk);
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaResourceGateway, never()).storeChunk(any(), anyInt(), any());
+        verify(mediaUploadSessionGateway, never()).update(any());
+    }
+
+    @Test
+    void Given_AGatewayError_When_CallsUploadChunk_Should_NotAdvanceTheOffset() {
+        final var aChunk = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 100L);
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        doThrow(new IllegalStateException("Storage down"))
+                .when(mediaResourceGateway).storeChunk(any(), eq(0), any());
+
+        final var aCommand = UploadMediaChunkCommand.with(
+                aSession.getVideoId().getValue(),
+                VideoMediaType.VIDEO.name(),
+                aSession.getId().getValue(),
+                0,
+                0,
+                aChunk);
+
+        assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(0, aSession.getCommittedOffset());
+        verify(mediaUploadSessionGateway, never()).update(any());
+    }
+
+}
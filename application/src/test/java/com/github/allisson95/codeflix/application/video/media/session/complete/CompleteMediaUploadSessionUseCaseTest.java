@@ -0,0 +1,196 @@
+package com.github.allisson95.codeflix.application.video.media.session.complete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoMediaCreated;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.domain.video.VideoResource;
+
+class CompleteMediaUploadSessionUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @InjectMocks
+    private DefaultCompleteMediaUploadSessionUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(videoGateway, mediaUploadSessionGateway, mediaResourceGateway);
+    }
+
+    @Test
+    void Given_AFullyCommittedSession_When_CallsComplete_Should_StoreVideoAndRegisterEvent() {
+        final var aVideo = Fixture.Videos.random();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedMedia = Fixture.Videos.videoMedia(expectedType);
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), expectedType, "v.mp4", "video/mp4", 10L)
+                .commitChunk(10, "part-000000");
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        when(videoGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadSessionGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        when(mediaResourceGateway.assembleChunks(any()))
+                .thenReturn(expectedResource);
+
+        when(mediaResourceGateway.storeVideo(any(), any()))
+                .thenReturn(expectedMedia);
+
+        when(videoGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCommand = CompleteMediaUploadSessionCommand.with(
+                aVideo.getId().getValue(),
+                expectedType.name(),
+                aSession.getId().getValue());
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(aVideo.getId().getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+        assertEquals(MediaUploadStatus.COMPLETED, aSession.getStatus());
+
+        verify(mediaResourceGateway, times(1))
+                .storeVideo(aVideo.getId(), VideoResource.with(expectedResource, expectedType));
+
+        verify(videoGateway, times(1))
+                .update(argThat(actualVideo -> Objects.equals(expectedMedia, actualVideo.getVideo().get())
+                        && actualVideo.getDomainEvents().stream().anyMatch(VideoMediaCreated.class::isInstance)));
+
+        final var inOrder = inOrder(mediaUploadSessionGateway, mediaResourceGateway);
+        inOrder.verify(mediaUploadSessionGateway, times(1)).update(aSession);
+        inOrder.verify(mediaResourceGateway, times(1)).assembleChunks(aSession);
+        inOrder.verify(mediaResourceGateway, times(1)).clearChunks(aSession);
+    }
+
+    @Test
+    void Given_ASessionClaimedByAnotherCompletion_When_CallsComplete_Should_NotAssembleTheChunks() {
+        final var aVideo = Fixture.Videos.random();
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L)
+                .commitChunk(10, "part-000000");
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        when(videoGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadSessionGateway.update(any()))
+                .thenThrow(new IllegalStateException("Stale session version"));
+
+        final var aCommand = CompleteMediaUploadSessionCommand.with(
+                aVideo.getId().getValue(),
+                VideoMediaType.VIDEO.name(),
+                aSession.getId().getValue());
+
+        assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+
+        verify(mediaResourceGateway, never()).assembleChunks(any());
+        verify(mediaResourceGateway, never()).storeVideo(any(), any());
+        verify(mediaResourceGateway, never()).clearChunks(any());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    void Given_AStoreError_When_CallsComplete_Should_ReopenTheSessionAndKeepTheChunks() {
+        final var aVideo = Fixture.Videos.random();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), expectedType, "v.mp4", "video/mp4", 10L)
+                .commitChunk(10, "part-000000");
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        when(videoGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadSessionGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        when(mediaResourceGateway.assembleChunks(any()))
+                .thenReturn(Fixture.Videos.resource(expectedType));
+
+        when(mediaResourceGateway.storeVideo(any(), any()))
+                .thenThrow(new IllegalStateException("Storage down"));
+
+        final var aCommand = CompleteMediaUploadSessionCommand.with(
+                aVideo.getId().getValue(),
+                expectedType.name(),
+                aSession.getId().getValue());
+
+        assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(MediaUploadStatus.OPEN, aSession.getStatus());
+
+        verify(mediaUploadSessionGateway, times(2)).update(aSession);
+        verify(mediaResourceGateway, never()).clearChunks(any());
+        verify(videoGateway, never()).update(any());
+    }
+
+    @Test
+    void Given_APartialSession_When_CallsComplete_Should_NotStoreAnything() {
+        final var aVideo = Fixture.Videos.random();
+        final var aSession = MediaUploadSession.newSession(aVideo.getId(), VideoMediaType.TRAILER, "t.mp4", "video/mp4", 10L)
+                .commitChunk(4, "part-000000");
+        final var expectedErrorMessage = "Upload session has only 4 of 10 bytes committed";
+
+        when(mediaUploadSessionGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aSession));
+
+        when(videoGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        final var aCommand = CompleteMediaUploadSessionCommand.with(
+                aVideo.getId().getValue(),
+                VideoMediaType.TRAILER.name(),
+                aSession.getId().getValue());
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaResourceGateway, never()).assembleChunks(any());
+        verify(mediaResourceGateway, never()).storeVideo(any(), any());
+        verify(videoGateway, never()).update(any());
+        verify(mediaUploadSessionGateway, never()).update(any());
+    }
+
+}
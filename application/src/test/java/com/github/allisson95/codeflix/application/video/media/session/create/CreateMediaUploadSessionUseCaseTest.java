@@ -0,0 +1,124 @@
+package com.github.allisson95.codeflix.application.video.media.session.create;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+class CreateMediaUploadSessionUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    @InjectMocks
+    private DefaultCreateMediaUploadSessionUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(videoGateway, mediaUploadSessionGateway);
+    }
+
+    @Test
+    void Given_AValidCommand_When_CallsCreateSession_Should_PersistAnOpenSession() {
+        final var aVideo = Fixture.Videos.random();
+        final var expectedVideoId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedSize = 1024L;
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaUploadSessionGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var aCommand = CreateMediaUploadSessionCommand.with(
+                expectedVideoId.getValue(),
+                expectedType.name(),
+                "video.mp4",
+                "video/mp4",
+                expectedSize);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertNotNull(actualOutput.id());
+
+        verify(mediaUploadSessionGateway, times(1))
+                .create(argThat(aSession -> Objects.equals(actualOutput.id(), aSession.getId().getValue())
+                        && Objects.equals(expectedVideoId, aSession.getVideoId())
+                        && Objects.equals(expectedType, aSession.getMediaType())
+                        && Objects.equals(expectedSize, aSession.getSize())
+                        && Objects.equals(MediaUploadStatus.OPEN, aSession.getStatus())));
+    }
+
+    @Test
+    void Given_AnUnknownVideo_When_CallsCreateSession_Should_ThrowNotFound() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedErrorMessage = "Video with id %s was not found".formatted(expectedVideoId.getValue());
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aCommand = CreateMediaUploadSessionCommand.with(
+                expectedVideoId.getValue(),
+                VideoMediaType.VIDEO.name(),
+                "video.mp4",
+                "video/mp4",
+                1024L);
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaUploadSessionGateway, never()).create(any());
+    }
+
+    @Test
+    void Given_AnImageType_When_CallsCreateSession_Should_ReceiveANotification() {
+        final var aVideo = Fixture.Videos.random();
+        final var expectedErrorMessage = "'mediaType' must be TRAILER or VIDEO";
+
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        final var aCommand = CreateMediaUploadSessionCommand.with(
+                aVideo.getId().getValue(),
+                VideoMediaType.BANNER.name(),
+                "banner.jpg",
+                "image/jpg",
+                1024L);
+
+        final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(mediaUploadSessionGateway, never()).create(any());
+    }
+
+}
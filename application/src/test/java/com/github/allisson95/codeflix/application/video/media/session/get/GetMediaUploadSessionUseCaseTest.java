@@ -0,0 +1,73 @@
+package com.github.allisson95.codeflix.application.video.media.session.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+class GetMediaUploadSessionUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private MediaUploadSessionGateway mediaUploadSessionGateway;
+
+    @InjectMocks
+    private DefaultGetMediaUploadSessionUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(mediaUploadSessionGateway);
+    }
+
+    @Test
+    void Given_AValidSession_When_CallsGetSession_Should_ReturnTheCommittedOffset() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.TRAILER, "t.mp4", "video/mp4", 10L)
+                .commitChunk(4, "part-000000");
+
+        when(mediaUploadSessionGateway.findById(any()))
+                .thenReturn(Optional.of(MediaUploadSession.with(aSession)));
+
+        final var actualOutput = useCase.execute(GetMediaUploadSessionCommand.with(
+                aSession.getVideoId().getValue(),
+                VideoMediaType.TRAILER.name(),
+                aSession.getId().getValue()));
+
+        assertEquals(aSession.getId().getValue(), actualOutput.id());
+        assertEquals(aSession.getVideoId().getValue(), actualOutput.videoId());
+        assertEquals(4, actualOutput.committedOffset());
+        assertEquals(1, actualOutput.chunks());
+        assertEquals(aSession.getStatus(), actualOutput.status());
+    }
+
+    @Test
+    void Given_ASessionOfAnotherVideo_When_CallsGetSession_Should_ThrowNotFound() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        final var expectedErrorMessage = "MediaUploadSession with id %s was not found".formatted(aSession.getId().getValue());
+
+        when(mediaUploadSessionGateway.findById(any()))
+                .thenReturn(Optional.of(aSession));
+
+        final var aCommand = GetMediaUploadSessionCommand.with(
+                VideoID.unique().getValue(),
+                VideoMediaType.VIDEO.name(),
+                aSession.getId().getValue());
+
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+}
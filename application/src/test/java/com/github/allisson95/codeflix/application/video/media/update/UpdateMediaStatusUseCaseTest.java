@@ -53,7 +53,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any()))
@@ -68,7 +68,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -100,7 +100,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any()))
@@ -115,7 +115,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -147,7 +147,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any()))
@@ -162,7 +162,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -194,7 +194,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(videoGateway.update(any()))
@@ -209,7 +209,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         final var captor = ArgumentCaptor.forClass(Video.class);
 
@@ -241,7 +241,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         final var aCommand = UpdateMediaStatusCommand.with(
@@ -253,7 +253,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCommand);
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -262,7 +262,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedId = VideoID.unique();
         final var expectedErrorMessage = "Video with id %s was not found".formatted(expectedId.getValue());
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.empty());
 
         final var aCommand = UpdateMediaStatusCommand.with(
@@ -279,7 +279,7 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
         verify(videoGateway, times(0)).update(any());
     }
 
@@ -3,6 +3,7 @@ package com.github.allisson95.codeflix.application.video.media.upload;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -23,6 +24,7 @@ import com.github.allisson95.codeflix.domain.Fixture;
 import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoResource;
 
@@ -53,7 +55,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.imageMedia(expectedType);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.storeImage(any(), any()))
@@ -69,7 +71,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertEquals(expectedId.getValue(), actualOutput.videoId());
         assertEquals(expectedType, actualOutput.mediaType());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         verify(mediaResourceGateway, times(1)).storeImage(expectedId, expectedVideoResource);
 
@@ -90,7 +92,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.imageMedia(expectedType);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.storeImage(any(), any()))
@@ -106,7 +108,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertEquals(expectedId.getValue(), actualOutput.videoId());
         assertEquals(expectedType, actualOutput.mediaType());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         verify(mediaResourceGateway, times(1)).storeImage(expectedId, expectedVideoResource);
 
@@ -127,7 +129,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.imageMedia(expectedType);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.storeImage(any(), any()))
@@ -143,7 +145,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertEquals(expectedId.getValue(), actualOutput.videoId());
         assertEquals(expectedType, actualOutput.mediaType());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         verify(mediaResourceGateway, times(1)).storeImage(expectedId, expectedVideoResource);
 
@@ -164,7 +166,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.videoMedia(expectedType);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.storeVideo(any(), any()))
@@ -180,7 +182,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertEquals(expectedId.getValue(), actualOutput.videoId());
         assertEquals(expectedType, actualOutput.mediaType());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         verify(mediaResourceGateway, times(1)).storeVideo(expectedId, expectedVideoResource);
 
@@ -201,7 +203,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedMedia = Fixture.Videos.videoMedia(expectedType);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(aVideo));
 
         when(mediaResourceGateway.storeVideo(any(), any()))
@@ -217,7 +219,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertEquals(expectedId.getValue(), actualOutput.videoId());
         assertEquals(expectedType, actualOutput.mediaType());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
 
         verify(mediaResourceGateway, times(1)).storeVideo(expectedId, expectedVideoResource);
 
@@ -229,6 +231,37 @@ class UploadMediaUseCaseTest extends UseCaseTest {
                         && Objects.equals(expectedMedia, actualVideo.getVideo().get())));
     }
 
+    @Test
+    void Given_ACommandToUpload_When_ResourceMatchesCurrentMedia_Should_SkipStoreAndEncode() {
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
+        final var expectedMedia = VideoMedia.with(expectedResource.checksum(), expectedResource.name(), "/videos");
+        final var aVideo = Fixture.Videos.random().updateVideoMedia(expectedMedia);
+        final var expectedId = aVideo.getId();
+
+        aVideo.publishDomainEvents(event -> {
+        });
+
+        when(videoGateway.findForUpdate(any()))
+                .thenReturn(Optional.of(aVideo));
+
+        when(mediaResourceGateway.contains(any(), any()))
+                .thenReturn(true);
+
+        final var aCommand = UploadMediaCommand.with(expectedId.getValue(), expectedVideoResource);
+
+        final var actualOutput = useCase.execute(aCommand);
+
+        assertEquals(expectedId.getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+        assertTrue(aVideo.getDomainEvents().isEmpty());
+
+        verify(mediaResourceGateway, times(1)).contains(expectedId, expectedVideoResource);
+        verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
+        verify(videoGateway, times(0)).update(any());
+    }
+
     @Test
     void Given_ACommandToUpload_When_VideoIsInvalid_Should_ReturnNotFound() {
         final var aVideo = Fixture.Videos.random();
@@ -238,7 +271,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         final var expectedVideoResource = VideoResource.with(expectedResource, expectedType);
         final var expectedErrorMessage = "Video with id %s was not found".formatted(expectedId.getValue());
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.empty());
 
         final var aCommand = UploadMediaCommand.with(expectedId.getValue(), expectedVideoResource);
@@ -250,7 +283,7 @@ class UploadMediaUseCaseTest extends UseCaseTest {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(videoGateway, times(1)).findById(expectedId);
+        verify(videoGateway, times(1)).findForUpdate(expectedId);
         verify(mediaResourceGateway, times(0)).storeVideo(any(), any());
         verify(videoGateway, times(0)).update(any());
     }
@@ -21,6 +21,7 @@ import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
 import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoDetails;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
 import com.github.allisson95.codeflix.domain.video.VideoID;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
@@ -78,8 +79,8 @@ class GetVideoByIdUseCaseTest extends UseCaseTest {
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-                .thenReturn(Optional.of(Video.with(aVideo)));
+        when(videoGateway.findDetailsById(any()))
+                .thenReturn(Optional.of(new VideoDetails(aVideo)));
 
         final var actualVideo = this.useCase.execute(expectedId.getValue());
 
@@ -109,7 +110,7 @@ class GetVideoByIdUseCaseTest extends UseCaseTest {
 
         final var expectedId = VideoID.from("123");
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findDetailsById(any()))
                 .thenReturn(Optional.empty());
 
         final var actualError = assertThrows(
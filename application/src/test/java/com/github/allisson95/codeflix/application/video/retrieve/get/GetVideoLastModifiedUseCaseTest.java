@@ -0,0 +1,63 @@
+package com.github.allisson95.codeflix.application.video.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.github.allisson95.codeflix.application.UseCaseTest;
+import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+
+class GetVideoLastModifiedUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @InjectMocks
+    private DefaultGetVideoLastModifiedUseCase useCase;
+
+    @Override
+    protected List<Object> getMocksForClean() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    void Given_AValidId_When_CallsGetVideoLastModified_Should_ReturnUpdatedAt() {
+        final var expectedId = VideoID.unique();
+        final var expectedLastModified = InstantUtils.now();
+
+        when(videoGateway.findLastModifiedById(expectedId)).thenReturn(Optional.of(expectedLastModified));
+
+        final var actualLastModified = useCase.execute(expectedId.getValue());
+
+        assertEquals(expectedLastModified, actualLastModified);
+
+        verify(videoGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+    @Test
+    void Given_AInvalidId_When_CallsGetVideoLastModified_Should_ReturnNotFound() {
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with id 123 was not found";
+
+        when(videoGateway.findLastModifiedById(expectedId)).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, exception.getMessage());
+
+        verify(videoGateway, times(1)).findLastModifiedById(expectedId);
+    }
+
+}
@@ -17,9 +17,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import com.github.allisson95.codeflix.application.UseCaseTest;
@@ -43,9 +46,10 @@ import com.github.allisson95.codeflix.domain.video.VideoResource;
 
 class UpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
+    private ExecutorService referenceLookupExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -61,6 +65,23 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @BeforeEach
+    void setUp() {
+        this.referenceLookupExecutor = Executors.newFixedThreadPool(2);
+        this.useCase = new DefaultUpdateVideoUseCase(
+                videoGateway,
+                mediaResourceGateway,
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                referenceLookupExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.referenceLookupExecutor.shutdownNow();
+    }
+
     @Override
     protected List<Object> getMocksForClean() {
         return List.of(
@@ -113,7 +134,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -137,7 +158,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertNotNull(actualResult);
         assertNotNull(actualResult.id());
 
-        verify(videoGateway).findById(expectedId);
+        verify(videoGateway).findForUpdate(expectedId);
         verify(videoGateway)
                 .update(argThat(actualVideo -> Objects.equals(expectedId.getValue(), actualVideo.getId().getValue())
                         && Objects.equals(expectedTitle, actualVideo.getTitle())
@@ -206,7 +227,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(castMemberGateway.existsByIds(any()))
@@ -291,7 +312,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -378,7 +399,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -465,7 +486,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -547,7 +568,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -556,7 +577,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -608,7 +629,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -617,7 +638,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -669,7 +690,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -678,7 +699,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -730,7 +751,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -739,7 +760,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -791,7 +812,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -800,7 +821,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -852,7 +873,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         final var actualResult = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
@@ -861,7 +882,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(0)).existsByIds(any());
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(genreGateway, times(0)).existsByIds(any());
@@ -917,7 +938,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -935,7 +956,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
@@ -989,7 +1010,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -1007,7 +1028,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
@@ -1063,7 +1084,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -1081,7 +1102,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertEquals(expectedErrorCount, actualResult.getErrors().size());
         assertEquals(expectedErrorMessage, actualResult.getErrors().get(0).message());
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(1)).existsByIds(any());
         verify(castMemberGateway, times(1)).existsByIds(any());
         verify(genreGateway, times(1)).existsByIds(any());
@@ -1134,7 +1155,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
                 expectedTrailer,
                 expectedVideo);
 
-        when(videoGateway.findById(any()))
+        when(videoGateway.findForUpdate(any()))
                 .thenReturn(Optional.of(Video.with(aVideo)));
 
         when(categoryGateway.existsByIds(any()))
@@ -1158,7 +1179,7 @@ class UpdateVideoUseCaseTest extends UseCaseTest {
         assertNotNull(actualResult);
         assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
 
-        verify(videoGateway, times(1)).findById(any());
+        verify(videoGateway, times(1)).findForUpdate(any());
         verify(categoryGateway, times(1)).existsByIds(expectedCategories);
         verify(castMemberGateway, times(1)).existsByIds(expectedCastMembers);
         verify(genreGateway, times(1)).existsByIds(expectedGenres);
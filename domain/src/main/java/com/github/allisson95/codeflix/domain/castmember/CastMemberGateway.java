@@ -1,5 +1,6 @@
 package com.github.allisson95.codeflix.domain.castmember;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,10 +11,16 @@ public interface CastMemberGateway {
 
     CastMember create(CastMember aCastMember);
 
+    List<CastMember> createAll(List<CastMember> aCastMembers);
+
     void deleteById(CastMemberID anId);
 
     Optional<CastMember> findById(CastMemberID anId);
 
+    Optional<CastMember> findForUpdate(CastMemberID anId);
+
+    Optional<Instant> findLastModifiedById(CastMemberID anId);
+
     Pagination<CastMember> findAll(SearchQuery aQuery);
 
     CastMember update(CastMember aCastMember);
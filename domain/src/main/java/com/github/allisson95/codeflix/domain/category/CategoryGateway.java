@@ -1,5 +1,6 @@
 package com.github.allisson95.codeflix.domain.category;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,10 +11,16 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    Optional<Category> findForUpdate(CategoryID anId);
+
+    Optional<Instant> findLastModifiedById(CategoryID anId);
+
     Pagination<Category> findAll(SearchQuery aQuery);
 
     Category update(Category aCategory);
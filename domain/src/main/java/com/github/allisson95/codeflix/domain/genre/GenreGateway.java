@@ -1,5 +1,6 @@
 package com.github.allisson95.codeflix.domain.genre;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,10 +11,16 @@ public interface GenreGateway {
 
     Genre create(Genre aGenre);
 
+    List<Genre> createAll(List<Genre> aGenres);
+
     void deleteById(GenreID anId);
 
     Optional<Genre> findById(GenreID anId);
 
+    Optional<Genre> findForUpdate(GenreID anId);
+
+    Optional<Instant> findLastModifiedById(GenreID anId);
+
     Pagination<Genre> findAll(SearchQuery aQuery);
 
     Genre update(Genre aGenre);
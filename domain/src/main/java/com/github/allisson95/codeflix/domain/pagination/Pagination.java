@@ -7,11 +7,19 @@ public record Pagination<T> (
         int currentPage,
         int perPage,
         long total,
-        List<T> items) {
+        List<T> items,
+        String nextCursor,
+        boolean hasMore) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, total > (long) (currentPage + 1) * perPage);
+    }
 
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final var mappedItems = items.stream().map(mapper).toList();
-        return new Pagination<>(currentPage, perPage, total, mappedItems);
+        return new Pagination<>(currentPage, perPage, total, mappedItems, nextCursor, hasMore);
     }
 
 }
@@ -0,0 +1,25 @@
+package com.github.allisson95.codeflix.domain.pagination;
+
+import java.util.Arrays;
+
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.validation.Error;
+
+public enum TotalMode {
+
+    EXACT,
+    CACHED,
+    NONE;
+
+    public static TotalMode from(final String label) {
+        if (label == null || label.isBlank()) {
+            return EXACT;
+        }
+
+        return Arrays.stream(TotalMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(label.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'total' should be one of exact, cached or none")));
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.github.allisson95.codeflix.domain.resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -9,28 +14,68 @@ public class Resource extends ValueObject {
 
     private final String checksum;
     private final byte[] content;
+    private final Source source;
+    private final long size;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
+    private Resource(
+            final String checksum,
+            final byte[] content,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name) {
         this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+        this.content = content;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource of(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, () -> new ByteArrayInputStream(content), content.length, contentType, name);
+    }
+
+    public static Resource of(
+            final String checksum,
+            final Source source,
+            final long size,
+            final String contentType,
+            final String name) {
+        return new Resource(checksum, null, source, size, contentType, name);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    // Only in-memory resources have their bytes at hand; streamed ones are read through openStream or source
     public byte[] content() {
+        if (content == null) {
+            throw new IllegalStateException("Resource %s is streamed, read it through openStream or source".formatted(name));
+        }
         return content;
     }
 
+    public InputStream openStream() throws IOException {
+        return source.open();
+    }
+
+    public Source source() {
+        return source;
+    }
+
+    public boolean isStreamed() {
+        return content == null;
+    }
+
+    public long size() {
+        return size;
+    }
+
     public String contentType() {
         return contentType;
     }
@@ -44,7 +89,7 @@ public class Resource extends ValueObject {
         final int prime = 31;
         int result = 1;
         result = prime * result + Arrays.hashCode(content);
-        result = prime * result + Objects.hash(checksum, contentType, name);
+        result = prime * result + Objects.hash(checksum, size, contentType, name);
         return result;
     }
 
@@ -58,7 +103,44 @@ public class Resource extends ValueObject {
             return false;
         Resource other = (Resource) obj;
         return Objects.equals(checksum, other.checksum) && Arrays.equals(content, other.content)
-                && Objects.equals(contentType, other.contentType) && Objects.equals(name, other.name);
+                && size == other.size && Objects.equals(contentType, other.contentType)
+                && Objects.equals(name, other.name);
+    }
+
+    @FunctionalInterface
+    public interface Source {
+
+        int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+        InputStream open() throws IOException;
+
+        default InputStream open(final long offset) throws IOException {
+            final var in = open();
+            in.skipNBytes(offset);
+            return in;
+        }
+
+        default long transferTo(final long offset, final long length, final WritableByteChannel target)
+                throws IOException {
+            final var buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+            var transferred = 0L;
+            try (final var in = open(offset)) {
+                while (transferred < length) {
+                    final var read = in.read(buffer.array(), 0, (int) Math.min(buffer.capacity(), length - transferred));
+                    if (read < 0) {
+                        break;
+                    }
+                    buffer.limit(read);
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                    transferred += read;
+                }
+            }
+            return transferred;
+        }
+
     }
 
 }
@@ -10,8 +10,18 @@ public interface MediaResourceGateway {
 
     ImageMedia storeImage(VideoID anId, VideoResource aResource);
 
+    boolean contains(VideoID anId, VideoResource aResource);
+
     Optional<Resource> getResource(VideoID anId, VideoMediaType aType);
 
     void clearResources(VideoID anId);
 
+    void scheduleClearResources(VideoID anId);
+
+    String storeChunk(MediaUploadSession aSession, int aPart, Resource aChunk);
+
+    Resource assembleChunks(MediaUploadSession aSession);
+
+    void clearChunks(MediaUploadSession aSession);
+
 }
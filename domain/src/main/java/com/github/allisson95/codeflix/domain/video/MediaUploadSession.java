@@ -0,0 +1,273 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.allisson95.codeflix.domain.AggregateRoot;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.ValidationHandler;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+
+public class MediaUploadSession extends AggregateRoot<MediaUploadSessionID> {
+
+    private final VideoID videoId;
+    private final VideoMediaType mediaType;
+    private final String name;
+    private final String contentType;
+    private final long size;
+    private long committedOffset;
+    private int chunks;
+    private final Map<Integer, String> chunkKeys;
+    private MediaUploadStatus status;
+    private final Instant createdAt;
+    private Instant updatedAt;
+    private final long version;
+
+    protected MediaUploadSession(
+            final MediaUploadSessionID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aSize,
+            final long aCommittedOffset,
+            final int aChunks,
+            final Map<Integer, String> aChunkKeys,
+            final MediaUploadStatus aStatus,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final long aVersion) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.mediaType = aMediaType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.size = aSize;
+        this.committedOffset = aCommittedOffset;
+        this.chunks = aChunks;
+        this.chunkKeys = new HashMap<>(aChunkKeys);
+        this.status = aStatus;
+        this.createdAt = aCreationDate;
+        this.updatedAt = aUpdateDate;
+        this.version = aVersion;
+        this.selfValidate();
+    }
+
+    public static MediaUploadSession newSession(
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aSize) {
+        final var anId = MediaUploadSessionID.unique();
+        final var now = InstantUtils.now();
+
+        return new MediaUploadSession(
+                anId,
+                aVideoId,
+                aMediaType,
+                aName,
+                aContentType,
+                aSize,
+                0,
+                0,
+                Map.of(),
+                MediaUploadStatus.OPEN,
+                now,
+                now,
+                0L);
+    }
+
+    public static MediaUploadSession with(
+            final MediaUploadSessionID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aMediaType,
+            final String aName,
+            final String aContentType,
+            final long aSize,
+            final long aCommittedOffset,
+            final int aChunks,
+            final Map<Integer, String> aChunkKeys,
+            final MediaUploadStatus aStatus,
+            final Instant aCreationDate,
+            final Instant aUpdateDate,
+            final long aVersion) {
+        return new MediaUploadSession(
+                anId,
+                aVideoId,
+                aMediaType,
+                aName,
+                aContentType,
+                aSize,
+                aCommittedOffset,
+                aChunks,
+                aChunkKeys,
+                aStatus,
+                aCreationDate,
+                aUpdateDate,
+                aVersion);
+    }
+
+    public static MediaUploadSession with(final MediaUploadSession aSession) {
+        return new MediaUploadSession(
+                aSession.getId(),
+                aSession.getVideoId(),
+                aSession.getMediaType(),
+                aSession.getName(),
+                aSession.getContentType(),
+                aSession.getSize(),
+                aSession.getCommittedOffset(),
+                aSession.getChunks(),
+                aSession.getChunkKeys(),
+                aSession.getStatus(),
+                aSession.getCreatedAt(),
+                aSession.getUpdatedAt(),
+                aSession.getVersion());
+    }
+
+    public void checkChunk(final int aPart, final long anOffset, final long aLength) {
+        checkOpen();
+
+        if (aPart != this.chunks) {
+            throw DomainException.with(new Error(
+                    "Chunk %d doesn't match the next expected chunk %d".formatted(aPart, this.chunks)));
+        }
+
+        if (anOffset != this.committedOffset) {
+            throw DomainException.with(new Error(
+                    "Chunk offset %d doesn't match the committed offset %d".formatted(anOffset, this.committedOffset)));
+        }
+
+        if (aLength <= 0 || anOffset + aLength > this.size) {
+            throw DomainException.with(new Error(
+                    "Chunk length %d is out of the session bounds %d".formatted(aLength, this.size)));
+        }
+    }
+
+    // The key is where this attempt stored the chunk; the one committed is the only one assembled
+    public MediaUploadSession commitChunk(final long aLength, final String aKey) {
+        checkOpen();
+        this.committedOffset += aLength;
+        this.chunkKeys.put(this.chunks, aKey);
+        this.chunks++;
+        this.updatedAt = InstantUtils.now();
+        this.selfValidate();
+        return this;
+    }
+
+    public MediaUploadSession complete() {
+        checkOpen();
+
+        if (!isFullyCommitted()) {
+            throw DomainException.with(new Error(
+                    "Upload session has only %d of %d bytes committed".formatted(this.committedOffset, this.size)));
+        }
+
+        this.status = MediaUploadStatus.COMPLETED;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    // Gives a completion that failed after claiming the session back to the client so it can be retried
+    public MediaUploadSession reopen() {
+        if (this.status != MediaUploadStatus.COMPLETED) {
+            throw DomainException.with(new Error("Upload session %s is not completed"
+                    .formatted(getId().getValue())));
+        }
+
+        this.status = MediaUploadStatus.OPEN;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public boolean isFullyCommitted() {
+        return this.committedOffset == this.size;
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new MediaUploadSessionValidator(this, aHandler).validate();
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public Map<Integer, String> getChunkKeys() {
+        return Collections.unmodifiableMap(chunkKeys);
+    }
+
+    public MediaUploadStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // The persisted version this session was read at; an update from a stale read is rejected
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o);
+    }
+
+    private void checkOpen() {
+        if (this.status != MediaUploadStatus.OPEN) {
+            throw DomainException.with(new Error("Upload session %s is already %s"
+                    .formatted(getId().getValue(), this.status.name().toLowerCase())));
+        }
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+
+        validate(notification);
+
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create Aggregate MediaUploadSession", notification);
+        }
+    }
+
+}
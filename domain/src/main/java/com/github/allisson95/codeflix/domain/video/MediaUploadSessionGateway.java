@@ -0,0 +1,17 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import java.util.Optional;
+
+public interface MediaUploadSessionGateway {
+
+    MediaUploadSession create(MediaUploadSession aSession);
+
+    void deleteById(MediaUploadSessionID anId);
+
+    Optional<MediaUploadSession> findById(MediaUploadSessionID anId);
+
+    Optional<MediaUploadSession> findForUpdate(MediaUploadSessionID anId);
+
+    MediaUploadSession update(MediaUploadSession aSession);
+
+}
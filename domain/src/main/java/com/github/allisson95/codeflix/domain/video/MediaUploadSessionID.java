@@ -0,0 +1,47 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import java.util.Objects;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+
+public class MediaUploadSessionID extends Identifier {
+
+    private final String value;
+
+    private MediaUploadSessionID(final String anId) {
+        Objects.requireNonNull(anId);
+        this.value = anId;
+    }
+
+    public static MediaUploadSessionID from(final String anId) {
+        return new MediaUploadSessionID(anId);
+    }
+
+    public static MediaUploadSessionID unique() {
+        return from(IdUtils.uuid());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null)
+            return false;
+        if (getClass() != o.getClass())
+            return false;
+        final MediaUploadSessionID other = (MediaUploadSessionID) o;
+        return Objects.equals(getValue(), other.getValue());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import java.util.Set;
+
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.ValidationHandler;
+import com.github.allisson95.codeflix.domain.validation.Validator;
+
+public class MediaUploadSessionValidator extends Validator {
+
+    private static final Set<VideoMediaType> RESUMABLE_TYPES = Set.of(VideoMediaType.TRAILER, VideoMediaType.VIDEO);
+
+    private final MediaUploadSession session;
+
+    protected MediaUploadSessionValidator(final MediaUploadSession aSession, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.session = aSession;
+    }
+
+    @Override
+    public void validate() {
+        checkVideoIdConstraints();
+        checkMediaTypeConstraints();
+        checkNameConstraints();
+        checkContentTypeConstraints();
+        checkSizeConstraints();
+    }
+
+    private void checkVideoIdConstraints() {
+        if (this.session.getVideoId() == null) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkMediaTypeConstraints() {
+        final var mediaType = this.session.getMediaType();
+        if (mediaType == null) {
+            this.validationHandler().append(new Error("'mediaType' should not be null"));
+            return;
+        }
+
+        if (!RESUMABLE_TYPES.contains(mediaType)) {
+            this.validationHandler().append(new Error("'mediaType' must be TRAILER or VIDEO"));
+        }
+    }
+
+    private void checkNameConstraints() {
+        final var name = this.session.getName();
+        if (name == null) {
+            this.validationHandler().append(new Error("'name' should not be null"));
+            return;
+        }
+
+        if (name.isBlank()) {
+            this.validationHandler().append(new Error("'name' should not be empty"));
+        }
+    }
+
+    private void checkContentTypeConstraints() {
+        final var contentType = this.session.getContentType();
+        if (contentType == null) {
+            this.validationHandler().append(new Error("'contentType' should not be null"));
+            return;
+        }
+
+        if (contentType.isBlank()) {
+            this.validationHandler().append(new Error("'contentType' should not be empty"));
+        }
+    }
+
+    private void checkSizeConstraints() {
+        if (this.session.getSize() <= 0) {
+            this.validationHandler().append(new Error("'size' should be greater than 0"));
+            return;
+        }
+
+        if (this.session.getCommittedOffset() < 0 || this.session.getCommittedOffset() > this.session.getSize()) {
+            this.validationHandler().append(new Error("'committedOffset' must be between 0 and 'size'"));
+        }
+    }
+
+}
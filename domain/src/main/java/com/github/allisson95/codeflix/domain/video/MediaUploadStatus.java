@@ -0,0 +1,7 @@
+package com.github.allisson95.codeflix.domain.video;
+
+public enum MediaUploadStatus {
+
+    OPEN, COMPLETED;
+
+}
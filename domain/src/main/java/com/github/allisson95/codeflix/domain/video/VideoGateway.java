@@ -1,5 +1,7 @@
 package com.github.allisson95.codeflix.domain.video;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
@@ -8,10 +10,20 @@ public interface VideoGateway {
 
     Video create(Video aVideo);
 
-    void deleteById(VideoID anId);
+    List<Video> createAll(List<Video> aVideos);
+
+    boolean deleteById(VideoID anId);
 
     Optional<Video> findById(VideoID anId);
 
+    Optional<Video> findForUpdate(VideoID anId);
+
+    Optional<VideoDetails> findDetailsById(VideoID anId);
+
+    Optional<Instant> findLastModifiedById(VideoID anId);
+
+    Optional<VideoMediaVersion> findMediaVersion(VideoID anId, VideoMediaType aType);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 
     Video update(Video aVideo);
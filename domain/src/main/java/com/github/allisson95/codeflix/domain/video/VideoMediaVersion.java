@@ -0,0 +1,15 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import java.time.Instant;
+import java.util.Optional;
+
+// The checksum is null when the video exists but has no media of the requested type
+public record VideoMediaVersion(
+        Instant updatedAt,
+        String checksum) {
+
+    public Optional<String> mediaChecksum() {
+        return Optional.ofNullable(this.checksum);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.github.allisson95.codeflix.domain.resource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.allisson95.codeflix.domain.UnitTest;
+
+class ResourceTest extends UnitTest {
+
+    @Test
+    void Given_AnInMemoryResource_When_CallsContent_Should_ReturnItsBytes() {
+        final var expectedContent = "content".getBytes();
+
+        final var actualResource = Resource.of("checksum", expectedContent, "video/mp4", "video.mp4");
+
+        assertArrayEquals(expectedContent, actualResource.content());
+    }
+
+    @Test
+    void Given_AStreamedResource_When_CallsContent_Should_ThrowInsteadOfReadingItAll() throws Exception {
+        final var expectedContent = "content".getBytes();
+
+        final var actualResource = Resource.of(
+                "checksum",
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4");
+
+        assertTrue(actualResource.isStreamed());
+        assertThrows(IllegalStateException.class, actualResource::content);
+
+        try (final var in = actualResource.openStream()) {
+            assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.github.allisson95.codeflix.domain.video;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.allisson95.codeflix.domain.UnitTest;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
+
+class MediaUploadSessionTest extends UnitTest {
+
+    @Test
+    void Given_ValidParams_When_CallsNewSession_Should_InstantiateAnOpenSession() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedSize = 10L;
+
+        final var actualSession = MediaUploadSession.newSession(
+                expectedVideoId,
+                expectedType,
+                expectedName,
+                expectedContentType,
+                expectedSize);
+
+        assertNotNull(actualSession.getId());
+        assertEquals(expectedVideoId, actualSession.getVideoId());
+        assertEquals(expectedType, actualSession.getMediaType());
+        assertEquals(expectedName, actualSession.getName());
+        assertEquals(expectedContentType, actualSession.getContentType());
+        assertEquals(expectedSize, actualSession.getSize());
+        assertEquals(0, actualSession.getCommittedOffset());
+        assertEquals(0, actualSession.getChunks());
+        assertEquals(MediaUploadStatus.OPEN, actualSession.getStatus());
+        assertNotNull(actualSession.getCreatedAt());
+        assertEquals(actualSession.getCreatedAt(), actualSession.getUpdatedAt());
+    }
+
+    @Test
+    void Given_AnImageType_When_CallsNewSession_Should_ReceiveANotification() {
+        final var expectedErrorMessage = "'mediaType' must be TRAILER or VIDEO";
+
+        final var actualException = assertThrows(
+                NotificationException.class,
+                () -> MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.BANNER, "banner.jpg", "image/jpg", 10L));
+
+        assertEquals(1, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void Given_AnInvalidSize_When_CallsNewSession_Should_ReceiveANotification() {
+        final var expectedErrorMessage = "'size' should be greater than 0";
+
+        final var actualException = assertThrows(
+                NotificationException.class,
+                () -> MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 0L));
+
+        assertEquals(1, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void Given_ChunksInOrder_When_CallsCommitChunk_Should_AdvanceTheOffset() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.TRAILER, "t.mp4", "video/mp4", 10L);
+
+        aSession.checkChunk(0, 0, 6);
+        aSession.commitChunk(6, "part-000000");
+        aSession.checkChunk(1, 6, 4);
+        aSession.commitChunk(4, "part-000001");
+
+        assertEquals(10, aSession.getCommittedOffset());
+        assertEquals(2, aSession.getChunks());
+        assertEquals(Map.of(0, "part-000000", 1, "part-000001"), aSession.getChunkKeys());
+        assertTrue(aSession.isFullyCommitted());
+
+        aSession.complete();
+
+        assertEquals(MediaUploadStatus.COMPLETED, aSession.getStatus());
+    }
+
+    @Test
+    void Given_AWrongOffset_When_CallsCheckChunk_Should_ThrowDomainException() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        final var expectedErrorMessage = "Chunk offset 3 doesn't match the committed offset 0";
+
+        final var actualException = assertThrows(DomainException.class, () -> aSession.checkChunk(0, 3, 4));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void Given_AChunkBeyondSize_When_CallsCheckChunk_Should_ThrowDomainException() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        final var expectedErrorMessage = "Chunk length 11 is out of the session bounds 10";
+
+        final var actualException = assertThrows(DomainException.class, () -> aSession.checkChunk(0, 0, 11));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void Given_APartialSession_When_CallsComplete_Should_ThrowDomainException() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        aSession.commitChunk(4, "part-000000");
+        final var expectedErrorMessage = "Upload session has only 4 of 10 bytes committed";
+
+        final var actualException = assertThrows(DomainException.class, aSession::complete);
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(MediaUploadStatus.OPEN, aSession.getStatus());
+    }
+
+    @Test
+    void Given_ACompletedSession_When_CallsReopen_Should_AcceptTheCompletionAgain() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        aSession.commitChunk(10, "part-000000");
+        aSession.complete();
+
+        aSession.reopen();
+
+        assertEquals(MediaUploadStatus.OPEN, aSession.getStatus());
+
+        aSession.complete();
+
+        assertEquals(MediaUploadStatus.COMPLETED, aSession.getStatus());
+    }
+
+    @Test
+    void Given_AnOpenSession_When_CallsReopen_Should_ThrowDomainException() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "v.mp4", "video/mp4", 10L);
+        final var expectedErrorMessage = "Upload session %s is not completed".formatted(aSession.getId().getValue());
+
+        final var actualException = assertThrows(DomainException.class, aSession::reopen);
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+}
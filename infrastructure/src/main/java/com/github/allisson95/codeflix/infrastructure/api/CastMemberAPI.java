@@ -1,5 +1,11 @@
 package com.github.allisson95.codeflix.infrastructure.api;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -40,6 +47,18 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+        value = "import",
+        consumes = { MediaType.APPLICATION_NDJSON_VALUE },
+        produces = { MediaType.APPLICATION_NDJSON_VALUE }
+    )
+    @Operation(summary = "Import cast members from a newline delimited JSON stream")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "One result line per imported line"),
+        @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    void importCastMembers(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
     @GetMapping
     @Operation(summary = "List all cast members paginated")
     @ApiResponses(value = {
@@ -52,7 +71,9 @@ public interface CastMemberAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir);
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String dir,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "total", required = false, defaultValue = "exact") final String total);
 
     @GetMapping(
         value = "{castMemberId}",
@@ -62,10 +83,13 @@ public interface CastMemberAPI {
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+        @ApiResponse(responseCode = "304", description = "Cast member was not modified"),
         @ApiResponse(responseCode = "404", description = "Cast member was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CastMemberResponse getById(@PathVariable(name = "castMemberId") String castMemberId);
+    ResponseEntity<CastMemberResponse> getById(
+        @PathVariable(name = "castMemberId") String castMemberId,
+        @RequestHeader HttpHeaders headers);
 
     @PutMapping(
         value = "{castMemberId}",
@@ -0,0 +1,28 @@
+package com.github.allisson95.codeflix.infrastructure.api;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RequestMapping(path = "catalog")
+@Tag(name = "Catalog")
+public interface CatalogAPI {
+
+    @GetMapping(value = "export", produces = { MediaType.APPLICATION_NDJSON_VALUE, "application/gzip" })
+    @Operation(summary = "Stream the whole catalog with its associations as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One line per category, cast member, genre and video"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "gzip", required = false, defaultValue = "false") boolean gzip);
+
+}
@@ -0,0 +1,91 @@
+package com.github.allisson95.codeflix.infrastructure.api;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.github.allisson95.codeflix.infrastructure.video.models.CreateMediaUploadSessionRequest;
+import com.github.allisson95.codeflix.infrastructure.video.models.MediaUploadSessionResponse;
+import com.github.allisson95.codeflix.infrastructure.video.models.UploadMediaChunkResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RequestMapping(path = "videos/{id}/medias/{type}/uploads")
+@Tag(name = "Video")
+public interface MediaUploadAPI {
+
+    @PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE }, produces = { MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Create a resumable upload session for a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created successfuly"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    ResponseEntity<?> create(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateMediaUploadSessionRequest request);
+
+    @GetMapping(path = "{sessionId}", produces = { MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Get an upload session and it's committed offset")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session retrieved successfuly"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    MediaUploadSessionResponse getById(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId);
+
+    @PutMapping(
+            path = "{sessionId}/chunks/{part}",
+            consumes = { MediaType.APPLICATION_OCTET_STREAM_VALUE },
+            produces = { MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Upload a chunk of an upload session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk committed successfuly"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "409", description = "Another chunk was committed to the session concurrently"),
+            @ApiResponse(responseCode = "422", description = "The chunk doesn't match the committed offset or is larger than the maximum chunk size"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    UploadMediaChunkResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId,
+            @PathVariable(name = "part") int part,
+            @RequestParam(name = "offset") long offset,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request) throws IOException;
+
+    @PostMapping(path = "{sessionId}/complete", produces = { MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Complete an upload session storing the assembled media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfuly"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "The upload session is not fully committed"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    ResponseEntity<?> complete(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "sessionId") String sessionId);
+
+}
@@ -1,7 +1,13 @@
 package com.github.allisson95.codeflix.infrastructure.api;
 
+import java.io.IOException;
 import java.util.Set;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,10 +17,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.infrastructure.video.models.CreateVideoRequest;
@@ -46,7 +55,9 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembersIds,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categoriesIds,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genresIds);
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genresIds,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") String total);
 
     @PostMapping(consumes = { MediaType.MULTIPART_FORM_DATA_VALUE }, produces = { MediaType.APPLICATION_JSON_VALUE })
     @Operation(summary = "Create a new video with medias")
@@ -81,14 +92,25 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest request);
 
+    @PostMapping(value = "import", consumes = { MediaType.APPLICATION_NDJSON_VALUE }, produces = { MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Import videos without medias from a newline delimited JSON stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One result line per imported line"),
+            @ApiResponse(responseCode = "500", description = "An internal server error"),
+    })
+    void importVideos(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
     @GetMapping(path = "{id}", produces = { MediaType.APPLICATION_JSON_VALUE })
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfuly"),
+            @ApiResponse(responseCode = "304", description = "Video was not modified"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error"),
     })
-    VideoResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<VideoResponse> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader HttpHeaders headers);
 
     @PutMapping(path = "{id}", consumes = { MediaType.APPLICATION_JSON_VALUE }, produces = { MediaType.APPLICATION_JSON_VALUE })
     @Operation(summary = "Update a video by it's identifier")
@@ -109,16 +131,23 @@ public interface VideoAPI {
     })
     void deleteById(@PathVariable(name = "id") String id);
 
-    @GetMapping(path = "{id}/medias/{type}")
+    @RequestMapping(path = "{id}/medias/{type}", method = { RequestMethod.GET, RequestMethod.HEAD })
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfuly"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfuly"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "The requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type);
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader HttpHeaders headers,
+            HttpMethod method);
 
     @PostMapping(path = "{id}/medias/{type}")
     @Operation(summary = "Upload a video media by it's type")
@@ -1,48 +1,71 @@
 package com.github.allisson95.codeflix.infrastructure.api.controllers;
 
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.eTagOf;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isConditional;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isNotModified;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.notModified;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.allisson95.codeflix.application.castmember.create.CreateCastMemberCommand;
+import com.github.allisson95.codeflix.application.castmember.create.CreateCastMemberOutput;
 import com.github.allisson95.codeflix.application.castmember.create.CreateCastMemberUseCase;
+import com.github.allisson95.codeflix.application.castmember.create.ImportCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.delete.DeleteCastMemberUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.github.allisson95.codeflix.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.update.UpdateCastMemberCommand;
 import com.github.allisson95.codeflix.application.castmember.update.UpdateCastMemberUseCase;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.infrastructure.api.CastMemberAPI;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.CastMemberListResponse;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.CastMemberResponse;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.github.allisson95.codeflix.infrastructure.castmember.presenters.CastMemberApiPresenter;
+import com.github.allisson95.codeflix.infrastructure.imports.NdjsonImporter;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
+    private final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ImportCastMembersUseCase importCastMembersUseCase;
+    private final NdjsonImporter ndjsonImporter;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
+            final GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase) {
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ImportCastMembersUseCase importCastMembersUseCase,
+            final NdjsonImporter ndjsonImporter) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
+        this.getCastMemberLastModifiedUseCase = Objects.requireNonNull(getCastMemberLastModifiedUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.importCastMembersUseCase = Objects.requireNonNull(importCastMembersUseCase);
+        this.ndjsonImporter = Objects.requireNonNull(ndjsonImporter);
     }
 
     @Override
@@ -56,20 +79,47 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(location).body(output);
     }
 
+    @Override
+    public void importCastMembers(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        this.ndjsonImporter.run(
+                request,
+                response,
+                CreateCastMemberRequest.class,
+                inputs -> this.importCastMembersUseCase.execute(inputs.stream()
+                        .map(input -> CreateCastMemberCommand.with(input.name(), input.type()))
+                        .toList()),
+                CreateCastMemberOutput::id);
+    }
+
     @Override
     public Pagination<CastMemberListResponse> listCastMembers(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String dir) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+            final String dir,
+            final String cursor,
+            final String total) {
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, dir, cursor, TotalMode.from(total)))
                 .map(CastMemberApiPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String castMemberId) {
-        return CastMemberApiPresenter.present(this.getCastMemberByIdUseCase.execute(castMemberId));
+    public ResponseEntity<CastMemberResponse> getById(final String castMemberId, final HttpHeaders headers) {
+        if (isConditional(headers)) {
+            final var lastModified = this.getCastMemberLastModifiedUseCase.execute(castMemberId);
+            final var eTag = eTagOf(lastModified);
+            if (isNotModified(headers, eTag, lastModified)) {
+                return notModified(eTag, lastModified);
+            }
+        }
+
+        final var output = this.getCastMemberByIdUseCase.execute(castMemberId);
+
+        return ResponseEntity.ok()
+                .eTag(eTagOf(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CastMemberApiPresenter.present(output));
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.github.allisson95.codeflix.infrastructure.api.controllers;
+
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.github.allisson95.codeflix.infrastructure.api.CatalogAPI;
+import com.github.allisson95.codeflix.infrastructure.exports.CatalogExportService;
+
+@RestController
+public class CatalogController implements CatalogAPI {
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogExportService catalogExportService;
+
+    public CatalogController(final CatalogExportService catalogExportService) {
+        this.catalogExportService = Objects.requireNonNull(catalogExportService);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final boolean gzip) {
+        final StreamingResponseBody body = out -> {
+            if (gzip) {
+                final var zip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                this.catalogExportService.export(zip);
+                zip.finish();
+            } else {
+                this.catalogExportService.export(out);
+            }
+        };
+
+        final var filename = gzip ? "catalog.ndjson.gz" : "catalog.ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? APPLICATION_GZIP : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+}
@@ -1,24 +1,36 @@
 package com.github.allisson95.codeflix.infrastructure.api.controllers;
 
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.eTagOf;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isConditional;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isNotModified;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.notModified;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryCommand;
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryOutput;
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryUseCase;
+import com.github.allisson95.codeflix.application.category.create.ImportCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.delete.DeleteCategoryUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.list.ListCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.update.UpdateCategoryCommand;
 import com.github.allisson95.codeflix.application.category.update.UpdateCategoryOutput;
 import com.github.allisson95.codeflix.application.category.update.UpdateCategoryUseCase;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.domain.validation.handler.Notification;
 import com.github.allisson95.codeflix.infrastructure.api.CategoryAPI;
 import com.github.allisson95.codeflix.infrastructure.category.models.CategoryResponse;
@@ -26,27 +38,37 @@ import com.github.allisson95.codeflix.infrastructure.category.models.CategoryLis
 import com.github.allisson95.codeflix.infrastructure.category.models.CreateCategoryRequest;
 import com.github.allisson95.codeflix.infrastructure.category.models.UpdateCategoryRequest;
 import com.github.allisson95.codeflix.infrastructure.category.presenters.CategoryApiPresenter;
+import com.github.allisson95.codeflix.infrastructure.imports.NdjsonImporter;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final NdjsonImporter ndjsonImporter;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase) {
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ImportCategoriesUseCase importCategoriesUseCase,
+            final NdjsonImporter ndjsonImporter) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryLastModifiedUseCase = Objects.requireNonNull(getCategoryLastModifiedUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+        this.ndjsonImporter = Objects.requireNonNull(ndjsonImporter);
     }
 
     @Override
@@ -70,21 +92,51 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError, onSuccess);
     }
 
+    @Override
+    public void importCategories(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        this.ndjsonImporter.run(
+                request,
+                response,
+                CreateCategoryRequest.class,
+                inputs -> this.importCategoriesUseCase.execute(inputs.stream()
+                        .map(input -> CreateCategoryCommand.with(
+                                input.name(),
+                                input.description(),
+                                input.active() != null ? input.active() : true))
+                        .toList()),
+                CreateCategoryOutput::id);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String dir) {
+            final String dir,
+            final String cursor,
+            final String total) {
         return this.listCategoriesUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, dir))
+                .execute(new SearchQuery(page, perPage, search, sort, dir, cursor, TotalMode.from(total)))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String categoryId) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(categoryId));
+    public ResponseEntity<CategoryResponse> getById(final String categoryId, final HttpHeaders headers) {
+        if (isConditional(headers)) {
+            final var lastModified = this.getCategoryLastModifiedUseCase.execute(categoryId);
+            final var eTag = eTagOf(lastModified);
+            if (isNotModified(headers, eTag, lastModified)) {
+                return notModified(eTag, lastModified);
+            }
+        }
+
+        final var output = this.getCategoryByIdUseCase.execute(categoryId);
+
+        return ResponseEntity.ok()
+                .eTag(eTagOf(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(CategoryApiPresenter.present(output));
     }
 
     @Override
@@ -1,47 +1,71 @@
 package com.github.allisson95.codeflix.infrastructure.api.controllers;
 
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.eTagOf;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isConditional;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isNotModified;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.notModified;
+
+import java.io.IOException;
 import java.util.Objects;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.github.allisson95.codeflix.application.genre.create.CreateGenreCommand;
+import com.github.allisson95.codeflix.application.genre.create.CreateGenreOutput;
 import com.github.allisson95.codeflix.application.genre.create.CreateGenreUseCase;
+import com.github.allisson95.codeflix.application.genre.create.ImportGenresUseCase;
 import com.github.allisson95.codeflix.application.genre.delete.DeleteGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.list.ListGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.update.UpdateGenreCommand;
 import com.github.allisson95.codeflix.application.genre.update.UpdateGenreUseCase;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.infrastructure.api.GenreAPI;
 import com.github.allisson95.codeflix.infrastructure.genre.models.CreateGenreRequest;
 import com.github.allisson95.codeflix.infrastructure.genre.models.GenreListResponse;
 import com.github.allisson95.codeflix.infrastructure.genre.models.GenreResponse;
 import com.github.allisson95.codeflix.infrastructure.genre.models.UpdateGenreRequest;
 import com.github.allisson95.codeflix.infrastructure.genre.presenters.GenreApiPresenter;
+import com.github.allisson95.codeflix.infrastructure.imports.NdjsonImporter;
 
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final ImportGenresUseCase importGenresUseCase;
+    private final NdjsonImporter ndjsonImporter;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
+            final GetGenreLastModifiedUseCase getGenreLastModifiedUseCase,
             final UpdateGenreUseCase updateGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
-            final ListGenreUseCase listGenreUseCase) {
+            final ListGenreUseCase listGenreUseCase,
+            final ImportGenresUseCase importGenresUseCase,
+            final NdjsonImporter ndjsonImporter) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.getGenreLastModifiedUseCase = Objects.requireNonNull(getGenreLastModifiedUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.importGenresUseCase = Objects.requireNonNull(importGenresUseCase);
+        this.ndjsonImporter = Objects.requireNonNull(ndjsonImporter);
     }
 
     @Override
@@ -58,20 +82,47 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.created(location).body(output);
     }
 
+    @Override
+    public void importGenres(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        this.ndjsonImporter.run(
+                request,
+                response,
+                CreateGenreRequest.class,
+                inputs -> this.importGenresUseCase.execute(inputs.stream()
+                        .map(input -> CreateGenreCommand.with(input.name(), input.active(), input.categories()))
+                        .toList()),
+                CreateGenreOutput::id);
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String dir) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, dir))
+            final String dir,
+            final String cursor,
+            final String total) {
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, dir, cursor, TotalMode.from(total)))
                 .map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id, final HttpHeaders headers) {
+        if (isConditional(headers)) {
+            final var lastModified = this.getGenreLastModifiedUseCase.execute(id);
+            final var eTag = eTagOf(lastModified);
+            if (isNotModified(headers, eTag, lastModified)) {
+                return notModified(eTag, lastModified);
+            }
+        }
+
+        final var output = this.getGenreByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(eTagOf(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(GenreApiPresenter.present(output));
     }
 
     @Override
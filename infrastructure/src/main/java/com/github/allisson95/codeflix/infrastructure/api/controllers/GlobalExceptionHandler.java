@@ -2,6 +2,7 @@ package com.github.allisson95.codeflix.infrastructure.api.controllers;
 
 import java.util.List;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,6 +25,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    // A concurrent request changed the same aggregate first; the client reloads it and decides whether to retry
+    @ExceptionHandler({ OptimisticLockingFailureException.class })
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(final OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiError("The resource was changed by another request", List.of()));
+    }
+
     record ApiError(String message, List<Error> errors) {
 
         public static ApiError from(final DomainException ex) {
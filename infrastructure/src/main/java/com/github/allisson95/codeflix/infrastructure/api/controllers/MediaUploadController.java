@@ -0,0 +1,130 @@
+package com.github.allisson95.codeflix.infrastructure.api.controllers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkCommand;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.complete.CompleteMediaUploadSessionCommand;
+import com.github.allisson95.codeflix.application.video.media.session.complete.CompleteMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionCommand;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.get.GetMediaUploadSessionCommand;
+import com.github.allisson95.codeflix.application.video.media.session.get.GetMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.infrastructure.api.MediaUploadAPI;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.uploads.UploadProperties;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+import com.github.allisson95.codeflix.infrastructure.video.models.CreateMediaUploadSessionRequest;
+import com.github.allisson95.codeflix.infrastructure.video.models.MediaUploadSessionResponse;
+import com.github.allisson95.codeflix.infrastructure.video.models.UploadMediaChunkResponse;
+import com.github.allisson95.codeflix.infrastructure.video.presenters.VideoApiPresenter;
+
+@RestController
+public class MediaUploadController implements MediaUploadAPI {
+
+    private static final String DEFAULT_CHUNK_CONTENT_TYPE = "application/octet-stream";
+
+    private final CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase;
+    private final GetMediaUploadSessionUseCase getMediaUploadSessionUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final CompleteMediaUploadSessionUseCase completeMediaUploadSessionUseCase;
+    private final UploadProperties uploadProperties;
+
+    public MediaUploadController(
+            final CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase,
+            final GetMediaUploadSessionUseCase getMediaUploadSessionUseCase,
+            final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+            final CompleteMediaUploadSessionUseCase completeMediaUploadSessionUseCase,
+            final UploadProperties uploadProperties) {
+        this.createMediaUploadSessionUseCase = Objects.requireNonNull(createMediaUploadSessionUseCase);
+        this.getMediaUploadSessionUseCase = Objects.requireNonNull(getMediaUploadSessionUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.completeMediaUploadSessionUseCase = Objects.requireNonNull(completeMediaUploadSessionUseCase);
+        this.uploadProperties = Objects.requireNonNull(uploadProperties);
+    }
+
+    @Override
+    public ResponseEntity<?> create(final String id, final String type, final CreateMediaUploadSessionRequest request) {
+        final var aCommand = CreateMediaUploadSessionCommand.with(
+                id,
+                type,
+                request.name(),
+                request.contentType(),
+                request.size() != null ? request.size() : 0L);
+
+        final var output = this.createMediaUploadSessionUseCase.execute(aCommand);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.id())))
+                .body(output);
+    }
+
+    @Override
+    public MediaUploadSessionResponse getById(final String id, final String type, final String sessionId) {
+        return VideoApiPresenter.present(
+                this.getMediaUploadSessionUseCase.execute(GetMediaUploadSessionCommand.with(id, type, sessionId)));
+    }
+
+    @Override
+    public UploadMediaChunkResponse uploadChunk(
+            final String id,
+            final String type,
+            final String sessionId,
+            final int part,
+            final long offset,
+            final String contentType,
+            final HttpServletRequest request) throws IOException {
+        final var content = readChunk(request);
+        final var aChunk = Resource.of(
+                HashingUtils.checksum(content),
+                content,
+                contentType != null ? contentType : DEFAULT_CHUNK_CONTENT_TYPE,
+                "part-%d".formatted(part));
+
+        final var aCommand = UploadMediaChunkCommand.with(id, type, sessionId, part, offset, aChunk);
+
+        return VideoApiPresenter.present(this.uploadMediaChunkUseCase.execute(aCommand));
+    }
+
+    @Override
+    public ResponseEntity<?> complete(final String id, final String type, final String sessionId) {
+        final var aCommand = CompleteMediaUploadSessionCommand.with(id, type, sessionId);
+
+        final var output = this.completeMediaUploadSessionUseCase.execute(aCommand);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    // The declared length is checked first and the read is capped anyway, since a chunked body declares none
+    private byte[] readChunk(final HttpServletRequest request) throws IOException {
+        final var maxChunkSize = (int) Math.min(Integer.MAX_VALUE - 1, this.uploadProperties.getMaxChunkSize().toBytes());
+
+        if (request.getContentLengthLong() > maxChunkSize) {
+            throw chunkTooLarge(maxChunkSize);
+        }
+
+        try (final var in = request.getInputStream()) {
+            final var content = in.readNBytes(maxChunkSize + 1);
+            if (content.length > maxChunkSize) {
+                throw chunkTooLarge(maxChunkSize);
+            }
+            return content;
+        }
+    }
+
+    private static DomainException chunkTooLarge(final long maxChunkSize) {
+        return DomainException.with(new Error("Chunk is larger than the maximum chunk size of %d bytes".formatted(maxChunkSize)));
+    }
+
+}
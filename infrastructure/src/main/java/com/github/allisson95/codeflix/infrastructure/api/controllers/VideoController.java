@@ -1,25 +1,47 @@
 package com.github.allisson95.codeflix.infrastructure.api.controllers;
 
 import static com.github.allisson95.codeflix.domain.utils.CollectionUtils.mapTo;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.eTagOf;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isConditional;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.isNotModified;
+import static com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils.notModified;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.github.allisson95.codeflix.application.video.create.CreateVideoCommand;
+import com.github.allisson95.codeflix.application.video.create.CreateVideoOutput;
 import com.github.allisson95.codeflix.application.video.create.CreateVideoUseCase;
+import com.github.allisson95.codeflix.application.video.create.ImportVideosUseCase;
 import com.github.allisson95.codeflix.application.video.delete.DeleteVideoUseCase;
 import com.github.allisson95.codeflix.application.video.media.get.GetMediaCommand;
 import com.github.allisson95.codeflix.application.video.media.get.GetMediaUseCase;
+import com.github.allisson95.codeflix.application.video.media.get.GetMediaVersionUseCase;
+import com.github.allisson95.codeflix.application.video.media.get.MediaOutput;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaCommand;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.list.ListVideoUseCase;
 import com.github.allisson95.codeflix.application.video.update.UpdateVideoCommand;
 import com.github.allisson95.codeflix.application.video.update.UpdateVideoUseCase;
@@ -28,12 +50,14 @@ import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.domain.validation.Error;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoResource;
 import com.github.allisson95.codeflix.domain.video.VideoSearchQuery;
 import com.github.allisson95.codeflix.infrastructure.api.VideoAPI;
+import com.github.allisson95.codeflix.infrastructure.imports.NdjsonImporter;
 import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
 import com.github.allisson95.codeflix.infrastructure.video.models.CreateVideoRequest;
 import com.github.allisson95.codeflix.infrastructure.video.models.UpdateVideoRequest;
@@ -44,29 +68,43 @@ import com.github.allisson95.codeflix.infrastructure.video.presenters.VideoApiPr
 @RestController
 public class VideoController implements VideoAPI {
 
+    private static final String SERVER_TIMING = "Server-Timing";
+
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideoUseCase listVideoUseCase;
     private final GetMediaUseCase getMediaUseCase;
+    private final GetMediaVersionUseCase getMediaVersionUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final ImportVideosUseCase importVideosUseCase;
+    private final NdjsonImporter ndjsonImporter;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
             final GetVideoByIdUseCase getVideoByIdUseCase,
+            final GetVideoLastModifiedUseCase getVideoLastModifiedUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideoUseCase listVideoUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase) {
+            final GetMediaVersionUseCase getMediaVersionUseCase,
+            final UploadMediaUseCase uploadMediaUseCase,
+            final ImportVideosUseCase importVideosUseCase,
+            final NdjsonImporter ndjsonImporter) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.getVideoLastModifiedUseCase = Objects.requireNonNull(getVideoLastModifiedUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideoUseCase = Objects.requireNonNull(listVideoUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.getMediaVersionUseCase = Objects.requireNonNull(getMediaVersionUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.importVideosUseCase = Objects.requireNonNull(importVideosUseCase);
+        this.ndjsonImporter = Objects.requireNonNull(ndjsonImporter);
     }
 
     @Override
@@ -78,7 +116,9 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembersIds,
             final Set<String> categoriesIds,
-            final Set<String> genresIds) {
+            final Set<String> genresIds,
+            final String cursor,
+            final String total) {
         final var aQuery = new VideoSearchQuery(
                 page,
                 perPage,
@@ -87,7 +127,9 @@ public class VideoController implements VideoAPI {
                 direction,
                 mapTo(castMembersIds, CastMemberID::from),
                 mapTo(categoriesIds, CategoryID::from),
-                mapTo(genresIds, GenreID::from));
+                mapTo(genresIds, GenreID::from),
+                cursor,
+                TotalMode.from(total));
 
         return VideoApiPresenter.present(this.listVideoUseCase.execute(aQuery));
     }
@@ -130,7 +172,8 @@ public class VideoController implements VideoAPI {
 
         return ResponseEntity
                 .created(URI.create("/videos/" + output.id()))
-                .body(output);
+                .headers(headers -> serverTimingOf(output).ifPresent(it -> headers.set(SERVER_TIMING, it)))
+                .body(VideoApiPresenter.present(output));
     }
 
     @Override
@@ -151,12 +194,48 @@ public class VideoController implements VideoAPI {
 
         return ResponseEntity
                 .created(URI.create("/videos/" + output.id()))
-                .body(output);
+                .headers(headers -> serverTimingOf(output).ifPresent(it -> headers.set(SERVER_TIMING, it)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public void importVideos(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        this.ndjsonImporter.run(
+                request,
+                response,
+                CreateVideoRequest.class,
+                inputs -> this.importVideosUseCase.execute(inputs.stream()
+                        .map(input -> CreateVideoCommand.with(
+                                input.title(),
+                                input.description(),
+                                input.yearLaunched(),
+                                input.duration(),
+                                input.rating(),
+                                input.opened(),
+                                input.published(),
+                                input.categories(),
+                                input.genres(),
+                                input.castMembers()))
+                        .toList()),
+                CreateVideoOutput::id);
     }
 
     @Override
-    public VideoResponse getById(final String id) {
-        return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(id));
+    public ResponseEntity<VideoResponse> getById(final String id, final HttpHeaders headers) {
+        if (isConditional(headers)) {
+            final var lastModified = this.getVideoLastModifiedUseCase.execute(id);
+            final var eTag = eTagOf(lastModified);
+            if (isNotModified(headers, eTag, lastModified)) {
+                return notModified(eTag, lastModified);
+            }
+        }
+
+        final var output = this.getVideoByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(eTagOf(output.updatedAt()))
+                .lastModified(output.updatedAt())
+                .body(VideoApiPresenter.present(output));
     }
 
     @Override
@@ -185,14 +264,54 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
-        final var aMedia = this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange,
+            final HttpHeaders headers,
+            final HttpMethod method) {
+        final var aCommand = GetMediaCommand.with(id, type);
+        final var aVersion = this.getMediaVersionUseCase.execute(aCommand);
+        final var lastModified = aVersion.lastModified();
 
-        return ResponseEntity.ok()
+        if (isNotModified(headers, eTagOf(aVersion.checksum()), lastModified)) {
+            return notModified(eTagOf(aVersion.checksum()), lastModified);
+        }
+
+        final var aMedia = this.getMediaUseCase.execute(aCommand);
+        final var size = aMedia.size();
+        final var eTag = eTagOf(aMedia.checksum());
+
+        final var aRange = rangeOf(range, ifRange, eTag);
+
+        final var start = aRange != null ? aRange.getRangeStart(size) : 0L;
+        final var end = aRange != null ? aRange.getRangeEnd(size) : size - 1;
+        final var length = end - start + 1;
+
+        if (aRange != null && (start >= size || length <= 0)) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                    .build();
+        }
+
+        final var response = ResponseEntity.status(aRange != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
                 .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+                .contentLength(length)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        if (aRange != null) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, size));
+        }
+
+        if (HttpMethod.HEAD.equals(method)) {
+            return response.build();
+        }
+
+        return response.body(streamOf(aMedia, start, length));
     }
 
     @Override
@@ -210,6 +329,36 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    private Optional<String> serverTimingOf(final CreateVideoOutput output) {
+        if (output.mediaTimings() == null || output.mediaTimings().isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(output.mediaTimings().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(it -> String.format(Locale.ROOT, "media-%s;dur=%.3f",
+                        it.getKey().name().toLowerCase(Locale.ROOT),
+                        it.getValue().toNanos() / 1_000_000.0))
+                .collect(Collectors.joining(", ")));
+    }
+
+    private HttpRange rangeOf(final String range, final String ifRange, final String eTag) {
+        if (range == null || (ifRange != null && !ifRange.equals(eTag))) {
+            return null;
+        }
+
+        try {
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private StreamingResponseBody streamOf(final MediaOutput aMedia, final long start, final long length) {
+        return out -> aMedia.content().transferTo(start, length, Channels.newChannel(out));
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
@@ -217,8 +366,9 @@ public class VideoController implements VideoAPI {
 
         try {
             return Resource.of(
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getBytes(),
+                    HashingUtils.checksum(part.getInputStream()),
+                    part::getInputStream,
+                    part.getSize(),
                     part.getContentType(),
                     part.getOriginalFilename());
         } catch (final Exception e) {
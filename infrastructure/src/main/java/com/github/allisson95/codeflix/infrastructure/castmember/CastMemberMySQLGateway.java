@@ -1,47 +1,75 @@
 package com.github.allisson95.codeflix.infrastructure.castmember;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.allisson95.codeflix.domain.castmember.CastMember;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
 import com.github.allisson95.codeflix.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.castmember.persistence.CastMemberRepository;
-import com.github.allisson95.codeflix.infrastructure.utils.SpecificationUtils;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.github.allisson95.codeflix.infrastructure.pagination.PageQuery;
+import com.github.allisson95.codeflix.infrastructure.pagination.Paginator;
+import com.github.allisson95.codeflix.infrastructure.pagination.Relevance;
+import com.github.allisson95.codeflix.infrastructure.pagination.TextSearch;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final Paginator paginator;
+    private final TextSearch textSearch;
+    private final CatalogIds catalogIds;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final Paginator paginator,
+            final TextSearch textSearch,
+            final CatalogIds catalogIds) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.catalogIds = Objects.requireNonNull(catalogIds);
     }
 
     @Override
     public CastMember create(final CastMember aCastMember) {
-        return save(aCastMember);
+        return save(CastMemberJpaEntity.from(aCastMember).asNew());
+    }
+
+    @Transactional
+    @Override
+    public List<CastMember> createAll(final List<CastMember> aCastMembers) {
+        final var entities = this.castMemberRepository.saveAll(aCastMembers.stream()
+                .map(it -> CastMemberJpaEntity.from(it).asNew())
+                .toList());
+        entities.forEach(this.textSearch::index);
+        entities.forEach(it -> this.catalogIds.added(CastMemberJpaEntity.class, it.getId()));
+        return entities.stream().map(CastMemberJpaEntity::toAggregate).toList();
     }
 
+    @Transactional
     @Override
     public void deleteById(final CastMemberID anId) {
         final var anIdValue = anId.getValue();
-        if (this.castMemberRepository.existsById(anIdValue)) {
-            this.castMemberRepository.deleteById(anIdValue);
+        this.castMemberRepository.touchVideosByCastMemberId(anIdValue, InstantUtils.now());
+        if (this.castMemberRepository.deleteRowById(anIdValue) > 0) {
+            this.textSearch.remove(CastMemberJpaEntity.class, anIdValue);
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<CastMember> findById(final CastMemberID anId) {
         final var anIdValue = anId.getValue();
@@ -49,30 +77,32 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Transactional
+    @Override
+    public Optional<CastMember> findForUpdate(final CastMemberID anId) {
+        return this.castMemberRepository.findById(anId.getValue())
+                .map(CastMemberJpaEntity::toAggregate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Instant> findLastModifiedById(final CastMemberID anId) {
+        return this.castMemberRepository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
-
-        final var spec = Optional.ofNullable(aQuery.terms())
-                .filter(terms -> !terms.isBlank())
-                .map(terms -> SpecificationUtils.<CastMemberJpaEntity>like("name", terms))
-                .orElse(null);
-
-        final var pageResult = this.castMemberRepository.findAll(Specification.where(spec), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList());
+        final Specification<CastMemberJpaEntity> spec = this.textSearch.matching(CastMemberJpaEntity.class, aQuery.terms(), "name");
+        final Relevance<CastMemberJpaEntity> relevance = this.textSearch.relevance(aQuery.terms(), "name");
+
+        return this.paginator.findAll(CastMemberJpaEntity.class, spec, PageQuery.of(aQuery), relevance)
+                .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
     public CastMember update(final CastMember aCastMember) {
-        return save(aCastMember);
+        return save(CastMemberJpaEntity.from(aCastMember));
     }
 
     @Override
@@ -81,14 +111,16 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
                 .map(CastMemberID::getValue)
                 .toList();
 
-        return this.castMemberRepository.existsByIds(ids)
-                .stream()
+        return this.castMemberRepository.existsByIds(ids).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
-    private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)).toAggregate();
+    private CastMember save(final CastMemberJpaEntity anEntity) {
+        final var entity = this.castMemberRepository.save(anEntity);
+        this.textSearch.index(entity);
+        this.catalogIds.added(CastMemberJpaEntity.class, entity.getId());
+        return entity.toAggregate();
     }
 
 }
@@ -7,7 +7,12 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
 
 import com.github.allisson95.codeflix.domain.castmember.CastMember;
 import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
@@ -15,7 +20,7 @@ import com.github.allisson95.codeflix.domain.castmember.CastMemberType;
 
 @Entity(name = "CastMember")
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -33,6 +38,9 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CastMemberJpaEntity() {
     }
 
@@ -67,6 +75,23 @@ public class CastMemberJpaEntity {
                 getUpdatedAt());
     }
 
+    public CastMemberJpaEntity asNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
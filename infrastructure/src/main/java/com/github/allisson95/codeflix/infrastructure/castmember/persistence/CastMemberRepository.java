@@ -1,11 +1,15 @@
 package com.github.allisson95.codeflix.infrastructure.castmember.persistence;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CastMemberRepository
         extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity> {
@@ -13,4 +17,17 @@ public interface CastMemberRepository
     @Query(value = "SELECT c.id FROM CastMember c WHERE c.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
+    @Query(value = "SELECT c.updatedAt FROM CastMember c WHERE c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Video v SET v.updatedAt = :now WHERE v.id IN (SELECT vcm.id.videoId FROM VideoCastMember vcm WHERE vcm.id.castMemberId = :id)")
+    int touchVideosByCastMemberId(@Param("id") String id, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CastMember c WHERE c.id = :id")
+    int deleteRowById(@Param("id") String id);
+
 }
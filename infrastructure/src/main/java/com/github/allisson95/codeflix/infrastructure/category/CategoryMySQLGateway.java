@@ -1,85 +1,114 @@
 package com.github.allisson95.codeflix.infrastructure.category;
 
-import static com.github.allisson95.codeflix.infrastructure.utils.SpecificationUtils.like;
-
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.github.allisson95.codeflix.domain.category.Category;
 import com.github.allisson95.codeflix.domain.category.CategoryGateway;
 import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
 import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryRepository;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.github.allisson95.codeflix.infrastructure.pagination.PageQuery;
+import com.github.allisson95.codeflix.infrastructure.pagination.Paginator;
+import com.github.allisson95.codeflix.infrastructure.pagination.Relevance;
+import com.github.allisson95.codeflix.infrastructure.pagination.TextSearch;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
-
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    private final Paginator paginator;
+    private final TextSearch textSearch;
+    private final CatalogIds catalogIds;
+
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final Paginator paginator,
+            final TextSearch textSearch,
+            final CatalogIds catalogIds) {
         this.repository = repository;
+        this.paginator = paginator;
+        this.textSearch = textSearch;
+        this.catalogIds = catalogIds;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return save(CategoryJpaEntity.from(aCategory).asNew());
     }
 
+    @Transactional
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = this.repository.saveAll(aCategories.stream()
+                .map(it -> CategoryJpaEntity.from(it).asNew())
+                .toList());
+        entities.forEach(this.textSearch::index);
+        entities.forEach(it -> this.catalogIds.added(CategoryJpaEntity.class, it.getId()));
+        return entities.stream().map(CategoryJpaEntity::toAggregate).toList();
+    }
+
+    // The genres and videos that lose this category change their representation, so their validators must move too
+    @Transactional
     @Override
     public void deleteById(final CategoryID anId) {
         final String anIdValue = anId.getValue();
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+        final var now = InstantUtils.now();
+        this.repository.touchGenresByCategoryId(anIdValue, now);
+        this.repository.touchVideosByCategoryId(anIdValue, now);
+        if (this.repository.deleteRowById(anIdValue) > 0) {
+            this.textSearch.remove(CategoryJpaEntity.class, anIdValue);
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Category> findById(final CategoryID anId) {
         return this.repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
     }
 
+    @Transactional
+    @Override
+    public Optional<Category> findForUpdate(final CategoryID anId) {
+        return this.repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Instant> findLastModifiedById(final CategoryID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
-
-        final var spec = Optional.ofNullable(aQuery.terms())
-                .filter(terms -> !terms.isBlank())
-                .map(terms -> {
-                    final Specification<CategoryJpaEntity> nameLike = like("name", terms);
-                    final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
-
-                    return nameLike.or(descriptionLike);
-                })
-                .orElse(null);
-
-        final var pageResult = this.repository.findAll(Specification.where(spec), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList());
+        final Specification<CategoryJpaEntity> spec = this.textSearch.matching(CategoryJpaEntity.class, aQuery.terms(), "name", "description");
+        final Relevance<CategoryJpaEntity> relevance = this.textSearch.relevance(aQuery.terms(), "name", "description");
+
+        return this.paginator.findAll(CategoryJpaEntity.class, spec, PageQuery.of(aQuery), relevance)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        return save(CategoryJpaEntity.from(aCategory));
     }
 
-    private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    private Category save(final CategoryJpaEntity anEntity) {
+        final var entity = this.repository.save(anEntity);
+        this.textSearch.index(entity);
+        this.catalogIds.added(CategoryJpaEntity.class, entity.getId());
+        return entity.toAggregate();
     }
 
     @Override
@@ -88,8 +117,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(CategoryID::getValue)
                 .toList();
 
-        return this.repository.existsByIds(ids)
-                .stream()
+        return this.repository.existsByIds(ids).stream()
                 .map(CategoryID::from)
                 .toList();
     }
@@ -1,11 +1,15 @@
 package com.github.allisson95.codeflix.infrastructure.category.persistence;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CategoryRepository
         extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
@@ -13,4 +17,22 @@ public interface CategoryRepository
     @Query(value = "SELECT c.id FROM Category c WHERE c.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
+    @Query(value = "SELECT c.updatedAt FROM Category c WHERE c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Genre g SET g.updatedAt = :now WHERE g.id IN (SELECT gc.id.genreId FROM GenreCategoryJpaEntity gc WHERE gc.id.categoryId = :id)")
+    int touchGenresByCategoryId(@Param("id") String id, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Video v SET v.updatedAt = :now WHERE v.id IN (SELECT vc.id.videoId FROM VideoCategory vc WHERE vc.id.categoryId = :id)")
+    int touchVideosByCategoryId(@Param("id") String id, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE c.id = :id")
+    int deleteRowById(@Param("id") String id);
+
 }
@@ -0,0 +1,81 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.annotations.ReaderDataSource;
+import com.github.allisson95.codeflix.infrastructure.configuration.annotations.WriterDataSource;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.datasource.ReplicaDataSourceProperties;
+import com.github.allisson95.codeflix.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.github.allisson95.codeflix.infrastructure.datasource.ReadYourWrites;
+import com.github.allisson95.codeflix.infrastructure.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.replica")
+    public ReplicaDataSourceProperties replicaDataSourceProperties() {
+        return new ReplicaDataSourceProperties();
+    }
+
+    @Bean
+    @WriterDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource writerDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // The replica inherits the primary pool settings (auto-commit, driver properties) and only swaps the target
+    @Bean
+    @ReaderDataSource
+    public HikariDataSource readerDataSource(
+            @WriterDataSource final HikariDataSource writerDataSource,
+            final ReplicaDataSourceProperties properties) {
+        final var config = new HikariConfig();
+        writerDataSource.copyStateTo(config);
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setPoolName(properties.getPoolName());
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+        config.setMinimumIdle(properties.getMinimumIdle());
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(final ReplicaDataSourceProperties properties) {
+        return new ReadYourWrites(properties.getReadYourWritesWindow(), properties.getReadYourWritesMaxClients());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            final ReadYourWrites readYourWrites,
+            final ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesFilter(readYourWrites, properties.getReadYourWritesWindow());
+    }
+
+    // The connection is fetched lazily so the routing runs after the transaction is flagged read-only
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @WriterDataSource final HikariDataSource writerDataSource,
+            @ReaderDataSource final HikariDataSource readerDataSource,
+            final ReadYourWrites readYourWrites) {
+        final var routing = new ReadReplicaRoutingDataSource(writerDataSource, readerDataSource, readYourWrites);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.existence.IdFilterProperties;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+@Configuration
+public class ExistenceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "ids.filter")
+    public IdFilterProperties idFilterProperties() {
+        return new IdFilterProperties();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnProperty(prefix = "ids.filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ScheduledExecutorService idFilterScheduler(
+            final IdFilterProperties properties,
+            final CatalogIds catalogIds) {
+        final var scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("id-filter-%d").setDaemon(true).build());
+        final var interval = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(catalogIds, 0, interval, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+}
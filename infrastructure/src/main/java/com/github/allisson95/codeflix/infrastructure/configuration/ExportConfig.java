@@ -0,0 +1,25 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.allisson95.codeflix.infrastructure.exports.CatalogExportService;
+import com.github.allisson95.codeflix.infrastructure.exports.CatalogExporter;
+
+@Configuration
+public class ExportConfig {
+
+    @Bean
+    public CatalogExporter catalogExporter(final ObjectMapper mapper) {
+        return new CatalogExporter(mapper);
+    }
+
+    @Bean
+    public CatalogExportService catalogExportService(final DataSource dataSource, final CatalogExporter catalogExporter) {
+        return new CatalogExportService(dataSource, catalogExporter);
+    }
+
+}
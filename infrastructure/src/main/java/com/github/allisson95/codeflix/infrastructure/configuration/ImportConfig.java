@@ -0,0 +1,25 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.imports.ImportProperties;
+import com.github.allisson95.codeflix.infrastructure.imports.NdjsonImporter;
+
+@Configuration
+public class ImportConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "imports")
+    public ImportProperties importProperties() {
+        return new ImportProperties();
+    }
+
+    @Bean
+    public NdjsonImporter ndjsonImporter(final ObjectMapper mapper, final ImportProperties properties) {
+        return new NdjsonImporter(mapper, properties);
+    }
+
+}
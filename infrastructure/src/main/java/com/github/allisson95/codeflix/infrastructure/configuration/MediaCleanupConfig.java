@@ -0,0 +1,37 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.github.allisson95.codeflix.infrastructure.video.MediaCleanupWorker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+@Configuration
+public class MediaCleanupConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "storage.video-catalog.cleanup")
+    public MediaCleanupProperties mediaCleanupProperties() {
+        return new MediaCleanupProperties();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnProperty(prefix = "storage.video-catalog.cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ScheduledExecutorService mediaCleanupScheduler(
+            final MediaCleanupProperties properties,
+            final MediaCleanupWorker mediaCleanupWorker) {
+        final var scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("media-cleanup-%d").setDaemon(true).build());
+        final var interval = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(mediaCleanupWorker, interval, interval, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+}
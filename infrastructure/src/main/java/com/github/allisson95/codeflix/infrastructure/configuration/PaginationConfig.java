@@ -0,0 +1,18 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.pagination.PaginationProperties;
+
+@Configuration
+public class PaginationConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "pagination")
+    public PaginationProperties paginationProperties() {
+        return new PaginationProperties();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.search.SearchIndexProperties;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.search.SearchProperties;
+import com.github.allisson95.codeflix.infrastructure.search.CatalogSearchIndex;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "search")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "search.index")
+    public SearchIndexProperties searchIndexProperties() {
+        return new SearchIndexProperties();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    @ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ScheduledExecutorService searchIndexScheduler(
+            final SearchIndexProperties properties,
+            final CatalogSearchIndex catalogSearchIndex) {
+        final var scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("search-index-%d").setDaemon(true).build());
+        final var interval = properties.getRefreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(catalogSearchIndex, 0, interval, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+}
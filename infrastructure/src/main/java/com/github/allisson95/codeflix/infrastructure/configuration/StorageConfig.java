@@ -1,5 +1,11 @@
 package com.github.allisson95.codeflix.infrastructure.configuration;
 
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -7,11 +13,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
 import com.github.allisson95.codeflix.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.FileSystemStorageProperties;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.InMemoryStorageProperties;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.StorageCacheProperties;
 import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.StorageProperties;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.services.impl.CachingStorageService;
+import com.github.allisson95.codeflix.infrastructure.services.impl.FileSystemStorageService;
 import com.github.allisson95.codeflix.infrastructure.services.impl.GCStorageService;
 import com.github.allisson95.codeflix.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 @Configuration
 public class StorageConfig {
@@ -22,18 +36,83 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
-    @Profile({ "development", "production" })
+    @Bean
+    @ConfigurationProperties(prefix = "storage.video-catalog.cache")
+    public StorageCacheProperties storageCacheProperties() {
+        return new StorageCacheProperties();
+    }
+
+    @Profile("(development | production) & !filesystem")
     @Bean(name = "storageService")
     public StorageService gcStorageService(
             final GoogleStorageProperties properties,
+            final StorageCacheProperties cacheProperties,
+            final ExecutorService storageCacheFillPool,
             final Storage storage) {
-        return new GCStorageService(properties.getBucket(), storage);
+        final var gcStorageService = new GCStorageService(properties.getBucket(), storage);
+
+        if (!cacheProperties.isEnabled()) {
+            return gcStorageService;
+        }
+
+        return new CachingStorageService(
+                gcStorageService,
+                cacheProperties.getMemoryMaxSize().toBytes(),
+                cacheProperties.getMemoryMaxObjectSize().toBytes(),
+                Path.of(cacheProperties.getDiskDirectory()),
+                cacheProperties.getDiskMaxSize().toBytes(),
+                cacheProperties.getDiskMaxObjectSize().toBytes(),
+                storageCacheFillPool);
+    }
+
+    // A rejected fill is simply skipped and the object stays uncached until its next miss
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService storageCacheFillPool(final StorageCacheProperties cacheProperties) {
+        final var concurrency = cacheProperties.getDiskFillConcurrency();
+        final var executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency * 4),
+                new ThreadFactoryBuilder().setNameFormat("storage-cache-fill-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder storageCacheMetrics(final StorageService storageService) {
+        return registry -> {
+            if (storageService instanceof CachingStorageService cachingStorageService) {
+                cachingStorageService.bindTo(registry);
+            }
+        };
+    }
+
+    @Profile("filesystem")
+    @Bean
+    @ConfigurationProperties(prefix = "storage.video-catalog.filesystem")
+    public FileSystemStorageProperties fileSystemStorageProperties() {
+        return new FileSystemStorageProperties();
+    }
+
+    @Profile("filesystem")
+    @Bean(name = "storageService")
+    public StorageService fileSystemStorageService(final FileSystemStorageProperties properties) {
+        return new FileSystemStorageService(Path.of(properties.getRoot()));
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "storage.video-catalog.in-memory")
+    public InMemoryStorageProperties inMemoryStorageProperties() {
+        return new InMemoryStorageProperties();
     }
 
     @ConditionalOnMissingBean
     @Bean(name = "storageService")
-    public StorageService inMemoryStorageService() {
-        return new InMemoryStorageService();
+    public StorageService inMemoryStorageService(final InMemoryStorageProperties properties) {
+        return new InMemoryStorageService(properties.getMaxSize().toBytes());
     }
 
 }
@@ -0,0 +1,18 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.uploads.UploadProperties;
+
+@Configuration
+public class UploadConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "uploads")
+    public UploadProperties uploadProperties() {
+        return new UploadProperties();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.github.allisson95.codeflix.infrastructure.configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.validation.ValidationProperties;
+import com.github.allisson95.codeflix.infrastructure.datasource.ReadYourWrites;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "validation")
+    public ValidationProperties validationProperties() {
+        return new ValidationProperties();
+    }
+
+    // Each lookup holds a pooled connection, so the pool stays small; when it is saturated the request thread runs the lookup itself
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService referenceLookupPool(final ValidationProperties validationProperties) {
+        final var concurrency = validationProperties.getReferenceLookupConcurrency();
+        final var executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency * 4),
+                new ThreadFactoryBuilder().setNameFormat("reference-lookup-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // The lookups are read-only queries; without the caller's client a pinned writer would read them from the replica
+    @Bean
+    public Executor referenceLookupExecutor(final ExecutorService referenceLookupPool) {
+        return ReadYourWrites.propagating(referenceLookupPool);
+    }
+
+}
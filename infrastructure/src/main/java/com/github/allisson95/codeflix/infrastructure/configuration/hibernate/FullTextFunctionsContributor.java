@@ -0,0 +1,35 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.hibernate;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+    public static final int MAX_COLUMNS = 3;
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        for (int columns = 1; columns <= MAX_COLUMNS; columns++) {
+            final var columnsArgs = IntStream.rangeClosed(1, columns)
+                    .mapToObj(it -> "?" + it)
+                    .collect(Collectors.joining(", "));
+
+            metadataBuilder.applySqlFunction(
+                    functionName(columns),
+                    new SQLFunctionTemplate(
+                            StandardBasicTypes.DOUBLE,
+                            "MATCH (%s) AGAINST (?%d IN BOOLEAN MODE)".formatted(columnsArgs, columns + 1)));
+        }
+    }
+
+    public static String functionName(final int columns) {
+        return MATCH_AGAINST + "_" + columns;
+    }
+
+}
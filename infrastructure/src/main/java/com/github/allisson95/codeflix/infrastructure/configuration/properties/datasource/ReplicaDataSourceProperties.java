@@ -0,0 +1,118 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.datasource;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ReplicaDataSourceProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceProperties.class);
+
+    private boolean enabled;
+    private String url;
+    private String username;
+    private String password;
+    private String poolName = "replica";
+    private int maximumPoolSize = 20;
+    private int minimumIdle = 10;
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private long readYourWritesMaxClients = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public long getReadYourWritesMaxClients() {
+        return readYourWritesMaxClients;
+    }
+
+    public void setReadYourWritesMaxClients(long readYourWritesMaxClients) {
+        this.readYourWritesMaxClients = readYourWritesMaxClients;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                enabled: {}
+                url: {}
+                username: {}
+                pool-name: {}
+                maximum-pool-size: {}
+                minimum-idle: {}
+                read-your-writes-window: {}
+                read-your-writes-max-clients: {}
+                    """,
+                isEnabled(),
+                getUrl(),
+                getUsername(),
+                getPoolName(),
+                getMaximumPoolSize(),
+                getMinimumIdle(),
+                getReadYourWritesWindow(),
+                getReadYourWritesMaxClients());
+    }
+
+}
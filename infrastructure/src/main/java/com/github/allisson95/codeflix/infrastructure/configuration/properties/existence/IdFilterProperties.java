@@ -0,0 +1,76 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.existence;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class IdFilterProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdFilterProperties.class);
+
+    private boolean enabled = true;
+    private Duration refreshInterval = Duration.ofSeconds(2);
+    private Duration rebuildInterval = Duration.ofHours(1);
+    private Duration maxStaleness = Duration.ofSeconds(10);
+    private double falsePositiveProbability = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                enabled: {}
+                refresh-interval: {}
+                rebuild-interval: {}
+                max-staleness: {}
+                false-positive-probability: {}
+                    """,
+                isEnabled(),
+                getRefreshInterval(),
+                getRebuildInterval(),
+                getMaxStaleness(),
+                getFalsePositiveProbability());
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.imports;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ImportProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportProperties.class);
+
+    private int chunkSize = 500;
+    private int maxLineLength = 1_048_576;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    public void setMaxLineLength(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                chunk-size: {}
+                max-line-length: {}
+                    """,
+                getChunkSize(),
+                getMaxLineLength());
+    }
+
+}
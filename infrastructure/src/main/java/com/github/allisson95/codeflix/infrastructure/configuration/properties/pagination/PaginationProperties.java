@@ -0,0 +1,43 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.pagination;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class PaginationProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaginationProperties.class);
+
+    private Duration totalCacheTtl = Duration.ofSeconds(10);
+    private long totalCacheMaxSize = 10_000;
+
+    public Duration getTotalCacheTtl() {
+        return totalCacheTtl;
+    }
+
+    public void setTotalCacheTtl(Duration totalCacheTtl) {
+        this.totalCacheTtl = totalCacheTtl;
+    }
+
+    public long getTotalCacheMaxSize() {
+        return totalCacheMaxSize;
+    }
+
+    public void setTotalCacheMaxSize(long totalCacheMaxSize) {
+        this.totalCacheMaxSize = totalCacheMaxSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                total-cache-ttl: {}
+                total-cache-max-size: {}
+                    """,
+                getTotalCacheTtl(),
+                getTotalCacheMaxSize());
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.search;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchIndexProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexProperties.class);
+
+    private boolean enabled = false;
+    private Duration refreshInterval = Duration.ofMinutes(5);
+    private int maxMatches = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getMaxMatches() {
+        return maxMatches;
+    }
+
+    public void setMaxMatches(int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                enabled: {}
+                refresh-interval: {}
+                max-matches: {}
+                    """,
+                isEnabled(),
+                getRefreshInterval(),
+                getMaxMatches());
+    }
+
+}
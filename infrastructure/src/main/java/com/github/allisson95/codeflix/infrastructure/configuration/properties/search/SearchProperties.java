@@ -0,0 +1,41 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchProperties.class);
+
+    private boolean fullText = false;
+    private int minTokenSize = 3;
+
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    public void setFullText(boolean fullText) {
+        this.fullText = fullText;
+    }
+
+    public int getMinTokenSize() {
+        return minTokenSize;
+    }
+
+    public void setMinTokenSize(int minTokenSize) {
+        this.minTokenSize = minTokenSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                full-text: {}
+                min-token-size: {}
+                    """,
+                isFullText(),
+                getMinTokenSize());
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class FileSystemStorageProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemStorageProperties.class);
+
+    private String root;
+
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                root: {}
+                    """,
+                getRoot());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class InMemoryStorageProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryStorageProperties.class);
+
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                max-size: {}
+                    """,
+                getMaxSize());
+    }
+
+}
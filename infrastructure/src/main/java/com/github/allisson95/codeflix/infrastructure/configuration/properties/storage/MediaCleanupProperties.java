@@ -0,0 +1,98 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.storage;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class MediaCleanupProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaCleanupProperties.class);
+
+    private boolean enabled = true;
+    private int batchSize = 50;
+    private int storageBatchSize = 100;
+    private Duration pollInterval = Duration.ofSeconds(5);
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+    private Duration lease = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getStorageBatchSize() {
+        return storageBatchSize;
+    }
+
+    public void setStorageBatchSize(int storageBatchSize) {
+        this.storageBatchSize = storageBatchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                enabled: {}
+                batch-size: {}
+                storage-batch-size: {}
+                poll-interval: {}
+                initial-backoff: {}
+                max-backoff: {}
+                lease: {}
+                    """,
+                isEnabled(),
+                getBatchSize(),
+                getStorageBatchSize(),
+                getPollInterval(),
+                getInitialBackoff(),
+                getMaxBackoff(),
+                getLease());
+    }
+
+}
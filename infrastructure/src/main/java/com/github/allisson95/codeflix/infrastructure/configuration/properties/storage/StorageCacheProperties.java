@@ -0,0 +1,97 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class StorageCacheProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageCacheProperties.class);
+
+    private boolean enabled = true;
+    private DataSize memoryMaxSize = DataSize.ofMegabytes(64);
+    private DataSize memoryMaxObjectSize = DataSize.ofMegabytes(1);
+    private String diskDirectory;
+    private DataSize diskMaxSize = DataSize.ofGigabytes(2);
+    private DataSize diskMaxObjectSize = DataSize.ofMegabytes(64);
+    private int diskFillConcurrency = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMemoryMaxSize() {
+        return memoryMaxSize;
+    }
+
+    public void setMemoryMaxSize(DataSize memoryMaxSize) {
+        this.memoryMaxSize = memoryMaxSize;
+    }
+
+    public DataSize getMemoryMaxObjectSize() {
+        return memoryMaxObjectSize;
+    }
+
+    public void setMemoryMaxObjectSize(DataSize memoryMaxObjectSize) {
+        this.memoryMaxObjectSize = memoryMaxObjectSize;
+    }
+
+    public String getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(String diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    public DataSize getDiskMaxSize() {
+        return diskMaxSize;
+    }
+
+    public void setDiskMaxSize(DataSize diskMaxSize) {
+        this.diskMaxSize = diskMaxSize;
+    }
+
+    public DataSize getDiskMaxObjectSize() {
+        return diskMaxObjectSize;
+    }
+
+    public void setDiskMaxObjectSize(DataSize diskMaxObjectSize) {
+        this.diskMaxObjectSize = diskMaxObjectSize;
+    }
+
+    public int getDiskFillConcurrency() {
+        return diskFillConcurrency;
+    }
+
+    public void setDiskFillConcurrency(int diskFillConcurrency) {
+        this.diskFillConcurrency = diskFillConcurrency;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                enabled: {}
+                memory-max-size: {}
+                memory-max-object-size: {}
+                disk-directory: {}
+                disk-max-size: {}
+                disk-max-object-size: {}
+                disk-fill-concurrency: {}
+                    """,
+                isEnabled(),
+                getMemoryMaxSize(),
+                getMemoryMaxObjectSize(),
+                getDiskDirectory(),
+                getDiskMaxSize(),
+                getDiskMaxObjectSize(),
+                getDiskFillConcurrency());
+    }
+
+}
@@ -10,6 +10,7 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
     private String locationPattern;
+    private int storeConcurrency = 5;
 
     public String getFilenamePattern() {
         return filenamePattern;
@@ -27,15 +28,25 @@ public class StorageProperties implements InitializingBean {
         this.locationPattern = locationPattern;
     }
 
+    public int getStoreConcurrency() {
+        return storeConcurrency;
+    }
+
+    public void setStoreConcurrency(int storeConcurrency) {
+        this.storeConcurrency = storeConcurrency;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         logger.debug("""
 
                 filename-pattern: {}
                 location-pattern: {}
+                store-concurrency: {}
                     """,
                 getFilenamePattern(),
-                getLocationPattern());
+                getLocationPattern(),
+                getStoreConcurrency());
     }
 
 }
@@ -0,0 +1,31 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.uploads;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class UploadProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadProperties.class);
+
+    private DataSize maxChunkSize = DataSize.ofMegabytes(16);
+
+    public DataSize getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(DataSize maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                max-chunk-size: {}
+                    """,
+                getMaxChunkSize());
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.github.allisson95.codeflix.infrastructure.configuration.properties.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ValidationProperties implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationProperties.class);
+
+    private int referenceLookupConcurrency = 4;
+
+    public int getReferenceLookupConcurrency() {
+        return referenceLookupConcurrency;
+    }
+
+    public void setReferenceLookupConcurrency(int referenceLookupConcurrency) {
+        this.referenceLookupConcurrency = referenceLookupConcurrency;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        logger.debug("""
+
+                reference-lookup-concurrency: {}
+                    """,
+                getReferenceLookupConcurrency());
+    }
+
+}
@@ -5,10 +5,14 @@ import org.springframework.context.annotation.Configuration;
 
 import com.github.allisson95.codeflix.application.castmember.create.CreateCastMemberUseCase;
 import com.github.allisson95.codeflix.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.github.allisson95.codeflix.application.castmember.create.DefaultImportCastMembersUseCase;
+import com.github.allisson95.codeflix.application.castmember.create.ImportCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.github.allisson95.codeflix.application.castmember.delete.DeleteCastMemberUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import com.github.allisson95.codeflix.application.castmember.retrieve.get.DefaultGetCastMemberLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
+import com.github.allisson95.codeflix.application.castmember.retrieve.get.GetCastMemberLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.update.DefaultUpdateCastMemberUseCase;
@@ -29,6 +33,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(this.castMemberGateway);
     }
 
+    @Bean
+    public ImportCastMembersUseCase importCastMembersUseCase() {
+        return new DefaultImportCastMembersUseCase(this.castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(this.castMemberGateway);
@@ -39,6 +48,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberByIdUseCase(this.castMemberGateway);
     }
 
+    @Bean
+    public GetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase() {
+        return new DefaultGetCastMemberLastModifiedUseCase(this.castMemberGateway);
+    }
+
     @Bean
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(this.castMemberGateway);
@@ -5,10 +5,14 @@ import org.springframework.context.annotation.Configuration;
 
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryUseCase;
 import com.github.allisson95.codeflix.application.category.create.DefaultCreateCategoryUseCase;
+import com.github.allisson95.codeflix.application.category.create.DefaultImportCategoriesUseCase;
+import com.github.allisson95.codeflix.application.category.create.ImportCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.github.allisson95.codeflix.application.category.delete.DeleteCategoryUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.github.allisson95.codeflix.application.category.retrieve.get.DefaultGetCategoryLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.list.ListCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.update.DefaultUpdateCategoryUseCase;
@@ -29,6 +33,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(this.categoryGateway);
     }
 
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new DefaultImportCategoriesUseCase(this.categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(this.categoryGateway);
@@ -39,6 +48,11 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(this.categoryGateway);
     }
 
+    @Bean
+    public GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase() {
+        return new DefaultGetCategoryLastModifiedUseCase(this.categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(this.categoryGateway);
@@ -7,10 +7,14 @@ import org.springframework.context.annotation.Configuration;
 
 import com.github.allisson95.codeflix.application.genre.create.CreateGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.create.DefaultCreateGenreUseCase;
+import com.github.allisson95.codeflix.application.genre.create.DefaultImportGenresUseCase;
+import com.github.allisson95.codeflix.application.genre.create.ImportGenresUseCase;
 import com.github.allisson95.codeflix.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.delete.DeleteGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.github.allisson95.codeflix.application.genre.retrieve.get.DefaultGetGenreLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.list.DefaultListGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.list.ListGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.update.DefaultUpdateGenreUseCase;
@@ -34,6 +38,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(this.genreGateway, this.categoryGateway);
     }
 
+    @Bean
+    public ImportGenresUseCase importGenresUseCase() {
+        return new DefaultImportGenresUseCase(this.genreGateway, this.categoryGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(this.genreGateway);
@@ -44,6 +53,11 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreByIdUseCase(this.genreGateway);
     }
 
+    @Bean
+    public GetGenreLastModifiedUseCase getGenreLastModifiedUseCase() {
+        return new DefaultGetGenreLastModifiedUseCase(this.genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(this.genreGateway);
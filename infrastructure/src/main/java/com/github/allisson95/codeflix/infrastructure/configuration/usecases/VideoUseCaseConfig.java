@@ -1,22 +1,41 @@
 package com.github.allisson95.codeflix.infrastructure.configuration.usecases;
 
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.github.allisson95.codeflix.application.video.create.CreateVideoUseCase;
 import com.github.allisson95.codeflix.application.video.create.DefaultCreateVideoUseCase;
+import com.github.allisson95.codeflix.application.video.create.DefaultImportVideosUseCase;
+import com.github.allisson95.codeflix.application.video.create.ImportVideosUseCase;
 import com.github.allisson95.codeflix.application.video.delete.DefaultDeleteVideoUseCase;
 import com.github.allisson95.codeflix.application.video.delete.DeleteVideoUseCase;
 import com.github.allisson95.codeflix.application.video.media.get.DefaultGetMediaUseCase;
+import com.github.allisson95.codeflix.application.video.media.get.DefaultGetMediaVersionUseCase;
 import com.github.allisson95.codeflix.application.video.media.get.GetMediaUseCase;
+import com.github.allisson95.codeflix.application.video.media.get.GetMediaVersionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.DefaultUploadMediaChunkUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.complete.CompleteMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.complete.DefaultCompleteMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.create.DefaultCreateMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.get.DefaultGetMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.get.GetMediaUploadSessionUseCase;
 import com.github.allisson95.codeflix.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.github.allisson95.codeflix.application.video.media.update.UpdateMediaStatusUseCase;
 import com.github.allisson95.codeflix.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
+import com.github.allisson95.codeflix.application.video.retrieve.get.DefaultGetVideoLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.list.DefaultListVideoUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.list.ListVideoUseCase;
 import com.github.allisson95.codeflix.application.video.update.DefaultUpdateVideoUseCase;
@@ -25,7 +44,10 @@ import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
 import com.github.allisson95.codeflix.domain.category.CategoryGateway;
 import com.github.allisson95.codeflix.domain.genre.GenreGateway;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.StorageProperties;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 @Configuration
 public class VideoUseCaseConfig {
@@ -34,6 +56,7 @@ public class VideoUseCaseConfig {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadSessionGateway mediaUploadSessionGateway;
     private final VideoGateway videoGateway;
 
     public VideoUseCaseConfig(
@@ -41,22 +64,53 @@ public class VideoUseCaseConfig {
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadSessionGateway mediaUploadSessionGateway,
             final VideoGateway videoGateway) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadSessionGateway = Objects.requireNonNull(mediaUploadSessionGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mediaStoreExecutor(final StorageProperties storageProperties) {
+        final var concurrency = storageProperties.getStoreConcurrency();
+        final var executor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency * 4),
+                new ThreadFactoryBuilder().setNameFormat("media-store-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Bean
-    public CreateVideoUseCase createVideoUseCase() {
+    public CreateVideoUseCase createVideoUseCase(
+            final ExecutorService mediaStoreExecutor,
+            final Executor referenceLookupExecutor) {
         return new DefaultCreateVideoUseCase(
                 videoGateway,
                 mediaResourceGateway,
                 categoryGateway,
                 castMemberGateway,
-                genreGateway);
+                genreGateway,
+                mediaStoreExecutor,
+                referenceLookupExecutor);
+    }
+
+    @Bean
+    public ImportVideosUseCase importVideosUseCase(final Executor referenceLookupExecutor) {
+        return new DefaultImportVideosUseCase(
+                videoGateway,
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                referenceLookupExecutor);
     }
 
     @Bean
@@ -65,13 +119,19 @@ public class VideoUseCaseConfig {
     }
 
     @Bean
-    public UpdateVideoUseCase updateVideoUseCase() {
+    public GetVideoLastModifiedUseCase getVideoLastModifiedUseCase() {
+        return new DefaultGetVideoLastModifiedUseCase(videoGateway);
+    }
+
+    @Bean
+    public UpdateVideoUseCase updateVideoUseCase(final Executor referenceLookupExecutor) {
         return new DefaultUpdateVideoUseCase(
                 videoGateway,
                 mediaResourceGateway,
                 categoryGateway,
                 castMemberGateway,
-                genreGateway);
+                genreGateway,
+                referenceLookupExecutor);
     }
 
     @Bean
@@ -89,6 +149,11 @@ public class VideoUseCaseConfig {
         return new DefaultGetMediaUseCase(mediaResourceGateway);
     }
 
+    @Bean
+    public GetMediaVersionUseCase getMediaVersionUseCase() {
+        return new DefaultGetMediaVersionUseCase(videoGateway);
+    }
+
     @Bean
     public UploadMediaUseCase uploadMediaUseCase() {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
@@ -99,4 +164,27 @@ public class VideoUseCaseConfig {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
 
+    @Bean
+    public CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase() {
+        return new DefaultCreateMediaUploadSessionUseCase(videoGateway, mediaUploadSessionGateway);
+    }
+
+    @Bean
+    public GetMediaUploadSessionUseCase getMediaUploadSessionUseCase() {
+        return new DefaultGetMediaUploadSessionUseCase(mediaUploadSessionGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaUploadSessionGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadSessionUseCase completeMediaUploadSessionUseCase() {
+        return new DefaultCompleteMediaUploadSessionUseCase(
+                videoGateway,
+                mediaUploadSessionGateway,
+                mediaResourceGateway);
+    }
+
 }
@@ -0,0 +1,40 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import java.util.Map;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadReplicaRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final ReadYourWrites readYourWrites) {
+        this.readYourWrites = Objects.requireNonNull(readYourWrites);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                this.readYourWrites.wrote();
+            }
+            return Target.PRIMARY;
+        }
+        return this.readYourWrites.isPinnedToPrimary() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+}
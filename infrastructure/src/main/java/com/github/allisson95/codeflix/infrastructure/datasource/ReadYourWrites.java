@@ -0,0 +1,81 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+// Recent writers are remembered by this instance only; a client whose next read lands on another instance may still
+// read from the replica unless the load balancer keeps it on the same instance for the window
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Client> CURRENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(final Duration aWindow, final long maxClients) {
+        this.recentWriters = CacheBuilder.newBuilder()
+                .expireAfterWrite(aWindow.toNanos(), TimeUnit.NANOSECONDS)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    public void begin(final String aClient) {
+        CURRENT.set(new Client(aClient, aClient != null && this.recentWriters.getIfPresent(aClient) != null));
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    public boolean isPinnedToPrimary() {
+        final var client = CURRENT.get();
+        return client != null && client.pinned;
+    }
+
+    // Recorded as soon as a read-write connection is taken, before the response can reach the client
+    public void wrote() {
+        final var client = CURRENT.get();
+        if (client != null) {
+            client.pinned = true;
+            if (client.id != null) {
+                this.recentWriters.put(client.id, Boolean.TRUE);
+            }
+        }
+    }
+
+    // Work handed to another thread keeps the submitting request's client, so its reads are routed the same way
+    public static Executor propagating(final Executor delegate) {
+        return task -> {
+            final var client = CURRENT.get();
+            delegate.execute(() -> {
+                final var previous = CURRENT.get();
+                CURRENT.set(client);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(previous);
+                    }
+                }
+            });
+        };
+    }
+
+    private static final class Client {
+
+        private final String id;
+        private volatile boolean pinned;
+
+        Client(final String id, final boolean pinned) {
+            this.id = id;
+            this.pinned = pinned;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_COOKIE = "rw_client";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWrites readYourWrites;
+    private final Duration window;
+
+    public ReadYourWritesFilter(final ReadYourWrites readYourWrites, final Duration window) {
+        this.readYourWrites = Objects.requireNonNull(readYourWrites);
+        this.window = Objects.requireNonNull(window);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        this.readYourWrites.begin(clientOf(request, response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            this.readYourWrites.end();
+        }
+    }
+
+    // Behind a load balancer every request carries the balancer's address, so anonymous clients are told apart by a
+    // token handed out on their writes; a client with neither has written nothing it could read back
+    private String clientOf(final HttpServletRequest request, final HttpServletResponse response) {
+        final var principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+
+        final var cookie = WebUtils.getCookie(request, CLIENT_COOKIE);
+        final var safe = SAFE_METHODS.contains(request.getMethod());
+        if (safe) {
+            return cookie != null ? "token:" + cookie.getValue() : null;
+        }
+
+        final var token = cookie != null ? cookie.getValue() : UUID.randomUUID().toString();
+        final var issued = new Cookie(CLIENT_COOKIE, token);
+        issued.setPath("/");
+        issued.setHttpOnly(true);
+        issued.setMaxAge((int) Math.max(1, this.window.toSeconds()));
+        response.addCookie(issued);
+        return "token:" + token;
+    }
+
+}
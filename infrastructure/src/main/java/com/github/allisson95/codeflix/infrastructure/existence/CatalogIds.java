@@ -0,0 +1,155 @@
+package com.github.allisson95.codeflix.infrastructure.existence;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.allisson95.codeflix.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.existence.IdFilterProperties;
+import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.utils.TransactionUtils;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoJpaEntity;
+import com.google.common.hash.BloomFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class CatalogIds implements Runnable, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogIds.class);
+
+    private static final int PAGE_SIZE = 10_000;
+    // created_at is stamped before commit and by other instances' clocks, so each refresh reads a little further back
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final EntityManager entityManager;
+    private final IdFilterProperties properties;
+    private final Map<Class<?>, IdFilter> filters;
+    private volatile Instant rebuiltAt;
+
+    public CatalogIds(final EntityManager entityManager, final IdFilterProperties properties) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.properties = Objects.requireNonNull(properties);
+        this.filters = Map.of(
+                CategoryJpaEntity.class, newFilter(),
+                GenreJpaEntity.class, newFilter(),
+                CastMemberJpaEntity.class, newFilter(),
+                VideoJpaEntity.class, newFilter());
+    }
+
+    // A miss is a definite absence while the filter has caught up with every instance's creates within the
+    // staleness bound; past it, a stalled refresh must not turn new ids into 404s, so the caller looks them up
+    public boolean mightExist(final Class<?> aType, final String anId) {
+        final var filter = filterOf(aType);
+        if (filter == null || !isFresh(filter)) {
+            return true;
+        }
+        return filter.mightContain(anId);
+    }
+
+    public void added(final Class<?> aType, final String anId) {
+        final var filter = filterOf(aType);
+        if (filter != null) {
+            TransactionUtils.afterCommit(() -> filter.add(anId));
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            final var lastRebuild = this.rebuiltAt;
+            if (lastRebuild == null || lastRebuild.plus(this.properties.getRebuildInterval()).isBefore(Instant.now())) {
+                rebuild();
+            } else {
+                refresh();
+            }
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to update the catalog id filters, keeping the previous ones", e);
+        }
+    }
+
+    public void rebuild() {
+        final var asOf = Instant.now();
+        this.filters.forEach((aType, filter) -> rebuild(aType, filter, asOf));
+        this.rebuiltAt = asOf;
+    }
+
+    // Ids created since the last refresh, on any instance; deleted ids stay as harmless false positives until the next rebuild
+    public void refresh() {
+        this.filters.forEach((aType, filter) -> filter.refreshedAt().ifPresent(since -> {
+            final var asOf = Instant.now();
+            final var entityName = this.entityManager.getMetamodel().entity(aType).getName();
+            final var ids = this.entityManager
+                    .createQuery("SELECT e.id FROM %s e WHERE e.createdAt >= :since".formatted(entityName), String.class)
+                    .setParameter("since", since.minus(REFRESH_OVERLAP))
+                    .getResultList();
+            filter.refresh(ids, asOf);
+        }));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.filters.forEach((aType, filter) -> {
+            Gauge.builder("ids.filter.approximate.ids", filter, IdFilter::approximateSize)
+                    .tag("type", aType.getSimpleName())
+                    .register(registry);
+        });
+    }
+
+    private IdFilter filterOf(final Class<?> aType) {
+        return this.properties.isEnabled() ? this.filters.get(aType) : null;
+    }
+
+    private IdFilter newFilter() {
+        return new IdFilter(this.properties.getFalsePositiveProbability());
+    }
+
+    private boolean isFresh(final IdFilter filter) {
+        return filter.refreshedAt()
+                .filter(it -> it.plus(this.properties.getMaxStaleness()).isAfter(Instant.now()))
+                .isPresent();
+    }
+
+    private void rebuild(final Class<?> aType, final IdFilter filter, final Instant asOf) {
+        filter.startRebuild();
+
+        final var entityName = this.entityManager.getMetamodel().entity(aType).getName();
+        final BloomFilter<CharSequence> next;
+        try {
+            next = filter.newFilter(this.entityManager
+                    .createQuery("SELECT COUNT(e) FROM %s e".formatted(entityName), Long.class)
+                    .getSingleResult());
+
+            // keyset pages over the primary key, so neither the ids nor an OFFSET scan grow with the table
+            final var query = "SELECT e.id FROM %s e WHERE e.id > :last ORDER BY e.id".formatted(entityName);
+            var last = "";
+            List<String> page;
+            do {
+                page = this.entityManager.createQuery(query, String.class)
+                        .setParameter("last", last)
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList();
+                page.forEach(next::put);
+                last = page.isEmpty() ? last : page.get(page.size() - 1);
+            } while (page.size() == PAGE_SIZE);
+        } catch (final RuntimeException e) {
+            filter.abortRebuild();
+            throw e;
+        }
+
+        filter.finishRebuild(next, asOf);
+        logger.debug("Catalog id filter rebuilt [type:{}] [ids:{}]", aType.getSimpleName(), next.approximateElementCount());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.github.allisson95.codeflix.infrastructure.existence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+public class IdFilter {
+
+    private static final long MIN_EXPECTED_IDS = 1_024;
+
+    private final double falsePositiveProbability;
+    private volatile BloomFilter<CharSequence> current;
+    private volatile Instant refreshedAt;
+    private List<String> journal;
+
+    public IdFilter(final double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    // False only when the id was never seen: the filter has no false negatives for ids loaded or added to it
+    public boolean mightContain(final String anId) {
+        final var filter = this.current;
+        return filter == null || filter.mightContain(anId);
+    }
+
+    // The moment up to which creates made by any instance are known to be in the filter
+    public Optional<Instant> refreshedAt() {
+        return Optional.ofNullable(this.refreshedAt);
+    }
+
+    public synchronized void add(final String anId) {
+        if (this.current != null) {
+            this.current.put(anId);
+        }
+        if (this.journal != null) {
+            this.journal.add(anId);
+        }
+    }
+
+    public synchronized void refresh(final Collection<String> ids, final Instant asOf) {
+        if (this.current == null) {
+            return;
+        }
+        ids.forEach(this::add);
+        this.refreshedAt = asOf;
+    }
+
+    public BloomFilter<CharSequence> newFilter(final long expectedIds) {
+        // Sized for twice the current ids so creates between rebuilds do not raise the false positive rate
+        return BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(expectedIds * 2, MIN_EXPECTED_IDS),
+                this.falsePositiveProbability);
+    }
+
+    public synchronized void startRebuild() {
+        this.journal = new ArrayList<>();
+    }
+
+    public synchronized void abortRebuild() {
+        this.journal = null;
+    }
+
+    public synchronized void finishRebuild(final BloomFilter<CharSequence> next, final Instant asOf) {
+        this.journal.forEach(next::put);
+        this.journal = null;
+        this.current = next;
+        this.refreshedAt = asOf;
+    }
+
+    public long approximateSize() {
+        final var filter = this.current;
+        return filter != null ? filter.approximateElementCount() : 0;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.allisson95.codeflix.infrastructure.exports;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.TimeZone;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.json.Json;
+
+// ./gradlew :infrastructure:exportCatalog -Poutput=catalog.ndjson.gz (gzipped when the file ends with .gz)
+public final class CatalogExportCommand {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogExportCommand.class);
+
+    private static final String DEFAULT_URL = "jdbc:mysql://db:3306/admin_catalogo?useSSL=true&serverTimezone=UTC&characterEncoding=UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CatalogExportCommand() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone(ZoneOffset.UTC));
+
+        final var output = args.length > 0 ? args[0] : "catalog.ndjson.gz";
+        final var exporter = new CatalogExporter(Json.mapper());
+
+        try (final var aConnection = connect();
+                final var out = open(output)) {
+            final var start = System.nanoTime();
+            final var lines = exporter.export(aConnection, out);
+            aConnection.commit();
+            logger.info("Catalog exported [output:{}] [lines:{}] [elapsed:{}ms]",
+                    output, lines, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static Connection connect() throws Exception {
+        final var properties = new Properties();
+        properties.setProperty("user", env("MYSQL_USERNAME", "root"));
+        properties.setProperty("password", env("MYSQL_PASSWORD", "root"));
+        // Without server side cursors the MySQL driver buffers whole result sets and only one can be open per connection
+        properties.setProperty("useCursorFetch", "true");
+
+        final var aConnection = DriverManager.getConnection(env("MYSQL_URL", DEFAULT_URL), properties);
+        aConnection.setAutoCommit(false);
+        aConnection.setReadOnly(true);
+        aConnection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        return aConnection;
+    }
+
+    private static OutputStream open(final String output) throws Exception {
+        final OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(output)), BUFFER_SIZE);
+
+        return output.endsWith(".gz") ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    private static String env(final String aName, final String aDefault) {
+        final var value = System.getenv(aName);
+        return value != null && !value.isBlank() ? value : aDefault;
+    }
+
+}
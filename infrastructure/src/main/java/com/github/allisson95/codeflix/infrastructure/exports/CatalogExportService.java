@@ -0,0 +1,43 @@
+package com.github.allisson95.codeflix.infrastructure.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+public class CatalogExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogExportService.class);
+
+    private final DataSource dataSource;
+    private final CatalogExporter exporter;
+
+    public CatalogExportService(final DataSource dataSource, final CatalogExporter exporter) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.exporter = Objects.requireNonNull(exporter);
+    }
+
+    // A single read-only transaction gives every cursor the same snapshot and routes the export to the replica when enabled
+    @Transactional(readOnly = true)
+    public long export(final OutputStream out) throws IOException {
+        final var start = System.nanoTime();
+        final var aConnection = DataSourceUtils.getConnection(this.dataSource);
+        try {
+            final var lines = this.exporter.export(aConnection, out);
+            logger.info("Catalog exported [lines:{}] [elapsed:{}ms]", lines, (System.nanoTime() - start) / 1_000_000);
+            return lines;
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Failed to export the catalog", e);
+        } finally {
+            DataSourceUtils.releaseConnection(aConnection, this.dataSource);
+        }
+    }
+
+}
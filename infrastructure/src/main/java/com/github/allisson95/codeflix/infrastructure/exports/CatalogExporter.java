@@ -0,0 +1,216 @@
+package com.github.allisson95.codeflix.infrastructure.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class CatalogExporter {
+
+    public static final String CATEGORY = "category";
+    public static final String CAST_MEMBER = "cast_member";
+    public static final String GENRE = "genre";
+    public static final String VIDEO = "video";
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final ObjectMapper mapper;
+    private final int fetchSize;
+
+    public CatalogExporter(final ObjectMapper mapper) {
+        this(mapper, DEFAULT_FETCH_SIZE);
+    }
+
+    public CatalogExporter(final ObjectMapper mapper, final int fetchSize) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.fetchSize = fetchSize;
+    }
+
+    public long export(final Connection aConnection, final OutputStream out) throws IOException, SQLException {
+        try (final var generator = this.mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            final var lines = exportCategories(aConnection, generator)
+                    + exportCastMembers(aConnection, generator)
+                    + exportGenres(aConnection, generator)
+                    + exportVideos(aConnection, generator);
+
+            generator.flush();
+            return lines;
+        }
+    }
+
+    private long exportCategories(final Connection aConnection, final JsonGenerator generator) throws IOException, SQLException {
+        long lines = 0;
+        try (final var statement = cursor(aConnection, """
+                SELECT id, name, description, active, created_at, updated_at, deleted_at
+                FROM categories ORDER BY id
+                """);
+                final var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                startLine(generator, CATEGORY, rows.getString("id"));
+                generator.writeStringField("name", rows.getString("name"));
+                generator.writeStringField("description", rows.getString("description"));
+                generator.writeBooleanField("is_active", rows.getBoolean("active"));
+                writeInstant(generator, "created_at", rows.getTimestamp("created_at"));
+                writeInstant(generator, "updated_at", rows.getTimestamp("updated_at"));
+                writeInstant(generator, "deleted_at", rows.getTimestamp("deleted_at"));
+                endLine(generator);
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private long exportCastMembers(final Connection aConnection, final JsonGenerator generator) throws IOException, SQLException {
+        long lines = 0;
+        try (final var statement = cursor(aConnection, """
+                SELECT id, name, type, created_at, updated_at
+                FROM cast_members ORDER BY id
+                """);
+                final var rows = statement.executeQuery()) {
+            while (rows.next()) {
+                startLine(generator, CAST_MEMBER, rows.getString("id"));
+                generator.writeStringField("name", rows.getString("name"));
+                generator.writeStringField("type", rows.getString("type"));
+                writeInstant(generator, "created_at", rows.getTimestamp("created_at"));
+                writeInstant(generator, "updated_at", rows.getTimestamp("updated_at"));
+                endLine(generator);
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private long exportGenres(final Connection aConnection, final JsonGenerator generator) throws IOException, SQLException {
+        long lines = 0;
+        try (final var statement = cursor(aConnection, """
+                SELECT id, name, active, created_at, updated_at, deleted_at
+                FROM genres ORDER BY id
+                """);
+                final var rows = statement.executeQuery();
+                final var categories = new Associations(cursor(aConnection, """
+                        SELECT genre_id, category_id FROM genres_categories ORDER BY genre_id
+                        """))) {
+            while (rows.next()) {
+                final var id = rows.getString("id");
+                startLine(generator, GENRE, id);
+                generator.writeStringField("name", rows.getString("name"));
+                writeIds(generator, "categories_id", categories.of(id));
+                generator.writeBooleanField("is_active", rows.getBoolean("active"));
+                writeInstant(generator, "created_at", rows.getTimestamp("created_at"));
+                writeInstant(generator, "updated_at", rows.getTimestamp("updated_at"));
+                writeInstant(generator, "deleted_at", rows.getTimestamp("deleted_at"));
+                endLine(generator);
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private long exportVideos(final Connection aConnection, final JsonGenerator generator) throws IOException, SQLException {
+        long lines = 0;
+        try (final var statement = cursor(aConnection, """
+                SELECT id, title, description, year_launched, duration, rating, opened, published, created_at, updated_at
+                FROM videos ORDER BY id
+                """);
+                final var rows = statement.executeQuery();
+                final var categories = new Associations(cursor(aConnection, """
+                        SELECT video_id, category_id FROM videos_categories ORDER BY video_id
+                        """));
+                final var genres = new Associations(cursor(aConnection, """
+                        SELECT video_id, genre_id FROM videos_genres ORDER BY video_id
+                        """));
+                final var castMembers = new Associations(cursor(aConnection, """
+                        SELECT video_id, cast_member_id FROM videos_cast_members ORDER BY video_id
+                        """))) {
+            while (rows.next()) {
+                final var id = rows.getString("id");
+                startLine(generator, VIDEO, id);
+                generator.writeStringField("title", rows.getString("title"));
+                generator.writeStringField("description", rows.getString("description"));
+                generator.writeNumberField("year_launched", rows.getInt("year_launched"));
+                generator.writeNumberField("duration", rows.getDouble("duration"));
+                generator.writeStringField("rating", rows.getString("rating"));
+                generator.writeBooleanField("opened", rows.getBoolean("opened"));
+                generator.writeBooleanField("published", rows.getBoolean("published"));
+                writeInstant(generator, "created_at", rows.getTimestamp("created_at"));
+                writeInstant(generator, "updated_at", rows.getTimestamp("updated_at"));
+                writeIds(generator, "categories_id", categories.of(id));
+                writeIds(generator, "genres_id", genres.of(id));
+                writeIds(generator, "cast_members_id", castMembers.of(id));
+                endLine(generator);
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private PreparedStatement cursor(final Connection aConnection, final String sql) throws SQLException {
+        final var statement = aConnection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(this.fetchSize);
+        return statement;
+    }
+
+    private static void startLine(final JsonGenerator generator, final String aKind, final String anId) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("kind", aKind);
+        generator.writeStringField("id", anId);
+    }
+
+    private static void endLine(final JsonGenerator generator) throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeInstant(final JsonGenerator generator, final String aField, final Timestamp aValue) throws IOException {
+        generator.writeObjectField(aField, aValue != null ? aValue.toInstant() : null);
+    }
+
+    private static void writeIds(final JsonGenerator generator, final String aField, final List<String> ids) throws IOException {
+        generator.writeArrayFieldStart(aField);
+        for (final var id : ids) {
+            generator.writeString(id);
+        }
+        generator.writeEndArray();
+    }
+
+    // Join table rows sorted by owner, consumed alongside the owners cursor (same order) so only one owner's ids are held
+    private static final class Associations implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private final ResultSet rows;
+        private boolean hasRow;
+
+        Associations(final PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.rows = statement.executeQuery();
+            this.hasRow = this.rows.next();
+        }
+
+        List<String> of(final String anOwnerId) throws SQLException {
+            final var ids = new ArrayList<String>();
+            while (this.hasRow && anOwnerId.equals(this.rows.getString(1))) {
+                ids.add(this.rows.getString(2));
+                this.hasRow = this.rows.next();
+            }
+            return ids;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            this.statement.close();
+        }
+
+    }
+
+}
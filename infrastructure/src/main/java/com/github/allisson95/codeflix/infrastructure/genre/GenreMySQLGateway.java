@@ -1,77 +1,118 @@
 package com.github.allisson95.codeflix.infrastructure.genre;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.genre.Genre;
 import com.github.allisson95.codeflix.domain.genre.GenreGateway;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreCategoryID;
 import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreRepository;
-import com.github.allisson95.codeflix.infrastructure.utils.SpecificationUtils;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.github.allisson95.codeflix.infrastructure.pagination.PageQuery;
+import com.github.allisson95.codeflix.infrastructure.pagination.Paginator;
+import com.github.allisson95.codeflix.infrastructure.pagination.Relevance;
+import com.github.allisson95.codeflix.infrastructure.pagination.TextSearch;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final Paginator paginator;
+    private final TextSearch textSearch;
+    private final CatalogIds catalogIds;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final Paginator paginator,
+            final TextSearch textSearch,
+            final CatalogIds catalogIds) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.catalogIds = Objects.requireNonNull(catalogIds);
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        return save(GenreJpaEntity.from(aGenre).asNew());
+    }
+
+    @Transactional
+    @Override
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        final var entities = this.genreRepository.saveAll(aGenres.stream()
+                .map(it -> GenreJpaEntity.from(it).asNew())
+                .toList());
+        entities.forEach(this.textSearch::index);
+        entities.forEach(it -> this.catalogIds.added(GenreJpaEntity.class, it.getId()));
+        return entities.stream().map(GenreJpaEntity::toAggregate).toList();
     }
 
+    @Transactional
     @Override
     public void deleteById(final GenreID anId) {
         final String anIdValue = anId.getValue();
-        if (this.genreRepository.existsById(anIdValue)) {
-            this.genreRepository.deleteById(anIdValue);
+        this.genreRepository.touchVideosByGenreId(anIdValue, InstantUtils.now());
+        this.genreRepository.deleteCategoriesByGenreId(anIdValue);
+        if (this.genreRepository.deleteRowById(anIdValue) > 0) {
+            this.textSearch.remove(GenreJpaEntity.class, anIdValue);
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Genre> findById(final GenreID anId) {
         return this.genreRepository.findById(anId.getValue())
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    @Transactional
+    @Override
+    public Optional<Genre> findForUpdate(final GenreID anId) {
+        return this.genreRepository.findById(anId.getValue())
+                .map(GenreJpaEntity::toAggregate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Instant> findLastModifiedById(final GenreID anId) {
+        return this.genreRepository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
-
-        final var spec = Optional.ofNullable(aQuery.terms())
-                .filter(terms -> !terms.isBlank())
-                .map(terms -> SpecificationUtils.<GenreJpaEntity>like("name", terms))
-                .orElse(null);
-
-        final var pageResult = this.genreRepository.findAll(Specification.where(spec), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList());
+        final Specification<GenreJpaEntity> spec = this.textSearch.matching(GenreJpaEntity.class, aQuery.terms(), "name");
+        final Relevance<GenreJpaEntity> relevance = this.textSearch.relevance(aQuery.terms(), "name");
+
+        final var page = this.paginator.findAll(GenreJpaEntity.class, spec, PageQuery.of(aQuery), relevance);
+        final var categories = categoriesOf(page.items());
+
+        return page.map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())));
     }
 
+    @Transactional
     @Override
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        final var entity = this.genreRepository.findById(aGenre.getId().getValue())
+                .map(it -> it.updateFrom(aGenre))
+                .orElseGet(() -> GenreJpaEntity.from(aGenre));
+        return save(entity);
     }
 
     @Override
@@ -80,16 +121,33 @@ public class GenreMySQLGateway implements GenreGateway {
                 .map(GenreID::getValue)
                 .toList();
 
-        return this.genreRepository.existsByIds(ids)
-                .stream()
+        return this.genreRepository.existsByIds(ids).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
-    private Genre save(final Genre aGenre) {
-        return this.genreRepository
-                .save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+    // Loads the categories of a whole page in one query instead of initializing each genre's collection
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var ids = genres.stream()
+                .map(GenreJpaEntity::getId)
+                .toList();
+
+        return this.genreRepository.findCategoryIdsByGenreIdIn(ids)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(it -> CategoryID.from(it.getCategoryId()), Collectors.toList())));
+    }
+
+    private Genre save(final GenreJpaEntity anEntity) {
+        final var entity = this.genreRepository.save(anEntity);
+        this.textSearch.index(entity);
+        this.catalogIds.added(GenreJpaEntity.class, entity.getId());
+        return entity.toAggregate();
     }
 
 }
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -11,15 +12,21 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
 
 import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.genre.Genre;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
+import com.github.allisson95.codeflix.infrastructure.utils.AssociationUtils;
 
 @Entity(name = "Genre")
 @Table(name = "genres")
-public class GenreJpaEntity {
+public class GenreJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", nullable = false)
@@ -31,7 +38,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -43,6 +50,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public GenreJpaEntity() {
         super();
     }
@@ -78,12 +88,31 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    public GenreJpaEntity updateFrom(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        AssociationUtils.sync(
+                this.categories,
+                aGenre.getCategories().stream().map(CategoryID::getValue).collect(Collectors.toSet()),
+                it -> it.getId().getCategoryId(),
+                it -> GenreCategoryJpaEntity.from(this, CategoryID.from(it)));
+
+        return this;
+    }
+
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categoryIDs) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categoryIDs,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt());
@@ -93,6 +122,23 @@ public class GenreJpaEntity {
         this.categories.add(GenreCategoryJpaEntity.from(this, aCategoryID));
     }
 
+    public GenreJpaEntity asNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
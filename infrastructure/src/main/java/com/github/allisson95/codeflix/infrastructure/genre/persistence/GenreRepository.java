@@ -1,16 +1,47 @@
 package com.github.allisson95.codeflix.infrastructure.genre.persistence;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface GenreRepository
         extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
 
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @Query(value = "SELECT gc.id FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId IN :ids")
+    List<GenreCategoryID> findCategoryIdsByGenreIdIn(@Param("ids") Collection<String> ids);
+
     @Query(value = "SELECT g.id FROM Genre g WHERE g.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
 
+    @Query(value = "SELECT g.updatedAt FROM Genre g WHERE g.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Video v SET v.updatedAt = :now WHERE v.id IN (SELECT vg.id.videoId FROM VideoGenre vg WHERE vg.id.genreId = :id)")
+    int touchVideosByGenreId(@Param("id") String id, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId = :id")
+    int deleteCategoriesByGenreId(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Genre g WHERE g.id = :id")
+    int deleteRowById(@Param("id") String id);
+
 }
@@ -0,0 +1,23 @@
+package com.github.allisson95.codeflix.infrastructure.imports;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.allisson95.codeflix.domain.validation.Error;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportLineResponse(
+        @JsonProperty("line") long line,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors) {
+
+    public static ImportLineResponse created(final long line, final String id) {
+        return new ImportLineResponse(line, id, null);
+    }
+
+    public static ImportLineResponse failed(final long line, final List<Error> errors) {
+        return new ImportLineResponse(line, null, errors);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.github.allisson95.codeflix.infrastructure.imports;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.domain.validation.handler.Notification;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.imports.ImportProperties;
+
+import io.vavr.control.Either;
+
+public class NdjsonImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonImporter.class);
+
+    private final ObjectMapper mapper;
+    private final ImportProperties properties;
+
+    public NdjsonImporter(final ObjectMapper mapper, final ImportProperties properties) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    public <T, R> void run(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Class<T> aType,
+            final Function<List<T>, List<Either<Notification, R>>> anImport,
+            final Function<R, String> anId) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        final var reader = new LineReader(
+                new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)),
+                this.properties.getMaxLineLength());
+        final var writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        final var chunk = new ArrayList<Line<T>>(this.properties.getChunkSize());
+
+        long number = 0;
+        String text;
+        while ((text = reader.next()) != null) {
+            number++;
+            if (reader.wasTruncated()) {
+                chunk.add(Line.failed(number, "Line exceeds %d characters".formatted(this.properties.getMaxLineLength())));
+            } else if (!text.isBlank()) {
+                chunk.add(parse(number, text, aType));
+            }
+
+            if (chunk.size() >= this.properties.getChunkSize()) {
+                importChunk(chunk, anImport, anId, writer);
+            }
+        }
+
+        importChunk(chunk, anImport, anId, writer);
+    }
+
+    private <T> Line<T> parse(final long number, final String text, final Class<T> aType) {
+        try {
+            return Line.parsed(number, this.mapper.readValue(text, aType));
+        } catch (final JsonProcessingException e) {
+            return Line.failed(number, "Invalid JSON: %s".formatted(e.getOriginalMessage()));
+        }
+    }
+
+    private <T, R> void importChunk(
+            final List<Line<T>> chunk,
+            final Function<List<T>, List<Either<Notification, R>>> anImport,
+            final Function<R, String> anId,
+            final Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        final var records = chunk.stream()
+                .filter(it -> it.record() != null)
+                .map(Line::record)
+                .toList();
+
+        List<Either<Notification, R>> results;
+        try {
+            results = records.isEmpty() ? List.of() : anImport.apply(records);
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to import a chunk of {} records", records.size(), e);
+            final var failure = Notification.create(e);
+            results = records.stream().<Either<Notification, R>>map(it -> Either.left(failure)).toList();
+        }
+
+        var next = 0;
+        for (final var line : chunk) {
+            final ImportLineResponse output;
+            if (line.record() == null) {
+                output = ImportLineResponse.failed(line.number(), line.errors());
+            } else {
+                output = results.get(next++).fold(
+                        it -> ImportLineResponse.failed(line.number(), it.getErrors()),
+                        it -> ImportLineResponse.created(line.number(), anId.apply(it)));
+            }
+            writer.write(this.mapper.writeValueAsString(output));
+            writer.write('\n');
+        }
+
+        writer.flush();
+        chunk.clear();
+    }
+
+    private record Line<T>(long number, T record, List<Error> errors) {
+
+        static <T> Line<T> parsed(final long number, final T record) {
+            return new Line<>(number, record, null);
+        }
+
+        static <T> Line<T> failed(final long number, final String message) {
+            return new Line<>(number, null, List.of(new Error(message)));
+        }
+
+    }
+
+    // Reads one line at a time without ever holding more than maxLength characters of it
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+
+        LineReader(final Reader reader, final int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        String next() throws IOException {
+            this.buffer.setLength(0);
+            this.truncated = false;
+
+            int c;
+            while ((c = this.reader.read()) != -1) {
+                if (c == '\n') {
+                    return line();
+                }
+                if (this.buffer.length() < this.maxLength) {
+                    this.buffer.append((char) c);
+                } else {
+                    this.truncated = true;
+                }
+            }
+
+            return this.buffer.isEmpty() && !this.truncated ? null : line();
+        }
+
+        boolean wasTruncated() {
+            return this.truncated;
+        }
+
+        private String line() {
+            final var length = this.buffer.length();
+            if (length > 0 && this.buffer.charAt(length - 1) == '\r') {
+                this.buffer.setLength(length - 1);
+            }
+            return this.buffer.toString();
+        }
+
+    }
+
+}
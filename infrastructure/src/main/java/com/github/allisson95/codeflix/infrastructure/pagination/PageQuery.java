@@ -0,0 +1,72 @@
+package com.github.allisson95.codeflix.infrastructure.pagination;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.github.allisson95.codeflix.domain.Identifier;
+import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
+import com.github.allisson95.codeflix.domain.video.VideoSearchQuery;
+
+public record PageQuery(
+        int page,
+        int perPage,
+        String sort,
+        String direction,
+        String cursor,
+        TotalMode total,
+        String filterKey) {
+
+    public static final String RELEVANCE = "relevance";
+
+    public static PageQuery of(final SearchQuery aQuery) {
+        return new PageQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.sort(),
+                aQuery.direction(),
+                aQuery.cursor(),
+                Objects.requireNonNullElse(aQuery.total(), TotalMode.EXACT),
+                termsKey(aQuery.terms()));
+    }
+
+    public static PageQuery of(final VideoSearchQuery aQuery) {
+        return new PageQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.sort(),
+                aQuery.direction(),
+                aQuery.cursor(),
+                Objects.requireNonNullElse(aQuery.total(), TotalMode.EXACT),
+                String.join("|",
+                        termsKey(aQuery.terms()),
+                        idsKey(aQuery.castMembers()),
+                        idsKey(aQuery.categories()),
+                        idsKey(aQuery.genres())));
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public boolean sortsByRelevance() {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    private static String termsKey(final String terms) {
+        return terms != null ? terms.trim().toUpperCase() : "";
+    }
+
+    private static String idsKey(final Set<? extends Identifier> ids) {
+        if (ids == null) {
+            return "";
+        }
+
+        return ids.stream()
+                .map(Identifier::getValue)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+}
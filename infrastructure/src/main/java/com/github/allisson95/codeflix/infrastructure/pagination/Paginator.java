@@ -0,0 +1,193 @@
+package com.github.allisson95.codeflix.infrastructure.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.pagination.Pagination;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.pagination.PaginationProperties;
+import com.github.allisson95.codeflix.infrastructure.utils.CursorUtils;
+import com.github.allisson95.codeflix.infrastructure.utils.SpecificationUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+@Component
+public class Paginator {
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final Cache<String, Long> totals;
+
+    public Paginator(final EntityManager entityManager, final PaginationProperties properties) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totals = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getTotalCacheTtl().toNanos(), TimeUnit.NANOSECONDS)
+                .maximumSize(properties.getTotalCacheMaxSize())
+                .build();
+    }
+
+    public <T> Pagination<T> findAll(final Class<T> aType, final Specification<T> aFilter, final PageQuery aQuery) {
+        return findAll(aType, aFilter, aQuery, null);
+    }
+
+    public <T> Pagination<T> findAll(
+            final Class<T> aType,
+            final Specification<T> aFilter,
+            final PageQuery aQuery,
+            final Relevance<T> aRelevance) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aType);
+        final var root = query.from(aType);
+
+        query.select(root);
+
+        return find(aType, aFilter, aQuery, aRelevance, query, root, it -> {
+            final var entity = PropertyAccessorFactory.forDirectFieldAccess(it);
+            return new Position(entity.getPropertyValue(aQuery.sort()), String.valueOf(entity.getPropertyValue(ID)));
+        });
+    }
+
+    public <T> Pagination<String> findIds(
+            final Class<T> aType,
+            final Specification<T> aFilter,
+            final PageQuery aQuery,
+            final Relevance<T> aRelevance) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(aType);
+
+        query.multiselect(root.get(ID), root.get(aQuery.sortsByRelevance() ? ID : aQuery.sort()));
+
+        return find(aType, aFilter, aQuery, aRelevance, query, root, it -> new Position(it.get(1), it.get(0, String.class)))
+                .map(it -> it.get(0, String.class));
+    }
+
+    private <T, R> Pagination<R> find(
+            final Class<T> aType,
+            final Specification<T> aFilter,
+            final PageQuery aQuery,
+            final Relevance<T> aRelevance,
+            final CriteriaQuery<R> query,
+            final Root<T> root,
+            final Function<R, Position> positionOf) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+
+        if (aQuery.hasCursor() && aQuery.sortsByRelevance()) {
+            throw DomainException.with(new Error("'cursor' is not supported when sorting by relevance"));
+        }
+
+        var spec = Specification.where(aFilter);
+        if (aQuery.hasCursor()) {
+            spec = spec.and(SpecificationUtils.after(
+                    aQuery.sort(),
+                    Direction.fromString(aQuery.direction()),
+                    CursorUtils.decode(aQuery.cursor(), aQuery.sort(), aQuery.direction())));
+        }
+
+        final var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(aQuery.sortsByRelevance()
+                ? relevanceOrders(aRelevance, root, cb)
+                : QueryUtils.toOrders(sortOf(aQuery.sort(), aQuery.direction()), root, cb));
+
+        final var offset = aQuery.hasCursor() ? 0 : aQuery.page() * aQuery.perPage();
+
+        // One extra row tells whether there is a next page without a COUNT query
+        final var rows = this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList();
+
+        final var hasMore = rows.size() > aQuery.perPage();
+        final var items = List.copyOf(hasMore ? rows.subList(0, aQuery.perPage()) : rows);
+
+        String nextCursor = null;
+        if (hasMore && !items.isEmpty() && !aQuery.sortsByRelevance()) {
+            final var last = positionOf.apply(items.get(items.size() - 1));
+            nextCursor = CursorUtils.encode(aQuery.sort(), aQuery.direction(), last.value(), last.id());
+        }
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                totalOf(aType, aFilter, aQuery, offset, items.size(), hasMore),
+                items,
+                nextCursor,
+                hasMore);
+    }
+
+    private <T> long totalOf(
+            final Class<T> aType,
+            final Specification<T> aFilter,
+            final PageQuery aQuery,
+            final int offset,
+            final int size,
+            final boolean hasMore) {
+        if (!aQuery.hasCursor() && !hasMore && (size > 0 || offset == 0)) {
+            return offset + size;
+        }
+
+        return switch (aQuery.total()) {
+            case EXACT -> count(aType, aFilter);
+            case CACHED -> this.totals.asMap().computeIfAbsent(
+                    aType.getName() + "|" + aQuery.filterKey(),
+                    it -> count(aType, aFilter));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private <T> long count(final Class<T> aType, final Specification<T> aFilter) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(aType);
+
+        query.select(cb.count(root));
+
+        final var predicate = Specification.where(aFilter).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Scores are not stable enough to seek from, so relevance pages are offset based and most relevant first
+    private static <T> List<Order> relevanceOrders(final Relevance<T> aRelevance, final Root<T> root, final CriteriaBuilder cb) {
+        final var orders = new ArrayList<Order>();
+        if (aRelevance != null) {
+            orders.add(cb.desc(aRelevance.toExpression(root, cb)));
+        }
+        orders.add(cb.asc(root.get(ID)));
+        return orders;
+    }
+
+    private static Sort sortOf(final String sort, final String direction) {
+        final var aDirection = Direction.fromString(direction);
+        return Sort.by(aDirection, sort).and(Sort.by(aDirection, ID));
+    }
+
+    private record Position(Object value, String id) {
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.github.allisson95.codeflix.infrastructure.pagination;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+
+@FunctionalInterface
+public interface Relevance<T> {
+
+    Expression<? extends Number> toExpression(Root<T> root, CriteriaBuilder cb);
+
+}
@@ -0,0 +1,86 @@
+package com.github.allisson95.codeflix.infrastructure.pagination;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.search.SearchIndexProperties;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.search.SearchProperties;
+import com.github.allisson95.codeflix.infrastructure.search.CatalogSearchIndex;
+import com.github.allisson95.codeflix.infrastructure.utils.SpecificationUtils;
+import com.github.allisson95.codeflix.infrastructure.utils.SqlUtils;
+
+@Component
+public class TextSearch {
+
+    private final SearchProperties properties;
+    private final SearchIndexProperties indexProperties;
+    private final CatalogSearchIndex searchIndex;
+
+    public TextSearch(
+            final SearchProperties properties,
+            final SearchIndexProperties indexProperties,
+            final CatalogSearchIndex searchIndex) {
+        this.properties = Objects.requireNonNull(properties);
+        this.indexProperties = Objects.requireNonNull(indexProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    public <T> Specification<T> matching(final Class<T> aType, final String terms, final String... props) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        // The index resolves the matching ids in memory; MySQL only hydrates them, as long as the IN list stays small
+        final var indexed = this.searchIndex.search(aType, terms)
+                .filter(ids -> ids.size() <= this.indexProperties.getMaxMatches());
+        if (indexed.isPresent()) {
+            return SpecificationUtils.idIn(indexed.get());
+        }
+
+        final var fullTextQuery = fullTextQueryOf(terms);
+        if (fullTextQuery != null) {
+            return SpecificationUtils.match(fullTextQuery, props);
+        }
+
+        // Same terms as the index and the full-text query: every word must appear, in any of the fields
+        return SqlUtils.words(terms).stream()
+                .map(word -> anyOf(word, props))
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    public <T> Relevance<T> relevance(final String terms, final String... props) {
+        final var fullTextQuery = fullTextQueryOf(terms);
+        if (fullTextQuery == null) {
+            return null;
+        }
+
+        return (root, cb) -> SpecificationUtils.score(root, cb, fullTextQuery, props);
+    }
+
+    public void index(final Object anEntity) {
+        this.searchIndex.index(anEntity);
+    }
+
+    public void remove(final Class<?> aType, final String anId) {
+        this.searchIndex.remove(aType, anId);
+    }
+
+    private static <T> Specification<T> anyOf(final String word, final String... props) {
+        return Arrays.stream(props)
+                .map(prop -> SpecificationUtils.<T>like(prop, word))
+                .reduce(Specification::or)
+                .orElse(null);
+    }
+
+    private String fullTextQueryOf(final String terms) {
+        if (!this.properties.isFullText()) {
+            return null;
+        }
+        return SqlUtils.fullText(terms, this.properties.getMinTokenSize());
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.github.allisson95.codeflix.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.Selection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.allisson95.codeflix.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.search.SearchIndexProperties;
+import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.utils.TransactionUtils;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoJpaEntity;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class CatalogSearchIndex implements Runnable, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSearchIndex.class);
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+    private final SearchIndexProperties properties;
+    private final Map<Class<?>, Indexed> indexes;
+
+    public CatalogSearchIndex(final EntityManager entityManager, final SearchIndexProperties properties) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.properties = Objects.requireNonNull(properties);
+        this.indexes = Map.of(
+                CategoryJpaEntity.class, new Indexed(CategoryJpaEntity.class, "name", "description"),
+                GenreJpaEntity.class, new Indexed(GenreJpaEntity.class, "name"),
+                CastMemberJpaEntity.class, new Indexed(CastMemberJpaEntity.class, "name"),
+                VideoJpaEntity.class, new Indexed(VideoJpaEntity.class, "title"));
+    }
+
+    public Optional<List<String>> search(final Class<?> aType, final String terms) {
+        if (!this.properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        final var indexed = this.indexes.get(aType);
+        if (indexed == null) {
+            return Optional.empty();
+        }
+
+        return indexed.search(terms);
+    }
+
+    public void index(final Object anEntity) {
+        final var indexed = this.indexes.get(anEntity.getClass());
+        if (indexed == null || !this.properties.isEnabled()) {
+            return;
+        }
+
+        final var entity = PropertyAccessorFactory.forDirectFieldAccess(anEntity);
+        final var fields = indexed.fields.stream()
+                .map(it -> (String) entity.getPropertyValue(it))
+                .toArray(String[]::new);
+
+        final var anId = (String) entity.getPropertyValue(ID);
+
+        // A rolled back write must not become searchable, and a search must not return an id the database cannot load yet
+        TransactionUtils.afterCommit(() -> indexed.apply(it -> it.put(anId, fields)));
+    }
+
+    public void remove(final Class<?> aType, final String anId) {
+        final var indexed = this.indexes.get(aType);
+        if (indexed == null || !this.properties.isEnabled()) {
+            return;
+        }
+
+        TransactionUtils.afterCommit(() -> indexed.apply(it -> it.remove(anId)));
+    }
+
+    @Override
+    public void run() {
+        try {
+            rebuild();
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to rebuild the catalog search index, keeping the previous one", e);
+        }
+    }
+
+    public void rebuild() {
+        this.indexes.values().forEach(this::rebuild);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.indexes.forEach((aType, indexed) -> Gauge.builder("search.index.documents", indexed, Indexed::size)
+                .tag("type", aType.getSimpleName())
+                .register(registry));
+    }
+
+    private void rebuild(final Indexed indexed) {
+        indexed.startRebuild();
+
+        final var next = new TrigramIndex();
+        try {
+            final var cb = this.entityManager.getCriteriaBuilder();
+            final var query = cb.createTupleQuery();
+            final var root = query.from(indexed.type);
+
+            final var selections = new ArrayList<Selection<?>>();
+            selections.add(root.get(ID));
+            indexed.fields.forEach(it -> selections.add(root.get(it)));
+            query.multiselect(selections);
+
+            for (final var row : this.entityManager.createQuery(query).getResultList()) {
+                final var fields = new String[indexed.fields.size()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = row.get(i + 1, String.class);
+                }
+                next.put(row.get(0, String.class), fields);
+            }
+        } catch (final RuntimeException e) {
+            indexed.abortRebuild();
+            throw e;
+        }
+
+        indexed.finishRebuild(next);
+        logger.debug("Catalog search index rebuilt [type:{}] [documents:{}]", indexed.type.getSimpleName(), next.size());
+    }
+
+    // Writes that land while a rebuild reads the table are journaled and replayed on the new index before it is swapped in
+    private static final class Indexed {
+
+        private final Class<?> type;
+        private final List<String> fields;
+        private volatile TrigramIndex current;
+        private List<Consumer<TrigramIndex>> journal;
+
+        Indexed(final Class<?> type, final String... fields) {
+            this.type = type;
+            this.fields = List.of(fields);
+        }
+
+        Optional<List<String>> search(final String terms) {
+            final var index = this.current;
+            return index != null ? Optional.of(index.search(terms)) : Optional.empty();
+        }
+
+        synchronized void apply(final Consumer<TrigramIndex> aChange) {
+            if (this.current != null) {
+                aChange.accept(this.current);
+            }
+            if (this.journal != null) {
+                this.journal.add(aChange);
+            }
+        }
+
+        synchronized void startRebuild() {
+            this.journal = new ArrayList<>();
+        }
+
+        synchronized void abortRebuild() {
+            this.journal = null;
+        }
+
+        synchronized void finishRebuild(final TrigramIndex next) {
+            this.journal.forEach(it -> it.accept(next));
+            this.journal = null;
+            this.current = next;
+        }
+
+        int size() {
+            final var index = this.current;
+            return index != null ? index.size() : 0;
+        }
+
+    }
+
+}
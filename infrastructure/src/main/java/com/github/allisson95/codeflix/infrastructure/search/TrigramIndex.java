@@ -0,0 +1,243 @@
+package com.github.allisson95.codeflix.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class TrigramIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACTION = 1024;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}_]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private String[] ids = new String[16];
+    private String[] texts = new String[16];
+    private int next;
+
+    public static String fold(final String text) {
+        if (text == null) {
+            return "";
+        }
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final var withoutMarks = MARKS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(withoutMarks).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public void put(final String id, final String... fields) {
+        Objects.requireNonNull(id);
+
+        // Fields are joined with a separator no query can contain, so matches never span two fields
+        final var text = String.join("\u0000", Arrays.stream(fields).map(TrigramIndex::fold).toList());
+
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            addLocked(id, text);
+            compactIfNeededLocked();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            compactIfNeededLocked();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.ordinals.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    // Like the FULLTEXT query, every word must appear, in any order and in any field
+    public List<String> search(final String terms) {
+        final var words = wordsOf(fold(terms));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final var lists = new ArrayList<Postings>();
+            for (final var word : words) {
+                for (final var gram : gramsOf(word)) {
+                    final var list = this.postings.get(gram);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+            }
+            if (lists.isEmpty()) {
+                return scanLocked(words);
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+
+            final var candidates = intersect(lists);
+            final var matches = new ArrayList<String>(candidates.length);
+            for (final var ordinal : candidates) {
+                if (this.live.get(ordinal) && containsAll(this.texts[ordinal], words)) {
+                    matches.add(this.ids[ordinal]);
+                }
+            }
+            return matches;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private List<String> scanLocked(final Set<String> words) {
+        final var matches = new ArrayList<String>();
+        for (var ordinal = this.live.nextSetBit(0); ordinal >= 0; ordinal = this.live.nextSetBit(ordinal + 1)) {
+            if (containsAll(this.texts[ordinal], words)) {
+                matches.add(this.ids[ordinal]);
+            }
+        }
+        return matches;
+    }
+
+    private void addLocked(final String id, final String text) {
+        if (this.next == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.next * 2);
+            this.texts = Arrays.copyOf(this.texts, this.next * 2);
+        }
+
+        final var ordinal = this.next++;
+        this.ids[ordinal] = id;
+        this.texts[ordinal] = text;
+        this.ordinals.put(id, ordinal);
+        this.live.set(ordinal);
+
+        for (final var gram : gramsOf(text)) {
+            this.postings.computeIfAbsent(gram, it -> new Postings()).add(ordinal);
+        }
+    }
+
+    private void removeLocked(final String id) {
+        final var ordinal = this.ordinals.remove(id);
+        if (ordinal != null) {
+            this.live.clear(ordinal);
+            this.texts[ordinal] = null;
+            this.ids[ordinal] = null;
+        }
+    }
+
+    // Removed documents leave stale ordinals in the postings; rebuild them once they outnumber the live ones
+    private void compactIfNeededLocked() {
+        final var dead = this.next - this.ordinals.size();
+        if (dead < MIN_COMPACTION || dead < this.ordinals.size()) {
+            return;
+        }
+
+        final var liveIds = new ArrayList<String>(this.ordinals.size());
+        final var liveTexts = new ArrayList<String>(this.ordinals.size());
+        for (var ordinal = this.live.nextSetBit(0); ordinal >= 0; ordinal = this.live.nextSetBit(ordinal + 1)) {
+            liveIds.add(this.ids[ordinal]);
+            liveTexts.add(this.texts[ordinal]);
+        }
+
+        this.postings.clear();
+        this.ordinals.clear();
+        this.live.clear();
+        this.ids = new String[Math.max(16, liveIds.size() * 2)];
+        this.texts = new String[this.ids.length];
+        this.next = 0;
+
+        for (int i = 0; i < liveIds.size(); i++) {
+            addLocked(liveIds.get(i), liveTexts.get(i));
+        }
+    }
+
+    private static Set<String> wordsOf(final String query) {
+        final var words = new LinkedHashSet<String>();
+        for (final var word : NON_WORD.split(query)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static boolean containsAll(final String text, final Set<String> words) {
+        for (final var word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LinkedHashSet<Long> gramsOf(final String text) {
+        final var grams = new LinkedHashSet<Long>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static int[] intersect(final List<Postings> lists) {
+        var result = Arrays.copyOf(lists.get(0).ordinals, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            final var other = lists.get(i);
+            final var merged = new int[result.length];
+            var size = 0;
+            var j = 0;
+            for (final var ordinal : result) {
+                while (j < other.size && other.ordinals[j] < ordinal) {
+                    j++;
+                }
+                if (j < other.size && other.ordinals[j] == ordinal) {
+                    merged[size++] = ordinal;
+                }
+            }
+            result = Arrays.copyOf(merged, size);
+        }
+        return result;
+    }
+
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(final int ordinal) {
+            if (this.size == this.ordinals.length) {
+                this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+            }
+            this.ordinals[this.size++] = ordinal;
+        }
+
+        int size() {
+            return this.size;
+        }
+
+    }
+
+}
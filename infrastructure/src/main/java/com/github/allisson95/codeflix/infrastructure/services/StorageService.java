@@ -8,10 +8,18 @@ import com.github.allisson95.codeflix.domain.resource.Resource;
 
 public interface StorageService {
 
+    // The target takes the name and content type of aResource, which describes the same content as the source
+    void copy(String source, String target, Resource aResource);
+
     void deleteAll(Collection<String> names);
 
     Optional<Resource> get(String name);
 
+    // A cached copy with the checksum the caller expects may be served without asking the backend
+    default Optional<Resource> get(String name, String expectedChecksum) {
+        return get(name);
+    }
+
     List<String> list(String prefix);
 
     void store(String name, Resource resource);
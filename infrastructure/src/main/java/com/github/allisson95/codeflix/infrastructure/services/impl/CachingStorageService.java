@@ -0,0 +1,416 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class CachingStorageService implements StorageService, MeterBinder {
+
+    private static final String METRIC_PREFIX = "storage.cache";
+
+    private final StorageService delegate;
+    private final MemoryTier memory;
+    private final DiskTier disk;
+    private final Executor diskFillExecutor;
+    private final LongAdder misses = new LongAdder();
+
+    public CachingStorageService(
+            final StorageService delegate,
+            final long memoryMaxBytes,
+            final long memoryMaxObjectSize,
+            final Path diskDirectory,
+            final long diskMaxBytes,
+            final long diskMaxObjectSize,
+            final Executor diskFillExecutor) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.memory = new MemoryTier(memoryMaxBytes, memoryMaxObjectSize);
+        this.disk = new DiskTier(diskDirectory, diskMaxBytes, diskMaxObjectSize);
+        this.diskFillExecutor = Objects.requireNonNull(diskFillExecutor);
+    }
+
+    @Override
+    public void copy(final String source, final String target, final Resource aResource) {
+        invalidate(target);
+        this.delegate.copy(source, target, aResource);
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        names.forEach(this::invalidate);
+        this.delegate.deleteAll(names);
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var stored = this.delegate.get(name);
+        if (stored.isEmpty()) {
+            invalidate(name);
+            return stored;
+        }
+
+        final var aResource = stored.get();
+
+        final var fromMemory = this.memory.get(name, aResource.checksum());
+        if (fromMemory != null) {
+            return Optional.of(fromMemory);
+        }
+
+        final var fromDisk = this.disk.get(name, aResource.checksum());
+        if (fromDisk != null) {
+            return Optional.of(fromDisk);
+        }
+
+        this.misses.increment();
+
+        if (this.memory.accepts(aResource)) {
+            return Optional.of(this.memory.put(name, aResource));
+        }
+
+        // The first read streams from the delegate while the disk copy is written behind it, once per name
+        if (this.disk.accepts(aResource)) {
+            this.disk.fill(name, aResource, this.diskFillExecutor);
+        }
+
+        return stored;
+    }
+
+    @Override
+    public Optional<Resource> get(final String name, final String expectedChecksum) {
+        final var fromMemory = this.memory.get(name, expectedChecksum);
+        if (fromMemory != null) {
+            return Optional.of(fromMemory);
+        }
+
+        final var fromDisk = this.disk.get(name, expectedChecksum);
+        if (fromDisk != null) {
+            return Optional.of(fromDisk);
+        }
+
+        return get(name);
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return this.delegate.list(prefix);
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        invalidate(name);
+        this.delegate.store(name, resource);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+                this.memory.hits.sum(),
+                this.disk.hits.sum(),
+                this.misses.sum(),
+                this.memory.evictions.sum(),
+                this.disk.evictions.sum(),
+                this.memory.bytes(),
+                this.disk.bytes());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", this.memory.hits, LongAdder::sum)
+                .tag("tier", "memory")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", this.disk.hits, LongAdder::sum)
+                .tag("tier", "disk")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", this.misses, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", this.memory.evictions, LongAdder::sum)
+                .tag("tier", "memory")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", this.disk.evictions, LongAdder::sum)
+                .tag("tier", "disk")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this.memory, MemoryTier::bytes)
+                .tag("tier", "memory")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this.disk, DiskTier::bytes)
+                .tag("tier", "disk")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void invalidate(final String name) {
+        this.memory.remove(name);
+        this.disk.remove(name);
+    }
+
+    public record CacheStats(
+            long memoryHits,
+            long diskHits,
+            long misses,
+            long memoryEvictions,
+            long diskEvictions,
+            long memoryBytes,
+            long diskBytes) {
+
+    }
+
+    private record Entry(String checksum, String contentType, String resourceName, long size, byte[] content, Path file) {
+
+        // The file is opened here, so evicting the entry afterwards only unlinks it; readers keep the open channel
+        Resource toResource() throws IOException {
+            if (content != null) {
+                return Resource.of(checksum, content, contentType, resourceName);
+            }
+            return Resource.of(checksum, OpenedFileSource.open(file), size, contentType, resourceName);
+        }
+
+    }
+
+    private abstract static class Tier {
+
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxBytes;
+        private final long maxObjectSize;
+        private long bytes;
+
+        final LongAdder hits = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+
+        Tier(final long maxBytes, final long maxObjectSize) {
+            this.maxBytes = maxBytes;
+            this.maxObjectSize = Math.min(maxObjectSize, maxBytes);
+        }
+
+        boolean accepts(final Resource aResource) {
+            return aResource.size() > 0 && aResource.size() <= this.maxObjectSize;
+        }
+
+        synchronized long bytes() {
+            return this.bytes;
+        }
+
+        Resource get(final String name, final String checksum) {
+            final Entry entry;
+            synchronized (this) {
+                entry = this.entries.get(name);
+            }
+
+            if (entry == null || !entry.checksum().equals(checksum)) {
+                return null;
+            }
+
+            final Resource aResource;
+            try {
+                aResource = entry.toResource();
+            } catch (final IOException e) {
+                // discarded between the lookup and the open
+                return null;
+            }
+
+            this.hits.increment();
+            return aResource;
+        }
+
+        void add(final String name, final Entry entry) {
+            final var evicted = new ArrayList<Entry>();
+
+            synchronized (this) {
+                final var previous = this.entries.put(name, entry);
+                if (previous != null) {
+                    this.bytes -= previous.size();
+                    if (!Objects.equals(previous.file(), entry.file())) {
+                        evicted.add(previous);
+                    }
+                }
+                this.bytes += entry.size();
+
+                final var iterator = this.entries.entrySet().iterator();
+                while (this.bytes > this.maxBytes && iterator.hasNext()) {
+                    final var eldest = iterator.next();
+                    if (eldest.getValue() == entry) {
+                        continue;
+                    }
+                    iterator.remove();
+                    this.bytes -= eldest.getValue().size();
+                    this.evictions.increment();
+                    evicted.add(eldest.getValue());
+                }
+            }
+
+            evicted.forEach(this::discard);
+        }
+
+        void remove(final String name) {
+            final Entry removed;
+            synchronized (this) {
+                removed = this.entries.remove(name);
+                if (removed != null) {
+                    this.bytes -= removed.size();
+                }
+            }
+
+            if (removed != null) {
+                discard(removed);
+            }
+        }
+
+        void discard(final Entry entry) {
+        }
+
+    }
+
+    private static class MemoryTier extends Tier {
+
+        MemoryTier(final long maxBytes, final long maxObjectSize) {
+            super(maxBytes, maxObjectSize);
+        }
+
+        Resource put(final String name, final Resource aResource) {
+            final byte[] content;
+            try (final var in = aResource.openStream()) {
+                content = in.readAllBytes();
+            } catch (final IOException e) {
+                return aResource;
+            }
+
+            final var entry = new Entry(
+                    aResource.checksum(),
+                    aResource.contentType(),
+                    aResource.name(),
+                    content.length,
+                    content,
+                    null);
+
+            add(name, entry);
+            return Resource.of(entry.checksum(), content, entry.contentType(), entry.resourceName());
+        }
+
+    }
+
+    private static class DiskTier extends Tier {
+
+        private static final String ENTRIES_DIRECTORY = "entries";
+        private static final Pattern ENTRY_FILE = Pattern.compile("[0-9a-f]{64}(\\.[0-9a-f-]+\\.tmp)?");
+
+        private final Path directory;
+        private final Map<String, Object> filling = new HashMap<>();
+
+        DiskTier(final Path directory, final long maxBytes, final long maxObjectSize) {
+            super(maxBytes, maxObjectSize);
+            this.directory = Objects.requireNonNull(directory).toAbsolutePath().normalize().resolve(ENTRIES_DIRECTORY);
+            try {
+                Files.createDirectories(this.directory);
+                // entries do not survive a restart; only files named like ours are removed
+                try (final Stream<Path> files = Files.list(this.directory)) {
+                    files.filter(it -> ENTRY_FILE.matcher(it.getFileName().toString()).matches())
+                            .filter(Files::isRegularFile)
+                            .forEach(DiskTier::deleteQuietly);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void fill(final String name, final Resource aResource, final Executor executor) {
+            final var aFill = new Object();
+            synchronized (this) {
+                if (this.filling.putIfAbsent(name, aFill) != null) {
+                    return;
+                }
+            }
+
+            try {
+                executor.execute(() -> write(name, aResource, aFill));
+            } catch (final RejectedExecutionException e) {
+                synchronized (this) {
+                    this.filling.remove(name, aFill);
+                }
+            }
+        }
+
+        @Override
+        void remove(final String name) {
+            synchronized (this) {
+                this.filling.remove(name);
+            }
+            super.remove(name);
+        }
+
+        private void write(final String name, final Resource aResource, final Object aFill) {
+            final var key = Hashing.sha256()
+                    .hashString(name + "@" + aResource.checksum(), StandardCharsets.UTF_8)
+                    .toString();
+            final var file = this.directory.resolve(key);
+            final var temporaryFile = this.directory.resolve(key + "." + IdUtils.uuid() + ".tmp");
+
+            try {
+                try (final var in = aResource.openStream()) {
+                    Files.copy(in, temporaryFile);
+                }
+
+                final var entry = new Entry(
+                        aResource.checksum(),
+                        aResource.contentType(),
+                        aResource.name(),
+                        Files.size(temporaryFile),
+                        null,
+                        file);
+
+                synchronized (this) {
+                    // invalidated while the copy ran
+                    if (this.filling.get(name) != aFill) {
+                        return;
+                    }
+                    Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    add(name, entry);
+                }
+            } catch (final IOException | RuntimeException ignored) {
+                // left uncached; the next miss tries again
+            } finally {
+                synchronized (this) {
+                    this.filling.remove(name, aFill);
+                }
+                deleteQuietly(temporaryFile);
+            }
+        }
+
+        @Override
+        void discard(final Entry entry) {
+            deleteQuietly(entry.file());
+        }
+
+        private static void deleteQuietly(final Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignored) {
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+
+class FileSource implements Resource.Source {
+
+    private final Path file;
+
+    FileSource(final Path file) {
+        this.file = Objects.requireNonNull(file);
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return open(0);
+    }
+
+    @Override
+    public InputStream open(final long offset) throws IOException {
+        final var channel = FileChannel.open(this.file, StandardOpenOption.READ);
+        channel.position(offset);
+        return Channels.newInputStream(channel);
+    }
+
+    // Only a FileChannel or SocketChannel target gets the kernel transfer; a channel over the servlet output stream
+    // still copies each chunk through a buffer, this just avoids the InputStream layer in between
+    @Override
+    public long transferTo(final long offset, final long length, final WritableByteChannel target)
+            throws IOException {
+        try (final var channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            final var end = Math.min(offset + length, channel.size());
+            var position = offset;
+            while (position < end) {
+                final var transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position - offset;
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final String SEPARATOR = "/";
+    private static final String HIDDEN_PREFIX = ".";
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "content-type";
+    private static final String NAME = "name";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copy(final String source, final String target, final Resource aResource) {
+        final var sourceFile = pathOf(source);
+        final var targetFile = pathOf(target);
+        final var temporaryFile = temporaryOf(targetFile);
+        final var temporaryMetadata = temporaryOf(metadataOf(targetFile));
+
+        try {
+            Files.createDirectories(targetFile.getParent());
+            Files.copy(sourceFile, temporaryFile);
+            writeMetadata(temporaryMetadata, aResource);
+
+            move(temporaryFile, targetFile);
+            move(temporaryMetadata, metadataOf(targetFile));
+        } catch (final IOException e) {
+            throw new InternalErrorException("An error on copy resource was observed [source:%s] [target:%s]"
+                    .formatted(source, target), e);
+        } finally {
+            deleteQuietly(temporaryFile);
+            deleteQuietly(temporaryMetadata);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        for (final var name : names) {
+            final var file = pathOf(name);
+            try {
+                Files.deleteIfExists(metadataOf(file));
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                throw new InternalErrorException("An error on delete resource was observed [name:%s]".formatted(name), e);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var file = pathOf(name);
+        final var metadata = new Properties();
+
+        try (final var in = Files.newInputStream(metadataOf(file))) {
+            metadata.load(in);
+            return Optional.of(Resource.of(
+                    metadata.getProperty(CHECKSUM),
+                    new FileSource(file),
+                    Files.size(file),
+                    metadata.getProperty(CONTENT_TYPE),
+                    metadata.getProperty(NAME)));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new InternalErrorException("An error on get resource was observed [name:%s]".formatted(name), e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+
+        final var lastSeparator = prefix.lastIndexOf(SEPARATOR);
+        final var folder = lastSeparator >= 0 ? pathOf(prefix.substring(0, lastSeparator)) : this.root;
+        final var filenamePrefix = prefix.substring(lastSeparator + 1);
+
+        if (!Files.isDirectory(folder)) {
+            return Collections.emptyList();
+        }
+
+        final var names = new ArrayList<String>();
+        try (final DirectoryStream<Path> entries = Files.newDirectoryStream(folder,
+                it -> isVisible(it) && it.getFileName().toString().startsWith(filenamePrefix))) {
+            for (final var entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    try (final Stream<Path> files = Files.walk(entry)) {
+                        files.filter(Files::isRegularFile)
+                                .filter(this::isVisible)
+                                .map(this::nameOf)
+                                .forEach(names::add);
+                    }
+                } else {
+                    names.add(nameOf(entry));
+                }
+            }
+        } catch (final IOException e) {
+            throw new InternalErrorException("An error on list resources was observed [prefix:%s]".formatted(prefix), e);
+        }
+
+        return names;
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var file = pathOf(name);
+        final var temporaryFile = temporaryOf(file);
+        final var temporaryMetadata = temporaryOf(metadataOf(file));
+
+        try {
+            Files.createDirectories(file.getParent());
+
+            final String actualChecksum;
+            try (final var in = HashingUtils.checksumming(resource.openStream());
+                    final var out = Files.newOutputStream(temporaryFile, StandardOpenOption.CREATE_NEW)) {
+                in.transferTo(out);
+                actualChecksum = in.hash().toString();
+            }
+
+            if (!actualChecksum.equals(resource.checksum())) {
+                throw new InternalErrorException("Checksum mismatch on store resource [name:%s] [expected:%s] [actual:%s]"
+                        .formatted(name, resource.checksum(), actualChecksum));
+            }
+
+            writeMetadata(temporaryMetadata, resource);
+
+            // get() only sees a resource through its sidecar, so the data is in place before the sidecar publishes it
+            move(temporaryFile, file);
+            move(temporaryMetadata, metadataOf(file));
+        } catch (final IOException e) {
+            throw new InternalErrorException("An error on store resource was observed [name:%s]".formatted(name), e);
+        } finally {
+            deleteQuietly(temporaryFile);
+            deleteQuietly(temporaryMetadata);
+        }
+    }
+
+    private Path pathOf(final String name) {
+        final var path = this.root.resolve(name).normalize();
+        if (!path.startsWith(this.root) || path.equals(this.root)) {
+            throw new IllegalArgumentException("Resource name '%s' is outside of the storage root".formatted(name));
+        }
+        return path;
+    }
+
+    private String nameOf(final Path file) {
+        return this.root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), SEPARATOR);
+    }
+
+    private boolean isVisible(final Path path) {
+        return !path.getFileName().toString().startsWith(HIDDEN_PREFIX);
+    }
+
+    private static Path metadataOf(final Path file) {
+        return file.resolveSibling(HIDDEN_PREFIX + file.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static Path temporaryOf(final Path file) {
+        final var filename = file.getFileName().toString();
+        final var hidden = filename.startsWith(HIDDEN_PREFIX) ? filename : HIDDEN_PREFIX + filename;
+        return file.resolveSibling(hidden + "." + IdUtils.uuid() + TEMPORARY_SUFFIX);
+    }
+
+    private static void writeMetadata(final Path temporaryMetadata, final Resource aResource) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CHECKSUM, aResource.checksum());
+        metadata.setProperty(CONTENT_TYPE, aResource.contentType());
+        metadata.setProperty(NAME, aResource.name());
+        try (final var out = Files.newOutputStream(temporaryMetadata, StandardOpenOption.CREATE_NEW)) {
+            metadata.store(out, null);
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+
+}
@@ -1,19 +1,27 @@
 package com.github.allisson95.codeflix.infrastructure.services.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
 import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
 public class GCStorageService implements StorageService {
 
+    private static final int CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int READ_CHUNK_SIZE = 1024 * 1024;
+
     private final String bucket;
     private final Storage storage;
 
@@ -22,6 +30,18 @@ public class GCStorageService implements StorageService {
         this.storage = Objects.requireNonNull(storage);
     }
 
+    @Override
+    public void copy(final String source, final String target, final Resource aResource) {
+        // a target BlobInfo replaces the metadata the blob would otherwise inherit from the source
+        final var aRequest = Storage.CopyRequest.of(
+                BlobId.of(this.bucket, source),
+                BlobInfo.newBuilder(this.bucket, target)
+                        .setContentType(aResource.contentType())
+                        .build());
+
+        this.storage.copy(aRequest).getResult();
+    }
+
     @Override
     public void deleteAll(final Collection<String> names) {
         final var blobIds = names.stream()
@@ -31,12 +51,15 @@ public class GCStorageService implements StorageService {
         this.storage.delete(blobIds);
     }
 
+    // Reads are pinned to the generation resolved here, so every range of the resource comes from the object
+    // whose checksum and size were returned, even if the name is overwritten while it is being served
     @Override
     public Optional<Resource> get(final String name) {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(it -> Resource.of(
                         it.getCrc32cToHexString(),
-                        it.getContent(),
+                        new BlobSource(BlobId.of(this.bucket, name, it.getGeneration())),
+                        it.getSize() != null ? it.getSize() : 0L,
                         it.getContentType(),
                         it.getName()));
     }
@@ -58,7 +81,49 @@ public class GCStorageService implements StorageService {
                 .setCrc32cFromHexString(resource.checksum())
                 .build();
 
-        this.storage.create(blobInfo, resource.content());
+        if (!resource.isStreamed()) {
+            this.storage.create(blobInfo, resource.content());
+            return;
+        }
+
+        final String actualChecksum;
+        try (final var in = HashingUtils.checksumming(resource.openStream());
+                final var writer = this.storage.writer(blobInfo)) {
+            writer.setChunkSize(CHUNK_SIZE);
+            in.transferTo(Channels.newOutputStream(writer));
+            actualChecksum = in.hash().toString();
+        } catch (final IOException e) {
+            throw new InternalErrorException("An error on store resource was observed [name:%s]".formatted(name), e);
+        }
+
+        if (!actualChecksum.equals(resource.checksum())) {
+            this.storage.delete(BlobId.of(this.bucket, name));
+            throw new InternalErrorException("Checksum mismatch on store resource [name:%s] [expected:%s] [actual:%s]"
+                    .formatted(name, resource.checksum(), actualChecksum));
+        }
+    }
+
+    private class BlobSource implements Resource.Source {
+
+        private final BlobId blobId;
+
+        private BlobSource(final BlobId blobId) {
+            this.blobId = Objects.requireNonNull(blobId);
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            return open(0);
+        }
+
+        @Override
+        public InputStream open(final long offset) throws IOException {
+            final var reader = storage.reader(this.blobId);
+            reader.setChunkSize(READ_CHUNK_SIZE);
+            reader.seek(offset);
+            return Channels.newInputStream(reader);
+        }
+
     }
 
 }
@@ -0,0 +1,171 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+
+// Holds a channel opened when the resource is handed out, so the file can be unlinked while it is still being read.
+// The channel closes when the last stream opened from it closes (or when the source is collected unread); opening
+// the source again after that goes back to the path.
+class OpenedFileSource implements Resource.Source {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final FileSource fallback;
+    private final Handle handle;
+
+    private OpenedFileSource(final Path file, final FileChannel channel) {
+        this.fallback = new FileSource(file);
+        this.handle = new Handle(channel);
+        CLEANER.register(this, this.handle);
+    }
+
+    static OpenedFileSource open(final Path file) throws IOException {
+        return new OpenedFileSource(file, FileChannel.open(Objects.requireNonNull(file), StandardOpenOption.READ));
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return open(0);
+    }
+
+    @Override
+    public InputStream open(final long offset) throws IOException {
+        final var channel = this.handle.acquire();
+        if (channel == null) {
+            return this.fallback.open(offset);
+        }
+        return new ChannelInputStream(channel, offset, this.handle);
+    }
+
+    @Override
+    public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+        final var channel = this.handle.acquire();
+        if (channel == null) {
+            return this.fallback.transferTo(offset, length, target);
+        }
+
+        try {
+            final var end = Math.min(offset + length, channel.size());
+            var position = offset;
+            while (position < end) {
+                final var transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position - offset;
+        } finally {
+            this.handle.release();
+        }
+    }
+
+    private static final class Handle implements Runnable {
+
+        private final FileChannel channel;
+        private int readers;
+        private boolean closed;
+
+        private Handle(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+        synchronized FileChannel acquire() {
+            if (this.closed) {
+                return null;
+            }
+            this.readers++;
+            return this.channel;
+        }
+
+        synchronized void release() {
+            if (--this.readers == 0) {
+                close();
+            }
+        }
+
+        // Cleaner action: a stream still being read keeps the channel until it is closed
+        @Override
+        public synchronized void run() {
+            if (this.readers == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            try {
+                this.channel.close();
+            } catch (final IOException ignored) {
+            }
+        }
+
+    }
+
+    // Positional reads, so streams opened from the same channel do not move each other
+    private static final class ChannelInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final Handle handle;
+        private long position;
+        private boolean closed;
+
+        private ChannelInputStream(final FileChannel channel, final long position, final Handle handle) {
+            this.channel = channel;
+            this.position = position;
+            this.handle = handle;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final var read = this.channel.read(ByteBuffer.wrap(b, off, len), this.position);
+            if (read > 0) {
+                this.position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = Math.max(0, Math.min(n, this.channel.size() - this.position));
+            this.position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, this.channel.size() - this.position));
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                this.handle.release();
+            }
+        }
+
+    }
+
+}
@@ -1,34 +1,72 @@
 package com.github.allisson95.codeflix.infrastructure.services.local;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
 import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
 
 public class InMemoryStorageService implements StorageService {
 
-    private final Map<String, Resource> storage;
+    private final ConcurrentNavigableMap<String, Resource> storage;
+    private final LinkedHashMap<String, Long> sizes;
+    private final long maxBytes;
+    private long bytes;
+    private long evictions;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this(Long.MAX_VALUE);
     }
 
-    public Map<String, Resource> storage() {
+    public InMemoryStorageService(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("'maxBytes' must be greater than 0");
+        }
+        this.storage = new ConcurrentSkipListMap<>();
+        this.sizes = new LinkedHashMap<>();
+        this.maxBytes = maxBytes;
+    }
+
+    public ConcurrentNavigableMap<String, Resource> storage() {
         return this.storage;
     }
 
-    public void reset() {
+    public synchronized long bytes() {
+        return this.bytes;
+    }
+
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    public synchronized void reset() {
         this.storage.clear();
+        this.sizes.clear();
+        this.bytes = 0;
+        this.evictions = 0;
+    }
+
+    @Override
+    public void copy(final String source, final String target, final Resource aResource) {
+        final var stored = this.storage.get(source);
+        if (stored != null) {
+            put(target, Resource.of(aResource.checksum(), stored.content(), aResource.contentType(), aResource.name()));
+        }
     }
 
     @Override
-    public void deleteAll(final Collection<String> names) {
-        names.forEach(this.storage::remove);
+    public synchronized void deleteAll(final Collection<String> names) {
+        for (final var name : names) {
+            this.storage.remove(name);
+            untrack(name);
+        }
     }
 
     @Override
@@ -42,14 +80,54 @@ public class InMemoryStorageService implements StorageService {
             return Collections.emptyList();
         }
 
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
+        return this.storage.tailMap(prefix, true).keySet().stream()
+                .takeWhile(it -> it.startsWith(prefix))
                 .toList();
     }
 
     @Override
     public void store(final String name, final Resource resource) {
+        if (resource.size() > this.maxBytes) {
+            throw new InternalErrorException("Resource exceeds the in-memory storage capacity [name:%s] [size:%d] [max:%d]"
+                    .formatted(name, resource.size(), this.maxBytes));
+        }
+
+        if (resource.isStreamed()) {
+            try (final var in = resource.openStream()) {
+                put(name, Resource.of(resource.checksum(), in.readAllBytes(), resource.contentType(), resource.name()));
+            } catch (final IOException e) {
+                throw new InternalErrorException("An error on store resource was observed [name:%s]".formatted(name), e);
+            }
+            return;
+        }
+
+        put(name, resource);
+    }
+
+    private synchronized void put(final String name, final Resource resource) {
+        untrack(name);
         this.storage.put(name, resource);
+        this.sizes.put(name, resource.size());
+        this.bytes += resource.size();
+
+        final var iterator = this.sizes.entrySet().iterator();
+        while (this.bytes > this.maxBytes && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            if (eldest.getKey().equals(name)) {
+                continue;
+            }
+            iterator.remove();
+            this.storage.remove(eldest.getKey());
+            this.bytes -= eldest.getValue();
+            this.evictions++;
+        }
+    }
+
+    private void untrack(final String name) {
+        final var previous = this.sizes.remove(name);
+        if (previous != null) {
+            this.bytes -= previous;
+        }
     }
 
 }
@@ -0,0 +1,29 @@
+package com.github.allisson95.codeflix.infrastructure.utils;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class AssociationUtils {
+
+    private AssociationUtils() {}
+
+    // Removes and adds only the rows whose ids changed, so unchanged join rows are never deleted and re-inserted
+    public static <E> void sync(
+            final Set<E> current,
+            final Set<String> ids,
+            final Function<E, String> idOf,
+            final Function<String, E> create) {
+        current.removeIf(it -> !ids.contains(idOf.apply(it)));
+
+        final var existing = current.stream()
+                .map(idOf)
+                .collect(Collectors.toSet());
+
+        ids.stream()
+                .filter(it -> !existing.contains(it))
+                .map(create)
+                .forEach(current::add);
+    }
+
+}
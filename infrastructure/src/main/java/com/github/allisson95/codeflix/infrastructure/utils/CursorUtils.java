@@ -0,0 +1,69 @@
+package com.github.allisson95.codeflix.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.validation.Error;
+import com.github.allisson95.codeflix.infrastructure.configuration.json.Json;
+
+public final class CursorUtils {
+
+    private CursorUtils() {}
+
+    public static String encode(final String sort, final String direction, final Object value, final String id) {
+        final var fields = new String[] { sort, direction.toLowerCase(), valueOf(value), id };
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(fields).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Position decode(final String cursor, final String sort, final String direction) {
+        final String[] fields;
+        try {
+            fields = Json.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), String[].class);
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+
+        if (fields == null
+                || fields.length != 4
+                || !sort.equals(fields[0])
+                || !direction.equalsIgnoreCase(fields[1])
+                || fields[3] == null) {
+            throw invalidCursor();
+        }
+
+        return new Position(fields[2], fields[3]);
+    }
+
+    private static String valueOf(final Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid or does not match the requested sort"));
+    }
+
+    public record Position(String value, String id) {
+
+        public Object valueAs(final Class<?> aType) {
+            if (value == null || aType == String.class) {
+                return value;
+            }
+            try {
+                if (aType == Instant.class) {
+                    return Instant.parse(value);
+                }
+                return DefaultConversionService.getSharedInstance().convert(value, aType);
+            } catch (final RuntimeException e) {
+                throw invalidCursor();
+            }
+        }
+
+    }
+
+}
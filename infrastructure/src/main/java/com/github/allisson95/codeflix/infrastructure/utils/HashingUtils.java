@@ -1,7 +1,12 @@
 package com.github.allisson95.codeflix.infrastructure.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 
 public final class HashingUtils {
 
@@ -13,4 +18,15 @@ public final class HashingUtils {
         return CHECKSUM.hashBytes(content).toString();
     }
 
+    public static String checksum(final InputStream content) throws IOException {
+        try (final var in = checksumming(content)) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.hash().toString();
+        }
+    }
+
+    public static HashingInputStream checksumming(final InputStream content) {
+        return new HashingInputStream(CHECKSUM, content);
+    }
+
 }
@@ -0,0 +1,62 @@
+package com.github.allisson95.codeflix.infrastructure.utils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public final class HttpCacheUtils {
+
+    private static final String ANY_TAG = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private HttpCacheUtils() {}
+
+    public static String eTagOf(final String checksum) {
+        return "\"%s\"".formatted(checksum);
+    }
+
+    public static String eTagOf(final Instant updatedAt) {
+        return "\"%x\"".formatted(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt));
+    }
+
+    public static boolean isConditional(final HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    public static boolean isNotModified(final HttpHeaders headers, final String eTag, final Instant lastModified) {
+        if (headers.containsKey(HttpHeaders.IF_NONE_MATCH)) {
+            final var expected = opaqueTagOf(eTag);
+            return ifNoneMatchOf(headers).stream()
+                    .map(HttpCacheUtils::opaqueTagOf)
+                    .anyMatch(it -> ANY_TAG.equals(it) || expected.equals(it));
+        }
+
+        final var ifModifiedSince = headers.getIfModifiedSince();
+        return ifModifiedSince >= 0
+                && lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() <= ifModifiedSince;
+    }
+
+    public static <T> ResponseEntity<T> notModified(final String eTag, final Instant lastModified) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .build();
+    }
+
+    private static List<String> ifNoneMatchOf(final HttpHeaders headers) {
+        try {
+            return headers.getIfNoneMatch();
+        } catch (final IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private static String opaqueTagOf(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+}
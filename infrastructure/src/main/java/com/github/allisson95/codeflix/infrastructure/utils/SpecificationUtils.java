@@ -1,13 +1,82 @@
 package com.github.allisson95.codeflix.infrastructure.utils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.github.allisson95.codeflix.infrastructure.configuration.hibernate.FullTextFunctionsContributor;
+
 public final class SpecificationUtils {
 
+    private static final String ID = "id";
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> idIn(final Collection<String> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get(ID).in(ids);
+    }
+
+    public static <T> Specification<T> match(final String fullTextQuery, final String... props) {
+        return (root, query, cb) -> cb.greaterThan(score(root, cb, fullTextQuery, props), 0.0);
+    }
+
+    public static <T> Expression<Double> score(
+            final Root<T> root,
+            final CriteriaBuilder cb,
+            final String fullTextQuery,
+            final String... props) {
+        if (props.length == 0 || props.length > FullTextFunctionsContributor.MAX_COLUMNS) {
+            throw new IllegalArgumentException("A full-text match takes 1 to %d columns"
+                    .formatted(FullTextFunctionsContributor.MAX_COLUMNS));
+        }
+
+        final var args = new ArrayList<Expression<?>>();
+        for (final var prop : props) {
+            args.add(root.get(prop));
+        }
+        args.add(cb.literal(fullTextQuery));
+
+        return cb.function(
+                FullTextFunctionsContributor.functionName(props.length),
+                Double.class,
+                args.toArray(Expression[]::new));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T> Specification<T> after(final String prop, final Direction direction, final CursorUtils.Position position) {
+        return (root, query, cb) -> {
+            final Path<Comparable> key = root.get(prop);
+            final Path<String> id = root.get(ID);
+            final var value = (Comparable) position.valueAs(key.getJavaType());
+            final var ascending = direction.isAscending();
+
+            final var afterId = ascending ? cb.greaterThan(id, position.id()) : cb.lessThan(id, position.id());
+
+            // NULLs sort first on ascending and last on descending orders, as in MySQL and H2
+            if (value == null) {
+                return ascending
+                        ? cb.or(cb.and(cb.isNull(key), afterId), cb.isNotNull(key))
+                        : cb.and(cb.isNull(key), afterId);
+            }
+
+            final var afterKey = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            final var sameKey = cb.and(cb.equal(key, value), afterId);
+
+            return ascending
+                    ? cb.or(afterKey, sameKey)
+                    : cb.or(afterKey, sameKey, cb.isNull(key));
+        };
+    }
+
 }
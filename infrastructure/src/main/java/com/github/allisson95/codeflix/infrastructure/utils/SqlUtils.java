@@ -1,7 +1,13 @@
 package com.github.allisson95.codeflix.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public final class SqlUtils {
 
+    private static final String NON_WORD = "[^\\p{L}\\p{N}_]+";
+
     private SqlUtils() {}
 
     public static String like(final String term) {
@@ -14,4 +20,25 @@ public final class SqlUtils {
         return term.toUpperCase();
     }
 
+    public static List<String> words(final String terms) {
+        if (terms == null) return List.of();
+
+        return Arrays.stream(terms.split(NON_WORD))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public static String fullText(final String terms, final int minTokenSize) {
+        if (terms == null) return null;
+
+        // Every word is required and matched as a prefix; operators typed by the user are dropped
+        final var query = words(terms).stream()
+                .filter(word -> word.length() >= minTokenSize)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return query.isEmpty() ? null : query;
+    }
+
 }
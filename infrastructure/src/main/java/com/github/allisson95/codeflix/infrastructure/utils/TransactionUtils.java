@@ -0,0 +1,25 @@
+package com.github.allisson95.codeflix.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+    private TransactionUtils() {}
+
+    // Outside a transaction the write is already committed, so the action runs right away
+    public static void afterCommit(final Runnable anAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+
+}
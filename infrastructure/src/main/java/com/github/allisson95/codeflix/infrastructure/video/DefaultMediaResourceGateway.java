@@ -1,33 +1,57 @@
 package com.github.allisson95.codeflix.infrastructure.video;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
 import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
 import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
 import com.github.allisson95.codeflix.domain.video.VideoID;
 import com.github.allisson95.codeflix.domain.video.VideoMedia;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoResource;
 import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.StorageProperties;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupRepository;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final int MAX_DUPLICATE_CANDIDATES = 5;
+
     private final String filenamePattern;
     private final String locationPattern;
     private final StorageService storageService;
+    private final MediaChecksumRepository mediaChecksumRepository;
+    private final MediaCleanupRepository mediaCleanupRepository;
 
     public DefaultMediaResourceGateway(
             final StorageProperties storageProperties,
-            final StorageService storageService) {
+            final StorageService storageService,
+            final MediaChecksumRepository mediaChecksumRepository,
+            final MediaCleanupRepository mediaCleanupRepository) {
         this.filenamePattern = storageProperties.getFilenamePattern();
         this.locationPattern = storageProperties.getLocationPattern();
         this.storageService = Objects.requireNonNull(storageService);
+        this.mediaChecksumRepository = Objects.requireNonNull(mediaChecksumRepository);
+        this.mediaCleanupRepository = Objects.requireNonNull(mediaCleanupRepository);
     }
 
     @Override
@@ -46,15 +70,73 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
     }
 
+    @Override
+    public boolean contains(final VideoID anId, final VideoResource videoResource) {
+        final var filepath = filepath(anId, videoResource.getType());
+        final var aResource = videoResource.getResource();
+
+        return this.mediaChecksumRepository.findById(filepath)
+                .filter(it -> it.matches(aResource))
+                .isPresent()
+                && isStored(filepath, aResource);
+    }
+
     @Override
     public Optional<Resource> getResource(VideoID anId, VideoMediaType aType) {
-        return this.storageService.get(filepath(anId, aType));
+        final var filepath = filepath(anId, aType);
+        // the recorded checksum lets a cached copy be served without a storage metadata round trip
+        return this.mediaChecksumRepository.findById(filepath)
+                .map(it -> this.storageService.get(filepath, it.getChecksum()))
+                .orElseGet(() -> this.storageService.get(filepath));
     }
 
     @Override
     public void clearResources(final VideoID anId) {
         final var ids = this.storageService.list(folder(anId));
         this.storageService.deleteAll(ids);
+
+        if (!ids.isEmpty()) {
+            this.mediaChecksumRepository.deleteByLocationIn(ids);
+        }
+    }
+
+    @Override
+    public void scheduleClearResources(final VideoID anId) {
+        this.mediaCleanupRepository.save(MediaCleanupJpaEntity.of(anId.getValue(), folder(anId) + "/"));
+    }
+
+    @Override
+    public String storeChunk(final MediaUploadSession aSession, final int aPart, final Resource aChunk) {
+        final var aKey = "part-%06d-%s".formatted(aPart, IdUtils.uuid());
+        this.storageService.store(chunkfolder(aSession).concat("/").concat(aKey), aChunk);
+        return aKey;
+    }
+
+    @Override
+    public Resource assembleChunks(final MediaUploadSession aSession) {
+        final var parts = IntStream.range(0, aSession.getChunks())
+                .mapToObj(aPart -> chunkpath(aSession, aPart))
+                .toList();
+
+        final Resource.Source aSource = () -> openAll(parts);
+
+        try {
+            return Resource.of(
+                    HashingUtils.checksum(aSource.open()),
+                    aSource,
+                    aSession.getSize(),
+                    aSession.getContentType(),
+                    aSession.getName());
+        } catch (final IOException | UncheckedIOException e) {
+            throw new InternalErrorException(
+                    "An error on assemble chunks was observed [sessionId:%s]".formatted(aSession.getId().getValue()), e);
+        }
+    }
+
+    @Override
+    public void clearChunks(final MediaUploadSession aSession) {
+        final var ids = this.storageService.list(chunkfolder(aSession));
+        this.storageService.deleteAll(ids);
     }
 
     private String filename(final VideoMediaType aType) {
@@ -71,8 +153,77 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(aType));
     }
 
+    private String chunkfolder(final MediaUploadSession aSession) {
+        return folder(aSession.getVideoId())
+                .concat("/uploads/")
+                .concat(aSession.getId().getValue());
+    }
+
+    private String chunkpath(final MediaUploadSession aSession, final int aPart) {
+        // Sessions opened before the keys were recorded stored each part under a fixed name
+        final var aKey = aSession.getChunkKeys().getOrDefault(aPart, "part-%06d".formatted(aPart));
+        return chunkfolder(aSession).concat("/").concat(aKey);
+    }
+
+    private InputStream openAll(final List<String> parts) {
+        final var iterator = parts.iterator();
+
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                final var part = iterator.next();
+                try {
+                    return storageService.get(part)
+                            .orElseThrow(() -> new IOException("Chunk %s was not found".formatted(part)))
+                            .openStream();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+        });
+    }
+
     private void store(final String filepath, final Resource aResource) {
+        // One query answers both whether the target already holds this content and where a copy can come from
+        final var candidates = this.mediaChecksumRepository.findByLocationOrContent(
+                filepath,
+                aResource.checksum(),
+                aResource.size(),
+                PageRequest.of(0, MAX_DUPLICATE_CANDIDATES + 1));
+
+        for (final var candidate : candidates) {
+            final var location = candidate.getLocation();
+            if (location.equals(filepath)) {
+                if (candidate.matches(aResource) && isStored(filepath, aResource)) {
+                    return;
+                }
+                continue;
+            }
+
+            if (isStored(location, aResource)) {
+                this.storageService.copy(location, filepath, aResource);
+                this.mediaChecksumRepository.save(MediaChecksumJpaEntity.of(filepath, aResource));
+                return;
+            }
+
+            this.mediaChecksumRepository.deleteByLocationIn(List.of(location));
+        }
+
         this.storageService.store(filepath, aResource);
+        this.mediaChecksumRepository.save(MediaChecksumJpaEntity.of(filepath, aResource));
+    }
+
+    private boolean isStored(final String filepath, final Resource aResource) {
+        return this.storageService.get(filepath)
+                .filter(it -> it.checksum().equals(aResource.checksum()) && it.size() == aResource.size())
+                .isPresent();
     }
 
 }
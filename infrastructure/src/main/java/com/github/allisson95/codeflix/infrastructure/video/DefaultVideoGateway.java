@@ -1,98 +1,277 @@
 package com.github.allisson95.codeflix.infrastructure.video;
 
-import static com.github.allisson95.codeflix.domain.utils.CollectionUtils.mapTo;
-import static com.github.allisson95.codeflix.domain.utils.CollectionUtils.nullIfEmpty;
-import static com.github.allisson95.codeflix.infrastructure.utils.SqlUtils.like;
-import static com.github.allisson95.codeflix.infrastructure.utils.SqlUtils.upper;
-
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.github.allisson95.codeflix.domain.Identifier;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoDetails;
 import com.github.allisson95.codeflix.domain.video.VideoGateway;
 import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.domain.video.VideoMediaVersion;
 import com.github.allisson95.codeflix.domain.video.VideoPreview;
 import com.github.allisson95.codeflix.domain.video.VideoSearchQuery;
 import com.github.allisson95.codeflix.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.github.allisson95.codeflix.infrastructure.pagination.PageQuery;
+import com.github.allisson95.codeflix.infrastructure.pagination.Paginator;
+import com.github.allisson95.codeflix.infrastructure.pagination.Relevance;
+import com.github.allisson95.codeflix.infrastructure.pagination.TextSearch;
 import com.github.allisson95.codeflix.infrastructure.services.EventService;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoRepository;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+
     private final VideoRepository videoRepository;
     private final EventService eventService;
+    private final Paginator paginator;
+    private final TextSearch textSearch;
+    private final CatalogIds catalogIds;
 
     public DefaultVideoGateway(
             final VideoRepository videoRepository,
-            @VideoCreatedQueue final EventService eventService) {
+            @VideoCreatedQueue final EventService eventService,
+            final Paginator paginator,
+            final TextSearch textSearch,
+            final CatalogIds catalogIds) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.textSearch = Objects.requireNonNull(textSearch);
+        this.catalogIds = Objects.requireNonNull(catalogIds);
     }
 
     @Transactional
     @Override
     public Video create(final Video aVideo) {
-        return save(aVideo);
+        return save(VideoJpaEntity.from(aVideo).asNew());
     }
 
+    @Transactional
     @Override
-    public void deleteById(final VideoID anId) {
+    public List<Video> createAll(final List<Video> aVideos) {
+        final var entities = this.videoRepository.saveAll(aVideos.stream()
+                .map(it -> VideoJpaEntity.from(it).asNew())
+                .toList());
+        entities.forEach(this.textSearch::index);
+        entities.forEach(it -> this.catalogIds.added(VideoJpaEntity.class, it.getId()));
+
+        final var aggregates = entities.stream().map(VideoJpaEntity::toAggregate).toList();
+        aggregates.forEach(it -> it.publishDomainEvents(this.eventService::send));
+        return aggregates;
+    }
+
+    @Transactional
+    @Override
+    public boolean deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
-        if (this.videoRepository.existsById(aVideoId)) {
-            this.videoRepository.deleteById(aVideoId);
+        // the video row holds the media FKs, so the media ids are read before it is deleted
+        final var media = this.videoRepository.findMediaIdsById(aVideoId);
+        if (media.isEmpty()) {
+            return false;
+        }
+
+        this.videoRepository.deleteCategoriesByVideoId(aVideoId);
+        this.videoRepository.deleteGenresByVideoId(aVideoId);
+        this.videoRepository.deleteCastMembersByVideoId(aVideoId);
+        if (this.videoRepository.deleteRowById(aVideoId) == 0) {
+            return false;
         }
+
+        final var imageIds = media.get().imageIds();
+        if (!imageIds.isEmpty()) {
+            this.videoRepository.deleteImageMediaByIdIn(imageIds);
+        }
+        final var videoIds = media.get().videoIds();
+        if (!videoIds.isEmpty()) {
+            this.videoRepository.deleteVideoMediaByIdIn(videoIds);
+        }
+        this.textSearch.remove(VideoJpaEntity.class, aVideoId);
+        return true;
     }
 
     @Transactional(readOnly = true)
     @Override
     public Optional<Video> findById(VideoID anId) {
+        if (isAbsent(anId)) {
+            return Optional.empty();
+        }
         return this.videoRepository.findById(anId.getValue())
                 .map(VideoJpaEntity::toAggregate);
     }
 
+    // A read-write transaction is routed to the primary, so the aggregate about to be modified is never a lagging
+    // replica copy; the id filter is skipped for the same reason
+    @Transactional
+    @Override
+    public Optional<Video> findForUpdate(final VideoID anId) {
+        return this.videoRepository.findById(anId.getValue())
+                .map(VideoJpaEntity::toAggregate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<VideoDetails> findDetailsById(final VideoID anId) {
+        if (isAbsent(anId)) {
+            return Optional.empty();
+        }
+        final var aVideoId = anId.getValue();
+        return this.videoRepository.findDetailsById(aVideoId)
+                .map(it -> it.toDetails(this.videoRepository.findRelationsById(aVideoId)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Instant> findLastModifiedById(final VideoID anId) {
+        if (isAbsent(anId)) {
+            return Optional.empty();
+        }
+        return this.videoRepository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<VideoMediaVersion> findMediaVersion(final VideoID anId, final VideoMediaType aType) {
+        if (isAbsent(anId)) {
+            return Optional.empty();
+        }
+        final var aVideoId = anId.getValue();
+        return switch (aType) {
+            case BANNER -> this.videoRepository.findBannerVersionById(aVideoId);
+            case THUMBNAIL -> this.videoRepository.findThumbnailVersionById(aVideoId);
+            case THUMBNAIL_HALF -> this.videoRepository.findThumbnailHalfVersionById(aVideoId);
+            case TRAILER -> this.videoRepository.findTrailerVersionById(aVideoId);
+            case VIDEO -> this.videoRepository.findVideoVersionById(aVideoId);
+        };
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Pagination<VideoPreview> findAll(VideoSearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort()));
-
-        final var actualPage = this.videoRepository.findAll(
-                upper(like(aQuery.terms())),
-                nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
-                nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
-                page);
+        final Specification<VideoJpaEntity> titleMatches = this.textSearch.matching(VideoJpaEntity.class, aQuery.terms(), TITLE);
+        final Relevance<VideoJpaEntity> relevance = this.textSearch.relevance(aQuery.terms(), TITLE);
+
+        final var idsPage = this.paginator.findIds(
+                VideoJpaEntity.class,
+                Specification.where(titleMatches).and(relationsOf(aQuery)),
+                PageQuery.of(aQuery),
+                relevance);
 
         return new Pagination<>(
-                actualPage.getNumber(),
-                actualPage.getSize(),
-                actualPage.getTotalElements(),
-                actualPage.toList());
+                idsPage.currentPage(),
+                idsPage.perPage(),
+                idsPage.total(),
+                findPreviews(idsPage.items()),
+                idsPage.nextCursor(),
+                idsPage.hasMore());
     }
 
     @Transactional
     @Override
-    public Video update(Video aVideo) {
-        return save(aVideo);
+    public Video update(final Video aVideo) {
+        final var entity = this.videoRepository.findById(aVideo.getId().getValue())
+                .map(it -> it.updateFrom(aVideo))
+                .orElseGet(() -> VideoJpaEntity.from(aVideo));
+        return save(entity);
+    }
+
+    private List<VideoPreview> findPreviews(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var previews = this.videoRepository.findPreviewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(VideoPreview::id, Function.identity()));
+
+        return ids.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private Video save(final Video aVideo) {
-        final var aggregate = this.videoRepository.save(VideoJpaEntity.from(aVideo))
-                .toAggregate();
+    private Video save(final VideoJpaEntity anEntity) {
+        final var entity = this.videoRepository.save(anEntity);
+        this.textSearch.index(entity);
+        this.catalogIds.added(VideoJpaEntity.class, entity.getId());
+
+        final var aggregate = entity.toAggregate();
 
         aggregate.publishDomainEvents(this.eventService::send);
 
         return aggregate;
     }
 
+    // Unknown ids are answered from memory instead of reaching MySQL
+    private boolean isAbsent(final VideoID anId) {
+        return !this.catalogIds.mightExist(VideoJpaEntity.class, anId.getValue());
+    }
+
+    private static Specification<VideoJpaEntity> relationsOf(final VideoSearchQuery aQuery) {
+        return (root, query, cb) -> {
+            final var predicates = new ArrayList<Predicate>();
+
+            if (isNotEmpty(aQuery.castMembers())) {
+                predicates.add(exists(VideoCastMemberJpaEntity.class, "castMemberId", aQuery.castMembers(), root, query, cb));
+            }
+
+            if (isNotEmpty(aQuery.categories())) {
+                predicates.add(exists(VideoCategoryJpaEntity.class, "categoryId", aQuery.categories(), root, query, cb));
+            }
+
+            if (isNotEmpty(aQuery.genres())) {
+                predicates.add(exists(VideoGenreJpaEntity.class, "genreId", aQuery.genres(), root, query, cb));
+            }
+
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Predicate exists(
+            final Class<?> aRelation,
+            final String aRelatedId,
+            final Set<? extends Identifier> ids,
+            final Root<VideoJpaEntity> root,
+            final CriteriaQuery<?> query,
+            final CriteriaBuilder cb) {
+        final var subquery = query.subquery(String.class);
+        final var relation = subquery.from(aRelation);
+        final var relationId = relation.get(ID);
+
+        subquery.select(relationId.<String>get("videoId"))
+                .where(
+                        cb.equal(relationId.get("videoId"), root.get(ID)),
+                        relationId.get(aRelatedId).in(ids.stream().map(Identifier::getValue).toList()));
+
+        return cb.exists(subquery);
+    }
+
+    private static boolean isNotEmpty(final Set<?> aSet) {
+        return aSet != null && !aSet.isEmpty();
+    }
+
 }
@@ -0,0 +1,197 @@
+package com.github.allisson95.codeflix.infrastructure.video;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class MediaCleanupWorker implements Runnable, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaCleanupWorker.class);
+
+    private static final String METRIC_PREFIX = "media.cleanup";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final StorageService storageService;
+    private final MediaChecksumRepository mediaChecksumRepository;
+    private final MediaCleanupRepository mediaCleanupRepository;
+    private final int batchSize;
+    private final int storageBatchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public MediaCleanupWorker(
+            final StorageService storageService,
+            final MediaChecksumRepository mediaChecksumRepository,
+            final MediaCleanupRepository mediaCleanupRepository,
+            final MediaCleanupProperties properties) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.mediaChecksumRepository = Objects.requireNonNull(mediaChecksumRepository);
+        this.mediaCleanupRepository = Objects.requireNonNull(mediaCleanupRepository);
+        this.batchSize = properties.getBatchSize();
+        this.storageBatchSize = properties.getStorageBatchSize();
+        this.initialBackoff = properties.getInitialBackoff();
+        this.maxBackoff = properties.getMaxBackoff();
+        this.lease = properties.getLease();
+
+        if (this.batchSize <= 0 || this.storageBatchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' and 'storageBatchSize' must be greater than 0");
+        }
+        if (this.initialBackoff.isNegative() || this.initialBackoff.isZero()) {
+            throw new IllegalArgumentException("'initialBackoff' must be greater than 0");
+        }
+        if (this.lease.isNegative() || this.lease.isZero()) {
+            throw new IllegalArgumentException("'lease' must be greater than 0");
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            int drained;
+            do {
+                drained = drain();
+            } while (drained == this.batchSize);
+        } catch (final RuntimeException e) {
+            logger.error("An error on drain media cleanups was observed", e);
+        }
+    }
+
+    public int drain() {
+        final var now = InstantUtils.now();
+        final var dueIds = this.mediaCleanupRepository.findDueIds(now, PageRequest.of(0, this.batchSize));
+
+        if (dueIds.isEmpty()) {
+            return 0;
+        }
+
+        // the claim pushes the rows past the lease, so another instance skips them until this drain
+        // finishes or, if it dies midway, until the lease runs out
+        final var token = IdUtils.uuid();
+        if (this.mediaCleanupRepository.claim(dueIds, token, now, now.plus(this.lease)) == 0) {
+            return 0;
+        }
+        final var due = this.mediaCleanupRepository.findByClaimToken(token);
+
+        final var errors = new HashMap<String, String>();
+        final var jobs = new ArrayList<Job>(due.size());
+
+        for (final var cleanup : due) {
+            try {
+                jobs.add(new Job(cleanup, this.storageService.list(cleanup.getLocation())));
+            } catch (final RuntimeException e) {
+                errors.put(cleanup.getId(), e.toString());
+            }
+        }
+
+        final var names = new ArrayList<String>();
+        final var owners = new ArrayList<String>();
+        for (final var job : jobs) {
+            for (final var name : job.names()) {
+                names.add(name);
+                owners.add(job.cleanup().getId());
+            }
+        }
+
+        for (int from = 0; from < names.size(); from += this.storageBatchSize) {
+            final var to = Math.min(from + this.storageBatchSize, names.size());
+            try {
+                this.storageService.deleteAll(names.subList(from, to));
+                this.deleted.add(to - from);
+            } catch (final RuntimeException e) {
+                owners.subList(from, to).forEach(id -> errors.putIfAbsent(id, e.toString()));
+            }
+        }
+
+        final var completed = jobs.stream()
+                .filter(it -> !errors.containsKey(it.cleanup().getId()))
+                .toList();
+
+        final var locations = completed.stream()
+                .flatMap(it -> it.names().stream())
+                .toList();
+
+        if (!locations.isEmpty()) {
+            this.mediaChecksumRepository.deleteByLocationIn(locations);
+        }
+
+        if (!completed.isEmpty()) {
+            this.mediaCleanupRepository.deleteClaimed(completed.stream()
+                    .map(it -> it.cleanup().getId())
+                    .toList(), token);
+        }
+
+        if (!errors.isEmpty()) {
+            final var retries = due.stream()
+                    .filter(it -> errors.containsKey(it.getId()))
+                    .toList();
+
+            retries.forEach(it -> this.mediaCleanupRepository.retryClaimed(
+                    it.getId(),
+                    token,
+                    now.plus(backoffOf(it.getAttempts())),
+                    MediaCleanupJpaEntity.errorOf(errors.get(it.getId()))));
+            this.failures.add(retries.size());
+
+            logger.warn("Media cleanup failed for {} of {} videos, retrying later", retries.size(), due.size());
+        }
+
+        return due.size();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".backlog", this.mediaCleanupRepository, MediaCleanupRepository::count)
+                .description("Videos whose media is waiting to be removed from the storage")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".oldest.age", this.mediaCleanupRepository, MediaCleanupWorker::oldestAgeOf)
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".deleted", this.deleted, LongAdder::sum)
+                .baseUnit("objects")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failures", this.failures, LongAdder::sum)
+                .register(registry);
+    }
+
+    private Duration backoffOf(final int attempts) {
+        final var backoff = this.initialBackoff.multipliedBy(1L << Math.min(attempts, MAX_BACKOFF_SHIFT));
+        return backoff.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : backoff;
+    }
+
+    private static double oldestAgeOf(final MediaCleanupRepository aRepository) {
+        return aRepository.findOldestCreatedAt()
+                .map(it -> Duration.between(it, Instant.now()).toMillis() / 1000.0)
+                .orElse(0.0);
+    }
+
+    private record Job(MediaCleanupJpaEntity cleanup, List<String> names) {
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.allisson95.codeflix.infrastructure.video;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionGateway;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaUploadSessionJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaUploadSessionRepository;
+
+@Component
+public class MediaUploadSessionMySQLGateway implements MediaUploadSessionGateway {
+
+    private final MediaUploadSessionRepository mediaUploadSessionRepository;
+
+    public MediaUploadSessionMySQLGateway(final MediaUploadSessionRepository mediaUploadSessionRepository) {
+        this.mediaUploadSessionRepository = Objects.requireNonNull(mediaUploadSessionRepository);
+    }
+
+    @Override
+    public MediaUploadSession create(final MediaUploadSession aSession) {
+        return save(aSession);
+    }
+
+    @Override
+    public void deleteById(final MediaUploadSessionID anId) {
+        this.mediaUploadSessionRepository.deleteRowById(anId.getValue());
+    }
+
+    @Override
+    public Optional<MediaUploadSession> findById(final MediaUploadSessionID anId) {
+        return this.mediaUploadSessionRepository.findById(anId.getValue())
+                .map(MediaUploadSessionJpaEntity::toAggregate);
+    }
+
+    @Transactional
+    @Override
+    public Optional<MediaUploadSession> findForUpdate(final MediaUploadSessionID anId) {
+        return this.mediaUploadSessionRepository.findById(anId.getValue())
+                .map(MediaUploadSessionJpaEntity::toAggregate);
+    }
+
+    @Override
+    public MediaUploadSession update(final MediaUploadSession aSession) {
+        return save(aSession);
+    }
+
+    private MediaUploadSession save(final MediaUploadSession aSession) {
+        return this.mediaUploadSessionRepository.save(MediaUploadSessionJpaEntity.from(aSession)).toAggregate();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.allisson95.codeflix.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateMediaUploadSessionRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("size") Long size) {
+
+}
@@ -0,0 +1,7 @@
+package com.github.allisson95.codeflix.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateVideoResponse(@JsonProperty("id") String id) {
+
+}
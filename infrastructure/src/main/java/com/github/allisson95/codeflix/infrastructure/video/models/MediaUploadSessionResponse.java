@@ -0,0 +1,22 @@
+package com.github.allisson95.codeflix.infrastructure.video.models;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+public record MediaUploadSessionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("name") String name,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("size") long size,
+        @JsonProperty("committed_offset") long committedOffset,
+        @JsonProperty("chunks") int chunks,
+        @JsonProperty("status") MediaUploadStatus status,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt) {
+
+}
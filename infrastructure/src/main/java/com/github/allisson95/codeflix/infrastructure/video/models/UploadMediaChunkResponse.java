@@ -0,0 +1,10 @@
+package com.github.allisson95.codeflix.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UploadMediaChunkResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("committed_offset") long committedOffset,
+        @JsonProperty("chunks") int chunks) {
+
+}
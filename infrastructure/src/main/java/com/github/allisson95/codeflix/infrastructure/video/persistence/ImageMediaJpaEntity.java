@@ -41,6 +41,20 @@ public class ImageMediaJpaEntity {
         return new ImageMediaJpaEntity(media.id(), media.checksum(), media.name(), media.location());
     }
 
+    public static ImageMediaJpaEntity sync(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current == null || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setLocation(media.location());
+        return current;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(getId(), getChecksum(), getName(), getLocation());
     }
@@ -0,0 +1,84 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+
+@Entity(name = "MediaChecksum")
+@Table(name = "media_checksums")
+public class MediaChecksumJpaEntity {
+
+    @Id
+    @Column(name = "location", nullable = false, length = 500)
+    private String location;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public MediaChecksumJpaEntity() {
+    }
+
+    private MediaChecksumJpaEntity(
+            final String location,
+            final String checksum,
+            final long size,
+            final Instant createdAt) {
+        this.location = location;
+        this.checksum = checksum;
+        this.size = size;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaChecksumJpaEntity of(final String location, final Resource aResource) {
+        return new MediaChecksumJpaEntity(location, aResource.checksum(), aResource.size(), InstantUtils.now());
+    }
+
+    public boolean matches(final Resource aResource) {
+        return this.checksum.equals(aResource.checksum()) && this.size == aResource.size();
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MediaChecksumRepository extends JpaRepository<MediaChecksumJpaEntity, String> {
+
+    // the row of the location itself, when there is one, comes first
+    @Query("""
+            SELECT mc FROM MediaChecksum mc
+            WHERE mc.location = :location OR (mc.checksum = :checksum AND mc.size = :size)
+            ORDER BY CASE WHEN mc.location = :location THEN 0 ELSE 1 END
+            """)
+    List<MediaChecksumJpaEntity> findByLocationOrContent(
+            @Param("location") String location,
+            @Param("checksum") String checksum,
+            @Param("size") long size,
+            Pageable page);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MediaChecksum mc WHERE mc.location IN :locations")
+    int deleteByLocationIn(@Param("locations") Iterable<String> locations);
+
+}
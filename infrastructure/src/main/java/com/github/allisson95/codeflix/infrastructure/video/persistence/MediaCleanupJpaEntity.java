@@ -0,0 +1,139 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+
+@Entity(name = "MediaCleanup")
+@Table(name = "media_cleanups")
+public class MediaCleanupJpaEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "id", nullable = false, length = 32)
+    private String id;
+
+    @Column(name = "video_id", nullable = false, length = 32)
+    private String videoId;
+
+    @Column(name = "location", nullable = false, length = 500)
+    private String location;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "claim_token", length = 32)
+    private String claimToken;
+
+    public MediaCleanupJpaEntity() {
+    }
+
+    private MediaCleanupJpaEntity(
+            final String id,
+            final String videoId,
+            final String location,
+            final int attempts,
+            final String lastError,
+            final Instant nextAttemptAt,
+            final Instant createdAt) {
+        this.id = id;
+        this.videoId = videoId;
+        this.location = location;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaCleanupJpaEntity of(final String videoId, final String location) {
+        final var now = InstantUtils.now();
+        return new MediaCleanupJpaEntity(IdUtils.uuid(), videoId, location, 0, null, now, now);
+    }
+
+    public static String errorOf(final String anError) {
+        return anError != null && anError.length() > MAX_ERROR_LENGTH
+                ? anError.substring(0, MAX_ERROR_LENGTH)
+                : anError;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MediaCleanupRepository extends JpaRepository<MediaCleanupJpaEntity, String> {
+
+    @Query("SELECT mc.id FROM MediaCleanup mc WHERE mc.nextAttemptAt <= :now ORDER BY mc.nextAttemptAt")
+    List<String> findDueIds(@Param("now") Instant now, Pageable page);
+
+    // the due check is repeated here, so a row read by two workers is claimed by only one of them
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE MediaCleanup mc SET mc.claimToken = :token, mc.nextAttemptAt = :leaseUntil
+            WHERE mc.id IN :ids AND mc.nextAttemptAt <= :now
+            """)
+    int claim(
+            @Param("ids") Iterable<String> ids,
+            @Param("token") String token,
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil);
+
+    List<MediaCleanupJpaEntity> findByClaimToken(String token);
+
+    @Query("SELECT MIN(mc.createdAt) FROM MediaCleanup mc")
+    Optional<Instant> findOldestCreatedAt();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MediaCleanup mc WHERE mc.id IN :ids AND mc.claimToken = :token")
+    int deleteClaimed(@Param("ids") Iterable<String> ids, @Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE MediaCleanup mc
+            SET mc.attempts = mc.attempts + 1, mc.lastError = :error, mc.nextAttemptAt = :nextAttemptAt, mc.claimToken = NULL
+            WHERE mc.id = :id AND mc.claimToken = :token
+            """)
+    int retryClaimed(
+            @Param("id") String id,
+            @Param("token") String token,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("error") String error);
+
+}
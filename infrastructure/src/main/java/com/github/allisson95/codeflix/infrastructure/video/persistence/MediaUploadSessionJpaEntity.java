@@ -0,0 +1,246 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+
+@Entity(name = "MediaUploadSession")
+@Table(name = "videos_upload_sessions")
+public class MediaUploadSessionJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType mediaType;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "committed_offset", nullable = false)
+    private long committedOffset;
+
+    @Column(name = "chunks", nullable = false)
+    private int chunks;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "videos_upload_session_chunks", joinColumns = @JoinColumn(name = "session_id"))
+    @MapKeyColumn(name = "part")
+    @Column(name = "chunk_key", nullable = false)
+    private Map<Integer, String> chunkKeys = new HashMap<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MediaUploadStatus status;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    // Two chunks racing for the same offset both pass checkChunk; only the first commit may advance the session
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public MediaUploadSessionJpaEntity() {
+    }
+
+    private MediaUploadSessionJpaEntity(
+            final String id,
+            final String videoId,
+            final VideoMediaType mediaType,
+            final String name,
+            final String contentType,
+            final long size,
+            final long committedOffset,
+            final int chunks,
+            final Map<Integer, String> chunkKeys,
+            final MediaUploadStatus status,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final long version) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.name = name;
+        this.contentType = contentType;
+        this.size = size;
+        this.committedOffset = committedOffset;
+        this.chunks = chunks;
+        this.chunkKeys = new HashMap<>(chunkKeys);
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public static MediaUploadSessionJpaEntity from(final MediaUploadSession aSession) {
+        return new MediaUploadSessionJpaEntity(
+                aSession.getId().getValue(),
+                aSession.getVideoId().getValue(),
+                aSession.getMediaType(),
+                aSession.getName(),
+                aSession.getContentType(),
+                aSession.getSize(),
+                aSession.getCommittedOffset(),
+                aSession.getChunks(),
+                aSession.getChunkKeys(),
+                aSession.getStatus(),
+                aSession.getCreatedAt(),
+                aSession.getUpdatedAt(),
+                aSession.getVersion());
+    }
+
+    public MediaUploadSession toAggregate() {
+        return MediaUploadSession.with(
+                MediaUploadSessionID.from(getId()),
+                VideoID.from(getVideoId()),
+                getMediaType(),
+                getName(),
+                getContentType(),
+                getSize(),
+                getCommittedOffset(),
+                getChunks(),
+                getChunkKeys(),
+                getStatus(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getVersion());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(VideoMediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public void setCommittedOffset(long committedOffset) {
+        this.committedOffset = committedOffset;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public Map<Integer, String> getChunkKeys() {
+        return chunkKeys;
+    }
+
+    public void setChunkKeys(Map<Integer, String> chunkKeys) {
+        this.chunkKeys = chunkKeys;
+    }
+
+    public MediaUploadStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MediaUploadStatus status) {
+        this.status = status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MediaUploadSessionRepository extends JpaRepository<MediaUploadSessionJpaEntity, String> {
+
+    // The chunk keys go with the row through the ON DELETE CASCADE of videos_upload_session_chunks
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MediaUploadSession s WHERE s.id = :id")
+    int deleteRowById(@Param("id") String id);
+
+}
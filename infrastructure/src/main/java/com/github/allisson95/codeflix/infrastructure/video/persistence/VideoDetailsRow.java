@@ -0,0 +1,103 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.allisson95.codeflix.domain.video.ImageMedia;
+import com.github.allisson95.codeflix.domain.video.MediaStatus;
+import com.github.allisson95.codeflix.domain.video.Rating;
+import com.github.allisson95.codeflix.domain.video.VideoDetails;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
+
+public record VideoDetailsRow(
+        String id,
+        String title,
+        String description,
+        int yearLaunched,
+        double duration,
+        Rating rating,
+        boolean opened,
+        boolean published,
+        Instant createdAt,
+        Instant updatedAt,
+        String bannerId,
+        String bannerChecksum,
+        String bannerName,
+        String bannerLocation,
+        String thumbnailId,
+        String thumbnailChecksum,
+        String thumbnailName,
+        String thumbnailLocation,
+        String thumbnailHalfId,
+        String thumbnailHalfChecksum,
+        String thumbnailHalfName,
+        String thumbnailHalfLocation,
+        String trailerId,
+        String trailerChecksum,
+        String trailerName,
+        String trailerRawLocation,
+        String trailerEncodedLocation,
+        MediaStatus trailerStatus,
+        String videoId,
+        String videoChecksum,
+        String videoName,
+        String videoRawLocation,
+        String videoEncodedLocation,
+        MediaStatus videoStatus) {
+
+    public VideoDetails toDetails(final List<VideoRelationRow> relations) {
+        final var categories = new HashSet<String>();
+        final var genres = new HashSet<String>();
+        final var castMembers = new HashSet<String>();
+
+        for (final var relation : relations) {
+            switch (relation.getKind()) {
+                case VideoRelationRow.CATEGORY -> categories.add(relation.getId());
+                case VideoRelationRow.GENRE -> genres.add(relation.getId());
+                case VideoRelationRow.CAST_MEMBER -> castMembers.add(relation.getId());
+                default -> throw new IllegalStateException("Unknown video relation: " + relation.getKind());
+            }
+        }
+
+        return new VideoDetails(
+                id(),
+                title(),
+                description(),
+                yearLaunched(),
+                duration(),
+                rating(),
+                opened(),
+                published(),
+                createdAt(),
+                updatedAt(),
+                imageMedia(bannerId(), bannerChecksum(), bannerName(), bannerLocation()),
+                imageMedia(thumbnailId(), thumbnailChecksum(), thumbnailName(), thumbnailLocation()),
+                imageMedia(thumbnailHalfId(), thumbnailHalfChecksum(), thumbnailHalfName(), thumbnailHalfLocation()),
+                videoMedia(trailerId(), trailerChecksum(), trailerName(), trailerRawLocation(), trailerEncodedLocation(), trailerStatus()),
+                videoMedia(videoId(), videoChecksum(), videoName(), videoRawLocation(), videoEncodedLocation(), videoStatus()),
+                Set.copyOf(categories),
+                Set.copyOf(genres),
+                Set.copyOf(castMembers));
+    }
+
+    private static ImageMedia imageMedia(
+            final String id,
+            final String checksum,
+            final String name,
+            final String location) {
+        return id != null ? ImageMedia.with(id, checksum, name, location) : null;
+    }
+
+    private static VideoMedia videoMedia(
+            final String id,
+            final String checksum,
+            final String name,
+            final String rawLocation,
+            final String encodedLocation,
+            final MediaStatus status) {
+        return id != null ? VideoMedia.with(id, checksum, name, rawLocation, encodedLocation, status) : null;
+    }
+
+}
@@ -15,7 +15,12 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import org.springframework.data.domain.Persistable;
 
 import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
 import com.github.allisson95.codeflix.domain.category.CategoryID;
@@ -24,10 +29,11 @@ import com.github.allisson95.codeflix.domain.utils.CollectionUtils;
 import com.github.allisson95.codeflix.domain.video.Rating;
 import com.github.allisson95.codeflix.domain.video.Video;
 import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.infrastructure.utils.AssociationUtils;
 
 @Entity(name = "Video")
 @Table(name = "videos")
-public class VideoJpaEntity {
+public class VideoJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -88,6 +94,9 @@ public class VideoJpaEntity {
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> castMembers;
 
+    @Transient
+    private boolean isNew;
+
     public VideoJpaEntity() {
         this.categories = new HashSet<>(3);
         this.genres = new HashSet<>(3);
@@ -155,6 +164,40 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    public VideoJpaEntity updateFrom(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.duration = aVideo.getDuration();
+        this.rating = aVideo.getRating();
+        this.opened = aVideo.isOpened();
+        this.published = aVideo.isPublished();
+        this.updatedAt = aVideo.getUpdatedAt();
+        this.banner = ImageMediaJpaEntity.sync(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = ImageMediaJpaEntity.sync(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = ImageMediaJpaEntity.sync(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+        this.trailer = VideoMediaJpaEntity.sync(this.trailer, aVideo.getTrailer().orElse(null));
+        this.video = VideoMediaJpaEntity.sync(this.video, aVideo.getVideo().orElse(null));
+
+        AssociationUtils.sync(
+                this.categories,
+                CollectionUtils.mapTo(aVideo.getCategories(), CategoryID::getValue),
+                it -> it.getId().getCategoryId(),
+                it -> VideoCategoryJpaEntity.from(this, CategoryID.from(it)));
+        AssociationUtils.sync(
+                this.genres,
+                CollectionUtils.mapTo(aVideo.getGenres(), GenreID::getValue),
+                it -> it.getId().getGenreId(),
+                it -> VideoGenreJpaEntity.from(this, GenreID.from(it)));
+        AssociationUtils.sync(
+                this.castMembers,
+                CollectionUtils.mapTo(aVideo.getCastMembers(), CastMemberID::getValue),
+                it -> it.getId().getCastMemberId(),
+                it -> VideoCastMemberJpaEntity.from(this, CastMemberID.from(it)));
+
+        return this;
+    }
+
     public Video toAggregate() {
         return Video.with(
                 VideoID.from(getId()),
@@ -195,6 +238,23 @@ public class VideoJpaEntity {
         this.castMembers.add(VideoCastMemberJpaEntity.from(this, castMemberId));
     }
 
+    public VideoJpaEntity asNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -0,0 +1,22 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record VideoMediaIds(
+        String bannerId,
+        String thumbnailId,
+        String thumbnailHalfId,
+        String trailerId,
+        String videoId) {
+
+    public List<String> imageIds() {
+        return Stream.of(bannerId, thumbnailId, thumbnailHalfId).filter(Objects::nonNull).toList();
+    }
+
+    public List<String> videoIds() {
+        return Stream.of(trailerId, videoId).filter(Objects::nonNull).toList();
+    }
+
+}
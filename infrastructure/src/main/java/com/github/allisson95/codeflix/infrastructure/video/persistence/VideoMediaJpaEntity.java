@@ -61,6 +61,22 @@ public class VideoMediaJpaEntity {
                 media.status());
     }
 
+    public static VideoMediaJpaEntity sync(final VideoMediaJpaEntity current, final VideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current == null || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setRawLocation(media.rawLocation());
+        current.setEncodedLocation(media.encodedLocation());
+        current.setStatus(media.status());
+        return current;
+    }
+
     public VideoMedia toDomain() {
         return VideoMedia.with(
                 getId(),
@@ -0,0 +1,13 @@
+package com.github.allisson95.codeflix.infrastructure.video.persistence;
+
+public interface VideoRelationRow {
+
+    String CATEGORY = "category";
+    String GENRE = "genre";
+    String CAST_MEMBER = "cast_member";
+
+    String getKind();
+
+    String getId();
+
+}
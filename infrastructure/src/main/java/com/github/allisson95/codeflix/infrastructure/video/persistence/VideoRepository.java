@@ -1,45 +1,146 @@
 package com.github.allisson95.codeflix.infrastructure.video.persistence;
 
-import java.util.Set;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.github.allisson95.codeflix.domain.video.VideoMediaVersion;
 import com.github.allisson95.codeflix.domain.video.VideoPreview;
 
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
 
     @Query("""
             SELECT
-                DISTINCT
-                    new com.github.allisson95.codeflix.domain.video.VideoPreview(
-                        v.id as id,
-                        v.title as title,
-                        v.description as description,
-                        v.createdAt as createdAt,
-                        v.updatedAt as updatedAt
-                    )
+                new com.github.allisson95.codeflix.domain.video.VideoPreview(
+                    v.id as id,
+                    v.title as title,
+                    v.description as description,
+                    v.createdAt as createdAt,
+                    v.updatedAt as updatedAt
+                )
             FROM Video v
-                LEFT JOIN v.castMembers members
-                LEFT JOIN v.categories categories
-                LEFT JOIN v.genres genres
-            WHERE
-                ( :terms IS NULL OR UPPER(v.title) LIKE :terms )
-                AND
-                ( :castMembers IS NULL OR members.id.castMemberId IN :castMembers )
-                AND
-                ( :categories IS NULL OR categories.id.categoryId IN :categories )
-                AND
-                ( :genres IS NULL OR genres.id.genreId IN :genres )
-            """)
-    Page<VideoPreview> findAll(
-            @Param("terms") String terms,
-            @Param("castMembers") Set<String> castMembers,
-            @Param("categories") Set<String> categories,
-            @Param("genres") Set<String> genres,
-            PageRequest page);
+            WHERE v.id IN :ids
+            """)
+    List<VideoPreview> findPreviewsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            SELECT
+                new com.github.allisson95.codeflix.infrastructure.video.persistence.VideoDetailsRow(
+                    v.id, v.title, v.description, v.yearLaunched, v.duration, v.rating,
+                    v.opened, v.published, v.createdAt, v.updatedAt,
+                    b.id, b.checksum, b.name, b.location,
+                    t.id, t.checksum, t.name, t.location,
+                    th.id, th.checksum, th.name, th.location,
+                    tr.id, tr.checksum, tr.name, tr.rawLocation, tr.encodedLocation, tr.status,
+                    vm.id, vm.checksum, vm.name, vm.rawLocation, vm.encodedLocation, vm.status
+                )
+            FROM Video v
+                LEFT JOIN v.banner b
+                LEFT JOIN v.thumbnail t
+                LEFT JOIN v.thumbnailHalf th
+                LEFT JOIN v.trailer tr
+                LEFT JOIN v.video vm
+            WHERE v.id = :id
+            """)
+    Optional<VideoDetailsRow> findDetailsById(@Param("id") String id);
+
+    @Query(value = """
+            SELECT 'category' AS kind, category_id AS id FROM videos_categories WHERE video_id = :id
+            UNION ALL
+            SELECT 'genre' AS kind, genre_id AS id FROM videos_genres WHERE video_id = :id
+            UNION ALL
+            SELECT 'cast_member' AS kind, cast_member_id AS id FROM videos_cast_members WHERE video_id = :id
+            """, nativeQuery = true)
+    List<VideoRelationRow> findRelationsById(@Param("id") String id);
+
+    @Query("""
+            SELECT
+                new com.github.allisson95.codeflix.infrastructure.video.persistence.VideoMediaIds(
+                    b.id, t.id, th.id, tr.id, vm.id
+                )
+            FROM Video v
+                LEFT JOIN v.banner b
+                LEFT JOIN v.thumbnail t
+                LEFT JOIN v.thumbnailHalf th
+                LEFT JOIN v.trailer tr
+                LEFT JOIN v.video vm
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaIds> findMediaIdsById(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VideoCategory vc WHERE vc.id.videoId = :id")
+    int deleteCategoriesByVideoId(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VideoGenre vg WHERE vg.id.videoId = :id")
+    int deleteGenresByVideoId(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VideoCastMember vcm WHERE vcm.id.videoId = :id")
+    int deleteCastMembersByVideoId(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Video v WHERE v.id = :id")
+    int deleteRowById(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageMedia im WHERE im.id IN :ids")
+    int deleteImageMediaByIdIn(@Param("ids") Iterable<String> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VideoMedia vm WHERE vm.id IN :ids")
+    int deleteVideoMediaByIdIn(@Param("ids") Iterable<String> ids);
+
+    @Query("SELECT v.updatedAt FROM Video v WHERE v.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    @Query("""
+            SELECT new com.github.allisson95.codeflix.domain.video.VideoMediaVersion(v.updatedAt, m.checksum)
+            FROM Video v LEFT JOIN v.banner m
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaVersion> findBannerVersionById(@Param("id") String id);
+
+    @Query("""
+            SELECT new com.github.allisson95.codeflix.domain.video.VideoMediaVersion(v.updatedAt, m.checksum)
+            FROM Video v LEFT JOIN v.thumbnail m
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaVersion> findThumbnailVersionById(@Param("id") String id);
+
+    @Query("""
+            SELECT new com.github.allisson95.codeflix.domain.video.VideoMediaVersion(v.updatedAt, m.checksum)
+            FROM Video v LEFT JOIN v.thumbnailHalf m
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaVersion> findThumbnailHalfVersionById(@Param("id") String id);
+
+    @Query("""
+            SELECT new com.github.allisson95.codeflix.domain.video.VideoMediaVersion(v.updatedAt, m.checksum)
+            FROM Video v LEFT JOIN v.trailer m
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaVersion> findTrailerVersionById(@Param("id") String id);
+
+    @Query("""
+            SELECT new com.github.allisson95.codeflix.domain.video.VideoMediaVersion(v.updatedAt, m.checksum)
+            FROM Video v LEFT JOIN v.video m
+            WHERE v.id = :id
+            """)
+    Optional<VideoMediaVersion> findVideoVersionById(@Param("id") String id);
 
 }
@@ -1,12 +1,18 @@
 package com.github.allisson95.codeflix.infrastructure.video.presenters;
 
+import com.github.allisson95.codeflix.application.video.create.CreateVideoOutput;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkOutput;
+import com.github.allisson95.codeflix.application.video.media.session.get.MediaUploadSessionOutput;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaOutput;
 import com.github.allisson95.codeflix.application.video.retrieve.get.VideoOutput;
 import com.github.allisson95.codeflix.application.video.retrieve.list.VideoListOutput;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.VideoMedia;
+import com.github.allisson95.codeflix.infrastructure.video.models.CreateVideoResponse;
 import com.github.allisson95.codeflix.infrastructure.video.models.ImageMediaResponse;
+import com.github.allisson95.codeflix.infrastructure.video.models.MediaUploadSessionResponse;
+import com.github.allisson95.codeflix.infrastructure.video.models.UploadMediaChunkResponse;
 import com.github.allisson95.codeflix.infrastructure.video.models.UploadMediaResponse;
 import com.github.allisson95.codeflix.infrastructure.video.models.VideoListResponse;
 import com.github.allisson95.codeflix.infrastructure.video.models.VideoMediaResponse;
@@ -14,6 +20,10 @@ import com.github.allisson95.codeflix.infrastructure.video.models.VideoResponse;
 
 public interface VideoApiPresenter {
 
+    static CreateVideoResponse present(final CreateVideoOutput output) {
+        return new CreateVideoResponse(output.id());
+    }
+
     static VideoResponse present(final VideoOutput output) {
         return new VideoResponse(
                 output.id(),
@@ -79,4 +89,23 @@ public interface VideoApiPresenter {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
 
+    static MediaUploadSessionResponse present(final MediaUploadSessionOutput output) {
+        return new MediaUploadSessionResponse(
+                output.id(),
+                output.videoId(),
+                output.mediaType(),
+                output.name(),
+                output.contentType(),
+                output.size(),
+                output.committedOffset(),
+                output.chunks(),
+                output.status(),
+                output.createdAt(),
+                output.updatedAt());
+    }
+
+    static UploadMediaChunkResponse present(final UploadMediaChunkOutput output) {
+        return new UploadMediaChunkResponse(output.id(), output.committedOffset(), output.chunks());
+    }
+
 }
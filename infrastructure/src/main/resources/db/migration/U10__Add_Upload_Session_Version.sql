@@ -0,0 +1 @@
+ALTER TABLE videos_upload_sessions DROP COLUMN version;
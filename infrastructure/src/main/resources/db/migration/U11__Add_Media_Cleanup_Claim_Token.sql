@@ -0,0 +1,3 @@
+DROP INDEX idx_media_cleanups_claim_token ON media_cleanups;
+
+ALTER TABLE media_cleanups DROP COLUMN claim_token;
\ No newline at end of file
@@ -0,0 +1,7 @@
+DROP INDEX idx_categories_created_at ON categories;
+
+DROP INDEX idx_genres_created_at ON genres;
+
+DROP INDEX idx_cast_members_created_at ON cast_members;
+
+DROP INDEX idx_videos_created_at ON videos;
\ No newline at end of file
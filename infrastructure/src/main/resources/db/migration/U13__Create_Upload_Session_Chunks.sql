@@ -0,0 +1 @@
+DROP TABLE videos_upload_session_chunks;
\ No newline at end of file
@@ -0,0 +1 @@
+DROP TABLE videos_upload_sessions;
\ No newline at end of file
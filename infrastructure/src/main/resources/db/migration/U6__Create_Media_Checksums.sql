@@ -0,0 +1 @@
+DROP TABLE media_checksums;
\ No newline at end of file
@@ -0,0 +1 @@
+DROP TABLE media_cleanups;
\ No newline at end of file
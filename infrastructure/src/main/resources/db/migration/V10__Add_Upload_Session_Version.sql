@@ -0,0 +1 @@
+ALTER TABLE videos_upload_sessions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+ALTER TABLE media_cleanups ADD COLUMN claim_token CHAR(32);
+
+CREATE INDEX idx_media_cleanups_claim_token ON media_cleanups (claim_token);
\ No newline at end of file
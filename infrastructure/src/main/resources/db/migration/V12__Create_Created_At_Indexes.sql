@@ -0,0 +1,7 @@
+CREATE INDEX idx_categories_created_at ON categories (created_at);
+
+CREATE INDEX idx_genres_created_at ON genres (created_at);
+
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at);
+
+CREATE INDEX idx_videos_created_at ON videos (created_at);
\ No newline at end of file
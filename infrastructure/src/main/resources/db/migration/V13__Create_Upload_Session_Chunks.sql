@@ -0,0 +1,7 @@
+CREATE TABLE videos_upload_session_chunks (
+    session_id CHAR(32) NOT NULL,
+    part INT NOT NULL,
+    chunk_key VARCHAR(255) NOT NULL,
+    CONSTRAINT idx_vusc_session_part UNIQUE (session_id, part),
+    CONSTRAINT fk_vusc_session_id FOREIGN KEY (session_id) REFERENCES videos_upload_sessions (id) ON DELETE CASCADE
+);
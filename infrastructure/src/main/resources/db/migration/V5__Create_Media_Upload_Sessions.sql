@@ -0,0 +1,14 @@
+CREATE TABLE videos_upload_sessions (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    media_type VARCHAR(50) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    size BIGINT NOT NULL,
+    committed_offset BIGINT NOT NULL DEFAULT 0,
+    chunks INT NOT NULL DEFAULT 0,
+    status VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_vus_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+CREATE TABLE media_checksums (
+    location VARCHAR(500) NOT NULL PRIMARY KEY,
+    checksum VARCHAR(255) NOT NULL,
+    size BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_media_checksums_checksum_size ON media_checksums (checksum, size);
@@ -0,0 +1,11 @@
+CREATE TABLE media_cleanups (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    video_id CHAR(32) NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_media_cleanups_next_attempt_at ON media_cleanups (next_attempt_at);
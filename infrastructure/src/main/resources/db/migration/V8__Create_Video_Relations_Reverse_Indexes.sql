@@ -0,0 +1,5 @@
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+
+CREATE INDEX idx_vcms_cast_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -12,14 +12,16 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.github.allisson95.codeflix.infrastructure.configuration.ImportConfig;
 import com.github.allisson95.codeflix.infrastructure.configuration.ObjectMapperConfig;
+import com.github.allisson95.codeflix.infrastructure.configuration.UploadConfig;
 
 @Target({ ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
 @ActiveProfiles("test-integration")
 @WebMvcTest
-@Import(value = { ObjectMapperConfig.class })
+@Import(value = { ObjectMapperConfig.class, ImportConfig.class, UploadConfig.class })
 @Tag("integrationTest")
 public @interface ControllerTest {
 
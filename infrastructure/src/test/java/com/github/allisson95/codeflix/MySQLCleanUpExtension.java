@@ -11,6 +11,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.github.allisson95.codeflix.infrastructure.castmember.persistence.CastMemberRepository;
 import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryRepository;
 import com.github.allisson95.codeflix.infrastructure.genre.persistence.GenreRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaUploadSessionRepository;
 import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoRepository;
 
 public class MySQLCleanUpExtension implements BeforeEachCallback {
@@ -20,6 +23,9 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var applicationContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+                applicationContext.getBean(MediaChecksumRepository.class),
+                applicationContext.getBean(MediaCleanupRepository.class),
+                applicationContext.getBean(MediaUploadSessionRepository.class),
                 applicationContext.getBean(VideoRepository.class),
                 applicationContext.getBean(CastMemberRepository.class),
                 applicationContext.getBean(GenreRepository.class),
@@ -13,6 +13,14 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.github.allisson95.codeflix.infrastructure.configuration.ExistenceConfig;
+import com.github.allisson95.codeflix.infrastructure.configuration.PaginationConfig;
+import com.github.allisson95.codeflix.infrastructure.configuration.SearchConfig;
+import com.github.allisson95.codeflix.infrastructure.existence.CatalogIds;
+import com.github.allisson95.codeflix.infrastructure.pagination.Paginator;
+import com.github.allisson95.codeflix.infrastructure.pagination.TextSearch;
+import com.github.allisson95.codeflix.infrastructure.search.CatalogSearchIndex;
+
 @Target({ ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
@@ -21,7 +29,16 @@ import org.springframework.test.context.ActiveProfiles;
     basePackages = "com.github.allisson95.codeflix",
     useDefaultFilters = false,
     includeFilters = {
-        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+            PaginationConfig.class,
+            Paginator.class,
+            SearchConfig.class,
+            TextSearch.class,
+            CatalogSearchIndex.class,
+            ExistenceConfig.class,
+            CatalogIds.class
+        })
     }
 )
 @DataJpaTest
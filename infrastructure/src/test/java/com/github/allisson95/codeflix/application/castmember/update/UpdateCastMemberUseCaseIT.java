@@ -65,7 +65,7 @@ class UpdateCastMemberUseCaseIT {
         assertEquals(aMember.getCreatedAt(), updatedMember.getCreatedAt());
         assertTrue(aMember.getUpdatedAt().isBefore(updatedMember.getUpdatedAt()));
 
-        verify(castMemberGateway).findById(any());
+        verify(castMemberGateway).findForUpdate(any());
         verify(castMemberGateway).update(any());
     }
 
@@ -97,7 +97,7 @@ class UpdateCastMemberUseCaseIT {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -129,7 +129,7 @@ class UpdateCastMemberUseCaseIT {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -159,7 +159,7 @@ class UpdateCastMemberUseCaseIT {
         assertNotNull(actualException);
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(castMemberGateway).findById(expectedId);
+        verify(castMemberGateway).findForUpdate(expectedId);
         verify(castMemberGateway, times(0)).update(any());
     }
 
@@ -184,7 +184,7 @@ class UpdateCategoryUseCaseIT {
         assertEquals(expectedErrorCount, notification.getErrors().size());
         assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, times(1)).update(any());
 
         final var aCategoryJpaEntity = categoryRepository.findById(expectedId.getValue()).get();
@@ -216,7 +216,7 @@ class UpdateCategoryUseCaseIT {
 
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        verify(categoryGateway, times(1)).findById(CategoryID.from(expectedId));
+        verify(categoryGateway, times(1)).findForUpdate(CategoryID.from(expectedId));
         verify(categoryGateway, times(0)).update(any());
     }
 
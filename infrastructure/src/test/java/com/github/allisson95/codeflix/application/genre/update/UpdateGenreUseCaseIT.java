@@ -132,7 +132,7 @@ class UpdateGenreUseCaseIT {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -161,7 +161,7 @@ class UpdateGenreUseCaseIT {
         assertEquals(expectedErrorCount, actualException.getErrors().size());
         assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, never()).existsByIds(any());
         verify(genreGateway, never()).update(any());
     }
@@ -195,7 +195,7 @@ class UpdateGenreUseCaseIT {
         assertEquals(expectedErrorMessageOne, actualException.getErrors().get(0).message());
         assertEquals(expectedErrorMessageTwo, actualException.getErrors().get(1).message());
 
-        verify(genreGateway, times(1)).findById(expectedId);
+        verify(genreGateway, times(1)).findForUpdate(expectedId);
         verify(categoryGateway, times(1)).existsByIds(expectedCategories);
         verify(genreGateway, never()).update(any());
     }
@@ -0,0 +1,97 @@
+package com.github.allisson95.codeflix.e2e.category;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.github.allisson95.codeflix.E2ETest;
+import com.github.allisson95.codeflix.e2e.MockDsl;
+
+// The in-memory index is off so every search reaches MATCH ... AGAINST on the V9 FULLTEXT indexes
+@E2ETest
+@Testcontainers
+@TestPropertySource(properties = {
+        "search.full-text=true",
+        "search.index.enabled=false"
+})
+class CategoryFullTextSearchE2ETest implements MockDsl {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("admin_catalogo");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("mysql.username", MYSQL_CONTAINER::getUsername);
+        registry.add("mysql.password", MYSQL_CONTAINER::getPassword);
+    }
+
+    @Override
+    public MockMvc mvc() {
+        return this.mvc;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+
+        givenACategory("Filmes de terror", null, true);
+        givenACategory("Filmes de comedia", null, true);
+        givenACategory("Series de terror", null, true);
+    }
+
+    @Test
+    void asACatalogAdminIShouldBeAbleToSearchCategoriesByEveryWordInAnyOrder() throws Exception {
+        listCategories(0, 10, "terror filme")
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name").value(equalTo("Filmes de terror")));
+    }
+
+    @Test
+    void asACatalogAdminIShouldNotBeAbleToUseFullTextOperatorsInTheSearch() throws Exception {
+        listCategories(0, 10, "+filmes -terror")
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(equalTo(1)))
+                .andExpect(jsonPath("$.items[0].name").value(equalTo("Filmes de terror")));
+    }
+
+    @Test
+    void asACatalogAdminIShouldBeAbleToSearchCategoriesByAWordShorterThanTheFullTextTokens() throws Exception {
+        listCategories(0, 10, "fi")
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(equalTo(2)))
+                .andExpect(jsonPath("$.items[*].name").value(containsInAnyOrder("Filmes de terror", "Filmes de comedia")));
+    }
+
+    @Test
+    void asACatalogAdminIShouldBeAbleToSortCategoriesByRelevance() throws Exception {
+        listCategories(0, 10, "terror", "relevance", "desc")
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(equalTo(2)))
+                .andExpect(jsonPath("$.items[*].name").value(containsInAnyOrder("Filmes de terror", "Series de terror")));
+    }
+
+}
@@ -5,9 +5,12 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -31,9 +34,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.allisson95.codeflix.ControllerTest;
 import com.github.allisson95.codeflix.application.castmember.create.CreateCastMemberOutput;
 import com.github.allisson95.codeflix.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.github.allisson95.codeflix.application.castmember.create.DefaultImportCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.get.CastMemberOutput;
 import com.github.allisson95.codeflix.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
+import com.github.allisson95.codeflix.application.castmember.retrieve.get.DefaultGetCastMemberLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.castmember.retrieve.list.CastMemberListOutput;
 import com.github.allisson95.codeflix.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.github.allisson95.codeflix.application.castmember.update.DefaultUpdateCastMemberUseCase;
@@ -49,6 +54,7 @@ import com.github.allisson95.codeflix.domain.validation.Error;
 import com.github.allisson95.codeflix.infrastructure.ApiTest;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.github.allisson95.codeflix.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils;
 
 @ControllerTest(controllers = CastMemberAPI.class)
 class CastMemberAPITest {
@@ -68,12 +74,18 @@ class CastMemberAPITest {
     @MockBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
 
+    @MockBean
+    private DefaultGetCastMemberLastModifiedUseCase getCastMemberLastModifiedUseCase;
+
     @MockBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
 
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultImportCastMembersUseCase importCastMembersUseCase;
+
     @Test
     void Given_AValidCommand_When_CallsCreateCastMember_Should_ReturnItsIdentifier() throws Exception {
         final var expectedName = Fixture.name();
@@ -158,6 +170,7 @@ class CastMemberAPITest {
         this.mvc.perform(request)
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, HttpCacheUtils.eTagOf(expectedMember.updatedAt())))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
                 .andExpect(jsonPath("$.name", equalTo(expectedMember.name())))
@@ -168,6 +181,29 @@ class CastMemberAPITest {
         verify(getCastMemberByIdUseCase).execute(expectedId.getValue());
     }
 
+    @Test
+    void Given_AMatchingETag_When_CallsGetById_Should_ReturnNotModified() throws Exception {
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+        final var expectedId = aMember.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTagOf(aMember.getUpdatedAt());
+
+        when(getCastMemberLastModifiedUseCase.execute(expectedId)).thenReturn(aMember.getUpdatedAt());
+
+        final var request = get("/cast_members/{id}", expectedId)
+                .with(ApiTest.CAST_MEMBER_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCastMemberByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void Given_AInvalidId_When_CallsGetById_Should_ReturnNotificationException() throws Exception {
         final var expectedId = CastMemberID.from("123");
@@ -5,13 +5,19 @@ import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -35,9 +41,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.allisson95.codeflix.ControllerTest;
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryOutput;
 import com.github.allisson95.codeflix.application.category.create.CreateCategoryUseCase;
+import com.github.allisson95.codeflix.application.category.create.ImportCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.delete.DeleteCategoryUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.get.CategoryOutput;
 import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.github.allisson95.codeflix.application.category.retrieve.get.GetCategoryLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.category.retrieve.list.CategoryListOutput;
 import com.github.allisson95.codeflix.application.category.retrieve.list.ListCategoriesUseCase;
 import com.github.allisson95.codeflix.application.category.update.UpdateCategoryOutput;
@@ -47,11 +55,14 @@ import com.github.allisson95.codeflix.domain.category.CategoryID;
 import com.github.allisson95.codeflix.domain.exceptions.DomainException;
 import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.domain.validation.Error;
 import com.github.allisson95.codeflix.domain.validation.handler.Notification;
 import com.github.allisson95.codeflix.infrastructure.ApiTest;
 import com.github.allisson95.codeflix.infrastructure.category.models.CreateCategoryRequest;
 import com.github.allisson95.codeflix.infrastructure.category.models.UpdateCategoryRequest;
+import com.github.allisson95.codeflix.infrastructure.imports.ImportLineResponse;
+import com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils;
 
 @ControllerTest(controllers = { CategoryAPI.class })
 class CategoryAPITest {
@@ -68,6 +79,9 @@ class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryLastModifiedUseCase getCategoryLastModifiedUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -77,6 +91,9 @@ class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
     @Test
     void Given_AValidCommand_When_CallCreateCategory_Then_ReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -110,6 +127,52 @@ class CategoryAPITest {
                         && Objects.equals(expectedIsActive, cmd.isActive())));
     }
 
+    @Test
+    void Given_AnNdjsonStream_When_CallImportCategories_Then_ReturnOneResultPerLine() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        when(importCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(
+                        Right(CreateCategoryOutput.from(CategoryID.from("123"))),
+                        Left(Notification.create(new Error(expectedErrorMessage)))));
+
+        final var aBody = String.join("\n",
+                this.mapper.writeValueAsString(new CreateCategoryRequest("Filmes", "A categoria mais assistida", null)),
+                "{ not json",
+                "",
+                this.mapper.writeValueAsString(new CreateCategoryRequest(null, null, false)));
+
+        final var request = post("/categories/import")
+                .with(ApiTest.ADMIN_JWT)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(aBody);
+
+        final var lines = this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .lines()
+                .map(it -> this.mapper.readValue(it, ImportLineResponse.class))
+                .toList();
+
+        assertEquals(3, lines.size());
+        assertEquals(ImportLineResponse.created(1, "123"), lines.get(0));
+        assertEquals(2, lines.get(1).line());
+        assertNull(lines.get(1).id());
+        assertTrue(lines.get(1).errors().get(0).message().startsWith("Invalid JSON"));
+        assertEquals(ImportLineResponse.failed(4, List.of(new Error(expectedErrorMessage))), lines.get(2));
+
+        verify(importCategoriesUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+                && Objects.equals("Filmes", cmds.get(0).name())
+                && cmds.get(0).isActive()
+                && cmds.get(1).name() == null
+                && !cmds.get(1).isActive()));
+    }
+
     @Test
     void Given_AnInvalidName_When_CallCreateCategory_Then_ReturnNotification() throws Exception {
         final String expectedName = null;
@@ -198,6 +261,7 @@ class CategoryAPITest {
         this.mockMvc.perform(request)
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, HttpCacheUtils.eTagOf(expectedCategory.updatedAt())))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", equalTo(expectedId)))
                 .andExpect(jsonPath("$.name", equalTo(expectedCategory.name())))
@@ -210,6 +274,29 @@ class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(expectedId);
     }
 
+    @Test
+    void Given_AMatchingETag_When_CallsGetCategoryById_Should_ReturnNotModified() throws Exception {
+        final var aCategory = Category.newCategory("Filme", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTagOf(aCategory.getUpdatedAt());
+
+        when(getCategoryLastModifiedUseCase.execute(expectedId)).thenReturn(aCategory.getUpdatedAt());
+
+        final var request = get("/categories/{categoryId}", expectedId)
+                .with(ApiTest.CATEGORY_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void Given_AInvalidId_When_CallsGetCategoryById_Should_ReturnNotFound() throws Exception {
         final var expectedId = CategoryID.from("123");
@@ -407,4 +494,49 @@ class CategoryAPITest {
                 && Objects.equals(expectedDirection, cmd.direction())));
     }
 
+    @Test
+    void Given_TotalNone_When_CallsListCategories_Should_ReturnHasMoreWithoutTotal() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(
+                        0,
+                        1,
+                        Pagination.UNKNOWN_TOTAL,
+                        List.of(CategoryListOutput.from(aCategory)),
+                        "next",
+                        true));
+
+        final var request = get("/categories")
+                .param("perPage", "1")
+                .param("total", "none")
+                .with(ApiTest.CATEGORY_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.has_more", equalTo(true)))
+                .andExpect(jsonPath("$.next_cursor", equalTo("next")))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(cmd -> TotalMode.NONE == cmd.total()));
+    }
+
+    @Test
+    void Given_AnInvalidTotal_When_CallsListCategories_Should_ReturnUnprocessableEntity() throws Exception {
+        final var request = get("/categories")
+                .param("total", "approximate")
+                .with(ApiTest.CATEGORY_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("'total' should be one of exact, cached or none")));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
 }
@@ -6,9 +6,12 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -32,9 +35,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.allisson95.codeflix.ControllerTest;
 import com.github.allisson95.codeflix.application.genre.create.CreateGenreOutput;
 import com.github.allisson95.codeflix.application.genre.create.CreateGenreUseCase;
+import com.github.allisson95.codeflix.application.genre.create.ImportGenresUseCase;
 import com.github.allisson95.codeflix.application.genre.delete.DeleteGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.get.GenreOutput;
 import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.github.allisson95.codeflix.application.genre.retrieve.get.GetGenreLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.genre.retrieve.list.GenreListOutput;
 import com.github.allisson95.codeflix.application.genre.retrieve.list.ListGenreUseCase;
 import com.github.allisson95.codeflix.application.genre.update.UpdateGenreOutput;
@@ -51,6 +56,7 @@ import com.github.allisson95.codeflix.domain.validation.handler.Notification;
 import com.github.allisson95.codeflix.infrastructure.ApiTest;
 import com.github.allisson95.codeflix.infrastructure.genre.models.CreateGenreRequest;
 import com.github.allisson95.codeflix.infrastructure.genre.models.UpdateGenreRequest;
+import com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils;
 
 @ControllerTest(controllers = { GenreAPI.class })
 class GenreAPITest {
@@ -67,6 +73,9 @@ class GenreAPITest {
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
+    @MockBean
+    private GetGenreLastModifiedUseCase getGenreLastModifiedUseCase;
+
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
 
@@ -76,6 +85,9 @@ class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ImportGenresUseCase importGenresUseCase;
+
     @Test
     void Given_AValidCommand_When_CallCreateGenre_Then_ReturnGenreId() throws Exception {
         final var filmes = Category.newCategory("Filmes", null, true);
@@ -170,6 +182,7 @@ class GenreAPITest {
         this.mockMvc.perform(request)
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, HttpCacheUtils.eTagOf(expectedGenre.updatedAt())))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
                 .andExpect(jsonPath("$.name", equalTo(expectedGenre.name())))
@@ -182,6 +195,29 @@ class GenreAPITest {
         verify(getGenreByIdUseCase, times(1)).execute(expectedId.getValue());
     }
 
+    @Test
+    void Given_AMatchingETag_WhenCallsGetGenreById_Should_ReturnNotModified() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTagOf(aGenre.getUpdatedAt());
+
+        when(getGenreLastModifiedUseCase.execute(expectedId)).thenReturn(aGenre.getUpdatedAt());
+
+        final var request = get("/genres/{genreId}", expectedId)
+                .with(ApiTest.GENRE_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void Given_AInvalidId_WhenCallsGetGenreById_Should_ReturnNotFound() throws Exception {
         final var expectedId = GenreID.from("123");
@@ -0,0 +1,213 @@
+package com.github.allisson95.codeflix.infrastructure.api;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.allisson95.codeflix.ControllerTest;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkCommand;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkOutput;
+import com.github.allisson95.codeflix.application.video.media.session.chunk.UploadMediaChunkUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.complete.CompleteMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionCommand;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionOutput;
+import com.github.allisson95.codeflix.application.video.media.session.create.CreateMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.session.get.GetMediaUploadSessionUseCase;
+import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaOutput;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.ApiTest;
+import com.github.allisson95.codeflix.infrastructure.video.models.CreateMediaUploadSessionRequest;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaUploadSessionJpaEntity;
+
+@ControllerTest(controllers = { MediaUploadAPI.class })
+@TestPropertySource(properties = "uploads.max-chunk-size=16B")
+class MediaUploadAPITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockBean
+    private CreateMediaUploadSessionUseCase createMediaUploadSessionUseCase;
+
+    @MockBean
+    private GetMediaUploadSessionUseCase getMediaUploadSessionUseCase;
+
+    @MockBean
+    private UploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private CompleteMediaUploadSessionUseCase completeMediaUploadSessionUseCase;
+
+    @Test
+    void Given_AValidRequest_When_CallsCreateSession_Then_ReturnId() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedSessionId = MediaUploadSessionID.unique();
+        final var expectedSize = 1024L;
+
+        when(createMediaUploadSessionUseCase.execute(any()))
+                .thenReturn(new CreateMediaUploadSessionOutput(expectedSessionId.getValue()));
+
+        final var aRequest = new CreateMediaUploadSessionRequest("video.mp4", "video/mp4", expectedSize);
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/uploads", expectedVideoId.getValue(), "VIDEO")
+                .with(ApiTest.VIDEO_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsBytes(aRequest));
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/VIDEO/uploads/%s"
+                        .formatted(expectedVideoId.getValue(), expectedSessionId.getValue())))
+                .andExpect(jsonPath("$.id", equalTo(expectedSessionId.getValue())));
+
+        final var captor = ArgumentCaptor.forClass(CreateMediaUploadSessionCommand.class);
+
+        verify(createMediaUploadSessionUseCase).execute(captor.capture());
+
+        final var aCommand = captor.getValue();
+
+        assertEquals(expectedVideoId.getValue(), aCommand.videoId());
+        assertEquals("VIDEO", aCommand.mediaType());
+        assertEquals(expectedSize, aCommand.size());
+    }
+
+    @Test
+    void Given_AChunk_When_CallsUploadChunk_Then_ReturnCommittedOffset() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedSessionId = MediaUploadSessionID.unique();
+        final var expectedContent = "chunk".getBytes();
+
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenReturn(new UploadMediaChunkOutput(expectedSessionId.getValue(), 15L, 2));
+
+        // when
+        final var request = put("/videos/{id}/medias/{type}/uploads/{sessionId}/chunks/{part}",
+                expectedVideoId.getValue(), "VIDEO", expectedSessionId.getValue(), 1)
+                .queryParam("offset", "10")
+                .with(ApiTest.VIDEO_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(expectedContent);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedSessionId.getValue())))
+                .andExpect(jsonPath("$.committed_offset", equalTo(15)))
+                .andExpect(jsonPath("$.chunks", equalTo(2)));
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaChunkCommand.class);
+
+        verify(uploadMediaChunkUseCase).execute(captor.capture());
+
+        final var aCommand = captor.getValue();
+
+        assertEquals(expectedSessionId.getValue(), aCommand.sessionId());
+        assertEquals(1, aCommand.part());
+        assertEquals(10L, aCommand.offset());
+        assertArrayEquals(expectedContent, aCommand.content().content());
+    }
+
+    @Test
+    void Given_AChunkLargerThanTheMaximum_When_CallsUploadChunk_Then_RejectItWithoutCallingTheUseCase() throws Exception {
+        // when
+        final var request = put("/videos/{id}/medias/{type}/uploads/{sessionId}/chunks/{part}",
+                VideoID.unique().getValue(), "VIDEO", MediaUploadSessionID.unique().getValue(), 0)
+                .queryParam("offset", "0")
+                .with(ApiTest.VIDEO_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[17]);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("Chunk is larger than the maximum chunk size of 16 bytes")));
+
+        verify(uploadMediaChunkUseCase, never()).execute(any());
+    }
+
+    @Test
+    void Given_AChunkCommittedConcurrently_When_CallsUploadChunk_Then_ReturnConflict() throws Exception {
+        // given
+        when(uploadMediaChunkUseCase.execute(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(MediaUploadSessionJpaEntity.class, "id"));
+
+        // when
+        final var request = put("/videos/{id}/medias/{type}/uploads/{sessionId}/chunks/{part}",
+                VideoID.unique().getValue(), "VIDEO", MediaUploadSessionID.unique().getValue(), 0)
+                .queryParam("offset", "0")
+                .with(ApiTest.VIDEO_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content("chunk".getBytes());
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isConflict());
+    }
+
+    @Test
+    void Given_ACommittedSession_When_CallsComplete_Then_ReturnMediaLocation() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedSessionId = MediaUploadSessionID.unique();
+
+        when(completeMediaUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedVideoId.getValue(), VideoMediaType.TRAILER));
+
+        // when
+        final var request = post("/videos/{id}/medias/{type}/uploads/{sessionId}/complete",
+                expectedVideoId.getValue(), "TRAILER", expectedSessionId.getValue())
+                .with(ApiTest.VIDEO_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/TRAILER".formatted(expectedVideoId.getValue())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo("TRAILER")));
+    }
+
+}
@@ -4,18 +4,28 @@ import static com.github.allisson95.codeflix.domain.utils.CollectionUtils.mapTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -23,10 +33,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Year;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -34,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -43,14 +59,18 @@ import com.github.allisson95.codeflix.ControllerTest;
 import com.github.allisson95.codeflix.application.video.create.CreateVideoCommand;
 import com.github.allisson95.codeflix.application.video.create.CreateVideoOutput;
 import com.github.allisson95.codeflix.application.video.create.CreateVideoUseCase;
+import com.github.allisson95.codeflix.application.video.create.ImportVideosUseCase;
 import com.github.allisson95.codeflix.application.video.delete.DeleteVideoUseCase;
 import com.github.allisson95.codeflix.application.video.media.get.GetMediaCommand;
 import com.github.allisson95.codeflix.application.video.media.get.GetMediaUseCase;
+import com.github.allisson95.codeflix.application.video.media.get.GetMediaVersionUseCase;
 import com.github.allisson95.codeflix.application.video.media.get.MediaOutput;
+import com.github.allisson95.codeflix.application.video.media.get.MediaVersionOutput;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaCommand;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaOutput;
 import com.github.allisson95.codeflix.application.video.media.upload.UploadMediaUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.github.allisson95.codeflix.application.video.retrieve.get.GetVideoLastModifiedUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.get.VideoOutput;
 import com.github.allisson95.codeflix.application.video.retrieve.list.ListVideoUseCase;
 import com.github.allisson95.codeflix.application.video.retrieve.list.VideoListOutput;
@@ -64,6 +84,8 @@ import com.github.allisson95.codeflix.domain.exceptions.NotFoundException;
 import com.github.allisson95.codeflix.domain.exceptions.NotificationException;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
 import com.github.allisson95.codeflix.domain.pagination.Pagination;
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
 import com.github.allisson95.codeflix.domain.validation.Error;
 import com.github.allisson95.codeflix.domain.validation.handler.Notification;
 import com.github.allisson95.codeflix.domain.video.Video;
@@ -72,6 +94,7 @@ import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoPreview;
 import com.github.allisson95.codeflix.domain.video.VideoSearchQuery;
 import com.github.allisson95.codeflix.infrastructure.ApiTest;
+import com.github.allisson95.codeflix.infrastructure.utils.HttpCacheUtils;
 import com.github.allisson95.codeflix.infrastructure.video.models.CreateVideoRequest;
 import com.github.allisson95.codeflix.infrastructure.video.models.UpdateVideoRequest;
 
@@ -90,6 +113,9 @@ class VideoAPITest {
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
+    @MockBean
+    private GetVideoLastModifiedUseCase getVideoLastModifiedUseCase;
+
     @MockBean
     private UpdateVideoUseCase updateVideoUseCase;
 
@@ -102,9 +128,15 @@ class VideoAPITest {
     @MockBean
     private GetMediaUseCase getMediaUseCase;
 
+    @MockBean
+    private GetMediaVersionUseCase getMediaVersionUseCase;
+
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private ImportVideosUseCase importVideosUseCase;
+
     @Test
     void Given_AllParams_When_CallsCreateFull_Then_ReturnId() throws Exception {
         // given
@@ -413,6 +445,7 @@ class VideoAPITest {
         // then
         response
                 .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, HttpCacheUtils.eTagOf(aVideo.getUpdatedAt())))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", equalTo(expectedId)))
                 .andExpect(jsonPath("$.title", equalTo(expectedTitle)))
@@ -459,6 +492,34 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.cast_members_id", equalTo(new ArrayList<>(expectedCastMembers))));
     }
 
+    @Test
+    void Given_AMatchingETag_When_CallsGetById_Then_ReturnNotModified() throws Exception {
+        // given
+        final var aVideo = Fixture.Videos.random();
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTagOf(aVideo.getUpdatedAt());
+
+        when(getVideoLastModifiedUseCase.execute(expectedId))
+                .thenReturn(aVideo.getUpdatedAt());
+
+        // when
+        final var request = get("/videos/{videoId}", expectedId)
+                .with(ApiTest.VIDEO_JWT)
+                .header(IF_NONE_MATCH, "\"other\", " + expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(content().string(""));
+
+        verify(getVideoByIdUseCase, never()).execute(any());
+    }
+
     @Test
     void Given_AnInvalidId_When_CallsGetById_Should_ReturnNotFound() throws Exception {
         // given
@@ -778,27 +839,32 @@ class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(
-                expectedResource.content(),
-                expectedResource.contentType(),
-                expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), InstantUtils.now()));
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         // when
         final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
                 .with(ApiTest.VIDEO_JWT);
 
-        final var response = this.mockMvc.perform(request).andDo(print());
+        final var result = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(result)).andDo(print());
 
         // then
         response
                 .andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.size())))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
                 .andExpect(
                         header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -810,6 +876,193 @@ class VideoAPITest {
         assertEquals(expectedMediaType.name(), command.mediaType());
     }
 
+    @Test
+    void Given_AValidRange_When_CallsGetMediaById_Then_ReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 5);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), InstantUtils.now()));
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .with(ApiTest.VIDEO_JWT);
+
+        final var result = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(result)).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedContent.length)))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedMedia.size())))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    void Given_AStaleIfRange_When_CallsGetMediaById_Then_ReturnFullContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), InstantUtils.now()));
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"stale\"")
+                .with(ApiTest.VIDEO_JWT);
+
+        final var result = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(result)).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CONTENT_RANGE))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void Given_AnUnsatisfiableRange_When_CallsGetMediaById_Then_ReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), InstantUtils.now()));
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=1000-")
+                .with(ApiTest.VIDEO_JWT);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedMedia.size())));
+    }
+
+    @Test
+    void Given_AMatchingETag_When_CallsGetMediaById_Then_ReturnNotModifiedWithoutLoadingTheMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedChecksum = "abc";
+        final var expectedETag = "\"%s\"".formatted(expectedChecksum);
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedChecksum, InstantUtils.now()));
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(IF_NONE_MATCH, expectedETag)
+                .with(ApiTest.VIDEO_JWT);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(header().exists(LAST_MODIFIED))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(getMediaUseCase, never()).execute(any());
+    }
+
+    @Test
+    void Given_AnOlderIfModifiedSince_When_CallsGetMediaById_Then_ReturnContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedLastModified = InstantUtils.now();
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        final var conditionalHeaders = new HttpHeaders();
+        conditionalHeaders.setIfModifiedSince(expectedLastModified.minusSeconds(60).toEpochMilli());
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), expectedLastModified));
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .headers(conditionalHeaders)
+                .with(ApiTest.VIDEO_JWT);
+
+        final var result = this.mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mockMvc.perform(asyncDispatch(result)).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isOk())
+                .andExpect(header().dateValue(LAST_MODIFIED,
+                        expectedLastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli()))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void Given_AValidVideoIdAndFileType_When_CallsHeadMediaById_Then_ReturnOnlyHeaders() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        final var expectedMedia = MediaOutput.with(expectedResource);
+
+        when(getMediaVersionUseCase.execute(any()))
+                .thenReturn(MediaVersionOutput.with(expectedMedia.checksum(), InstantUtils.now()));
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        // when
+        final var request = head("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEO_JWT);
+
+        final var response = this.mockMvc.perform(request).andDo(print());
+
+        // then
+        response
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.size())))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     void Given_AValidVideoIdAndFile_When_CallsUploadMedia_Then_StoreIt() throws Exception {
         // given
@@ -850,7 +1103,7 @@ class VideoAPITest {
         final var command = captor.getValue();
 
         assertEquals(expectedId.getValue(), command.videoId());
-        assertEquals(expectedResource.content(), command.videoResource().getResource().content());
+        assertArrayEquals(expectedResource.content(), read(command.videoResource().getResource()));
         assertEquals(expectedResource.contentType(), command.videoResource().getResource().contentType());
         assertEquals(expectedResource.name(), command.videoResource().getResource().name());
         assertEquals(expectedType, command.videoResource().getType());
@@ -884,4 +1137,12 @@ class VideoAPITest {
         verify(uploadMediaUseCase, never()).execute(any());
     }
 
+    private static byte[] read(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -168,6 +168,16 @@ class CastMemberMySQLGatewayTest {
         assertTrue(actualMember.isEmpty());
     }
 
+    @Test
+    void Given_AValidCastMemberID_When_CallsFindLastModifiedById_Should_ReturnUpdatedAt() {
+        final var aMember = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type());
+
+        this.castMemberRepository.saveAndFlush(CastMemberJpaEntity.from(aMember));
+
+        assertEquals(aMember.getUpdatedAt(), this.castMemberMySQLGateway.findLastModifiedById(aMember.getId()).get());
+        assertTrue(this.castMemberMySQLGateway.findLastModifiedById(CastMemberID.from("123")).isEmpty());
+    }
+
     @Test
     void Given_EmptyCastMembers_When_CallsFindAll_Should_ReturnEmpty() {
         final var expectedPage = 0;
@@ -1,12 +1,17 @@
 package com.github.allisson95.codeflix.infrastructure.category;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -15,7 +20,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.github.allisson95.codeflix.MySQLGatewayTest;
 import com.github.allisson95.codeflix.domain.category.Category;
 import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.exceptions.DomainException;
+import com.github.allisson95.codeflix.domain.pagination.Pagination;
 import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.domain.pagination.TotalMode;
 import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryRepository;
 
@@ -63,6 +71,25 @@ class CategoryMySQLGatewayTest {
         assertNull(createdCategoryJpaEntity.getDeletedAt());
     }
 
+    @Test
+    void Given_ValidCategories_When_CallCreateAll_Then_PersistAllOfThem() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        assertEquals(0, categoryRepository.count());
+
+        final var createdCategories = categoryGateway.createAll(List.of(filmes, series));
+
+        assertEquals(2, categoryRepository.count());
+        assertEquals(List.of(filmes.getId(), series.getId()), createdCategories.stream().map(Category::getId).toList());
+
+        final var seriesJpaEntity = categoryRepository.findById(series.getId().getValue()).get();
+
+        assertEquals("Séries", seriesJpaEntity.getName());
+        assertFalse(seriesJpaEntity.isActive());
+        assertEquals(series.getDeletedAt(), seriesJpaEntity.getDeletedAt());
+    }
+
     @Test
     void Given_AValidCategory_When_CallUpdate_Then_ReturnUpdatedCategory() {
         final var expectedName = "Filme";
@@ -176,6 +203,16 @@ class CategoryMySQLGatewayTest {
         assertTrue(actualCategory.isEmpty());
     }
 
+    @Test
+    void Given_APrePersistedCategory_When_CallFindLastModifiedById_Then_ReturnUpdatedAt() {
+        final var aCategory = Category.newCategory("Filme", "A categoria mais assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        assertEquals(aCategory.getUpdatedAt(), categoryGateway.findLastModifiedById(aCategory.getId()).get());
+        assertTrue(categoryGateway.findLastModifiedById(CategoryID.from("empty")).isEmpty());
+    }
+
     @Test
     void Given_PrePersistedCategories_When_CallFindAll_Then_ReturnPaginatedCategories() {
         final var expectedPage = 0;
@@ -316,6 +353,117 @@ class CategoryMySQLGatewayTest {
         assertEquals(series.getId(), pageCategories.items().get(0).getId());
     }
 
+    @Test
+    void Given_CategoriesWithTiedNames_When_CallFindAllFollowingTheCursor_Then_ReturnEveryCategoryOnce() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var outrosFilmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(outrosFilmes),
+                CategoryJpaEntity.from(series)));
+
+        final var actualIds = new ArrayList<CategoryID>();
+
+        var pageCategories = categoryGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc"));
+        pageCategories.items().forEach(it -> actualIds.add(it.getId()));
+
+        while (pageCategories.nextCursor() != null) {
+            pageCategories = categoryGateway.findAll(
+                    new SearchQuery(0, expectedPerPage, "", "name", "asc", pageCategories.nextCursor()));
+
+            assertEquals(expectedTotal, pageCategories.total());
+            assertEquals(expectedPerPage, pageCategories.items().size());
+
+            pageCategories.items().forEach(it -> actualIds.add(it.getId()));
+        }
+
+        assertEquals(expectedTotal, actualIds.size());
+        assertThat(actualIds, containsInAnyOrder(filmes.getId(), outrosFilmes.getId(), series.getId()));
+        assertEquals(series.getId(), actualIds.get(2));
+    }
+
+    @Test
+    void Given_ACursorForAnotherSort_When_CallFindAll_Then_ThrowDomainException() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))));
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        assertNotNull(aCursor);
+
+        final var aQuery = new SearchQuery(0, 1, "", "createdAt", "asc", aCursor);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+        assertEquals("'cursor' is invalid or does not match the requested sort", actualException.getMessage());
+    }
+
+    @Test
+    void Given_TheLikeFallback_When_CallFindAllSortedByRelevance_Then_ReturnMatchesWithoutCursor() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Filmes em capítulos", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+        final var actualPage = categoryGateway.findAll(new SearchQuery(0, 1, "filmes", "relevance", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertTrue(actualPage.hasMore());
+        assertNull(actualPage.nextCursor());
+        assertThat(actualPage.items().get(0).getId(), anyOf(equalTo(filmes.getId()), equalTo(series.getId())));
+
+        final var aQuery = new SearchQuery(0, 1, "filmes", "relevance", "asc", "any-cursor");
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+        assertEquals("'cursor' is not supported when sorting by relevance", actualException.getMessage());
+    }
+
+    @Test
+    void Given_PrePersistedCategories_When_CallFindAllWithoutTotal_Then_ReturnHasMoreAndUnknownTotal() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertTrue(firstPage.hasMore());
+        assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        assertEquals(2, firstPage.items().size());
+
+        final var lastPage = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, TotalMode.NONE));
+
+        assertFalse(lastPage.hasMore());
+        assertEquals(3, lastPage.total());
+        assertEquals(1, lastPage.items().size());
+    }
+
+    @Test
+    void Given_ACachedTotal_When_CallFindAllAfterAnInsert_Then_ReturnTheCachedTotalUntilItExpires() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes de Ação", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Filmes de Terror", null, true))));
+
+        final var aQuery = new SearchQuery(0, 1, " filmes de ", "name", "asc", null, TotalMode.CACHED);
+
+        assertEquals(2, categoryGateway.findAll(aQuery).total());
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes de Comédia", null, true)));
+
+        assertEquals(2, categoryGateway.findAll(new SearchQuery(0, 1, "FILMES DE", "name", "asc", null, TotalMode.CACHED)).total());
+        assertEquals(3, categoryGateway.findAll(new SearchQuery(0, 1, "filmes de", "name", "asc")).total());
+    }
+
     @Test
     void Given_PrePersistedCategories_When_CallFindAllWithDocAsTerms_Then_ReturnPaginatedCategoriesWithNameMatches() {
         final var expectedPage = 0;
@@ -378,6 +526,24 @@ class CategoryMySQLGatewayTest {
         assertEquals(filmes.getId(), pageCategories.items().get(0).getId());
     }
 
+    @Test
+    void Given_PrePersistedCategories_When_CallFindAllWithWordsFromDifferentFields_Then_ReturnOnlyCategoriesWithEveryWord() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria pouco assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "Filmes menos vistos", true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)));
+
+        final var aQuery = new SearchQuery(0, 10, "assistida, filmes", "name", "asc");
+        final var pageCategories = categoryGateway.findAll(aQuery);
+
+        assertEquals(1, pageCategories.total());
+        assertEquals(filmes.getId(), pageCategories.items().get(0).getId());
+    }
+
     @Test
     void Given_PrePersistedCategories_When_CallsExistsByIds_Then_ReturnIds() {
         final var filmes = Category.newCategory("Filmes", null, true);
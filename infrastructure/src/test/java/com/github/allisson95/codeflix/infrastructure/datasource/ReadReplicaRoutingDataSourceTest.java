@@ -0,0 +1,126 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica";
+
+    private ReadYourWrites readYourWrites;
+    private ReadReplicaRoutingDataSource target;
+
+    @BeforeEach
+    void setUp() {
+        this.readYourWrites = new ReadYourWrites(Duration.ofMinutes(1), 100);
+        this.target = new ReadReplicaRoutingDataSource(
+                new DriverManagerDataSource(PRIMARY_URL),
+                new DriverManagerDataSource(REPLICA_URL),
+                this.readYourWrites);
+        this.target.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        this.readYourWrites.end();
+    }
+
+    @Test
+    void Given_NoTransaction_When_GetsAConnection_Should_UseThePrimary() throws SQLException {
+        assertEquals(PRIMARY_URL, connectedUrl());
+    }
+
+    @Test
+    void Given_AReadOnlyTransaction_When_GetsAConnection_Should_UseTheReplica() throws SQLException {
+        readOnly();
+
+        assertEquals(REPLICA_URL, connectedUrl());
+    }
+
+    @Test
+    void Given_AClientThatJustWrote_When_ReadsInAnotherRequest_Should_StayOnThePrimary() throws SQLException {
+        this.readYourWrites.begin("writer");
+        readWrite();
+        assertEquals(PRIMARY_URL, connectedUrl());
+        this.readYourWrites.end();
+
+        this.readYourWrites.begin("writer");
+        readOnly();
+        assertEquals(PRIMARY_URL, connectedUrl());
+        this.readYourWrites.end();
+
+        this.readYourWrites.begin("reader");
+        assertEquals(REPLICA_URL, connectedUrl());
+    }
+
+    @Test
+    void Given_AClientThatOnlyReads_When_ReadsAgain_Should_KeepUsingTheReplica() throws SQLException {
+        this.readYourWrites.begin("reader");
+        readOnly();
+        assertEquals(REPLICA_URL, connectedUrl());
+        this.readYourWrites.end();
+
+        this.readYourWrites.begin("reader");
+        assertEquals(REPLICA_URL, connectedUrl());
+    }
+
+    @Test
+    void Given_APinnedClient_When_ReadsOnAPropagatingExecutor_Should_StayOnThePrimary() throws Exception {
+        final var pool = Executors.newSingleThreadExecutor();
+        try {
+            final var executor = ReadYourWrites.propagating(pool);
+
+            this.readYourWrites.begin("writer");
+            readWrite();
+            assertEquals(PRIMARY_URL, connectedUrl());
+
+            assertEquals(PRIMARY_URL, CompletableFuture.supplyAsync(this::readOnlyUrl, executor).get());
+            // the pool thread does not keep the client once the propagated task is done
+            assertEquals(REPLICA_URL, CompletableFuture.supplyAsync(this::readOnlyUrl, pool).get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private String readOnlyUrl() {
+        readOnly();
+        try {
+            return connectedUrl();
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private void readOnly() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private void readWrite() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private String connectedUrl() throws SQLException {
+        try (final var connection = this.target.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+}
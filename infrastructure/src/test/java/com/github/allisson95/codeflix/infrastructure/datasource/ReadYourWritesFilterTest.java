@@ -0,0 +1,84 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMinutes(1), 100);
+    private final ReadYourWritesFilter target = new ReadYourWritesFilter(this.readYourWrites, Duration.ofSeconds(5));
+
+    @Test
+    void Given_AnAnonymousWrite_When_ReadsBackWithTheIssuedCookie_Should_StayOnThePrimary() throws Exception {
+        final var write = new MockHttpServletResponse();
+        perform(request("POST", null), write, true);
+
+        final var issued = write.getCookie(ReadYourWritesFilter.CLIENT_COOKIE);
+        assertNotNull(issued);
+        assertTrue(issued.isHttpOnly());
+
+        final var read = request("GET", null);
+        read.setCookies(new Cookie(ReadYourWritesFilter.CLIENT_COOKIE, issued.getValue()));
+        assertTrue(perform(read, new MockHttpServletResponse(), false));
+    }
+
+    @Test
+    void Given_ClientsBehindTheSameAddress_When_OnlyOneWrote_Should_PinOnlyThatClient() throws Exception {
+        perform(request("POST", null), new MockHttpServletResponse(), true);
+
+        final var otherResponse = new MockHttpServletResponse();
+        assertFalse(perform(request("GET", null), otherResponse, false));
+        assertNull(otherResponse.getCookie(ReadYourWritesFilter.CLIENT_COOKIE));
+    }
+
+    @Test
+    void Given_AnAuthenticatedWrite_When_TheSamePrincipalReads_Should_StayOnThePrimary() throws Exception {
+        perform(request("PUT", "writer"), new MockHttpServletResponse(), true);
+
+        assertTrue(perform(request("GET", "writer"), new MockHttpServletResponse(), false));
+        assertFalse(perform(request("GET", "reader"), new MockHttpServletResponse(), false));
+    }
+
+    private static MockHttpServletRequest request(final String method, final String principal) {
+        final var request = new MockHttpServletRequest(method, "/categories");
+        request.setRemoteAddr("10.0.0.1");
+        if (principal != null) {
+            request.setUserPrincipal(() -> principal);
+        }
+        return request;
+    }
+
+    // Returns whether the request was pinned to the primary before it wrote anything
+    private boolean perform(
+            final MockHttpServletRequest request,
+            final MockHttpServletResponse response,
+            final boolean writes) throws Exception {
+        final var pinned = new AtomicBoolean();
+        this.target.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse res) {
+                pinned.set(ReadYourWritesFilterTest.this.readYourWrites.isPinnedToPrimary());
+                if (writes) {
+                    ReadYourWritesFilterTest.this.readYourWrites.wrote();
+                }
+            }
+        }));
+        return pinned.get();
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.github.allisson95.codeflix.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Year;
+import java.util.Set;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.video.MediaStatus;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.amqp.VideoEncoderListener;
+import com.github.allisson95.codeflix.infrastructure.category.models.CreateCategoryRequest;
+import com.github.allisson95.codeflix.infrastructure.configuration.json.Json;
+import com.github.allisson95.codeflix.infrastructure.video.models.VideoEncoderCompleted;
+import com.github.allisson95.codeflix.infrastructure.video.models.VideoMetadata;
+
+// The replica is a separate database with the schema but none of the rows, like a replica lagging behind the primary
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "datasource.replica.enabled=true",
+    "datasource.replica.url=" + ReadYourWritesRoutingTest.REPLICA_URL,
+    "datasource.replica.username=root",
+    "datasource.replica.password=root",
+    "datasource.replica.minimum-idle=1",
+    "datasource.replica.maximum-pool-size=2"
+})
+class ReadYourWritesRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:admin_catalogo_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoEncoderListener videoEncoderListener;
+
+    @BeforeAll
+    static void createReplicaSchema() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "root", "root")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void Given_AClientThatJustCreatedACategory_When_ReadsIt_Should_BeServedByThePrimary() throws Exception {
+        final var anId = givenACategory(client("writer"));
+
+        this.mvc.perform(get("/categories/{id}", anId).with(client("writer")).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void Given_AnotherClient_When_ReadsTheNewCategory_Should_BeServedByTheReplica() throws Exception {
+        final var anId = givenACategory(client("writer"));
+
+        this.mvc.perform(get("/categories/{id}", anId).with(client("reader")).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    // The encoder callback has no client to pin, so only the read-write read keeps it off the lagging replica
+    @Test
+    void Given_AnEncodedVideoMessage_When_TheListenerUpdatesTheVideo_Should_ReadItFromThePrimary() {
+        final var aMedia = Fixture.Videos.videoMedia(VideoMediaType.VIDEO);
+        final var aVideo = Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of());
+        aVideo.updateVideoMedia(aMedia);
+
+        final var anId = this.videoGateway.create(aVideo).getId();
+
+        final var aMessage = Json.writeValueAsString(new VideoEncoderCompleted(
+                anId.getValue(),
+                "codeeducationtest",
+                new VideoMetadata("encoded", aMedia.id(), "video.mp4")));
+
+        this.videoEncoderListener.onVideoEncodedMessage(aMessage);
+
+        final var actualMedia = this.videoGateway.findForUpdate(anId).flatMap(Video::getVideo).map(VideoMedia::status);
+        assertEquals(MediaStatus.COMPLETED, actualMedia.orElseThrow());
+    }
+
+    private String givenACategory(final RequestPostProcessor aClient) throws Exception {
+        final var aRequest = post("/categories")
+                .with(aClient)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(Json.writeValueAsString(new CreateCategoryRequest("Filmes", null, true)));
+
+        return this.mvc.perform(aRequest)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getHeader("Location")
+                .replace("/categories/", "");
+    }
+
+    private static RequestPostProcessor client(final String aSubject) {
+        return jwt()
+                .jwt(it -> it.subject(aSubject))
+                .authorities(new SimpleGrantedAuthority("ROLE_CATALOGO_ADMIN"));
+    }
+
+}
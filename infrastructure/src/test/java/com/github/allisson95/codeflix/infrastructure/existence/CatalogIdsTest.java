@@ -0,0 +1,133 @@
+package com.github.allisson95.codeflix.infrastructure.existence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.existence.IdFilterProperties;
+import com.github.allisson95.codeflix.infrastructure.video.DefaultVideoGateway;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoRepository;
+
+// The scheduled refresh is pushed out so the test decides when other instances' creates are picked up
+@IntegrationTest
+@TestPropertySource(properties = {
+        "ids.filter.enabled=true",
+        "ids.filter.refresh-interval=1h"
+})
+class CatalogIdsTest {
+
+    @Autowired
+    private CatalogIds catalogIds;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        this.catalogIds.rebuild();
+    }
+
+    @Test
+    void Given_AVideoCreatedByAnotherInstance_When_TheFilterRefreshes_Should_FindIt() {
+        // written straight to the table, like a create on another instance that this filter has not seen yet
+        final var aVideo = newVideo();
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo).asNew());
+
+        final var anId = aVideo.getId();
+
+        assertTrue(this.videoGateway.findById(anId).isEmpty());
+
+        this.catalogIds.refresh();
+
+        assertTrue(this.videoGateway.findById(anId).isPresent());
+        assertTrue(this.videoGateway.findDetailsById(anId).isPresent());
+        assertTrue(this.videoGateway.findLastModifiedById(anId).isPresent());
+        assertTrue(this.videoGateway.findMediaVersion(anId, VideoMediaType.VIDEO).isPresent());
+    }
+
+    @Test
+    void Given_AVideoCreatedThroughThisInstance_When_CallsFindById_Should_FindItWithoutARefresh() {
+        final var anId = this.videoGateway.create(newVideo()).getId();
+
+        assertTrue(this.videoGateway.findById(anId).isPresent());
+    }
+
+    @Test
+    void Given_AnUnknownVideoId_When_CallsFindById_Should_ReturnEmpty() {
+        assertTrue(this.videoGateway.findById(VideoID.unique()).isEmpty());
+        assertTrue(this.videoGateway.findLastModifiedById(VideoID.unique()).isEmpty());
+    }
+
+    @Test
+    void Given_AFilterPastItsStalenessBound_When_CallsMightExist_Should_NotRuleOutAnyId() {
+        final var properties = new IdFilterProperties();
+        properties.setMaxStaleness(Duration.ZERO);
+
+        final var staleIds = new CatalogIds(this.entityManager, properties);
+        staleIds.rebuild();
+
+        final var anId = VideoID.unique().getValue();
+
+        assertFalse(this.catalogIds.mightExist(VideoJpaEntity.class, anId));
+        assertTrue(staleIds.mightExist(VideoJpaEntity.class, anId));
+    }
+
+    @Test
+    void Given_CreatedAndDeletedCategories_When_CallsExistsByIds_Should_ReturnOnlyTheExistingOnes() {
+        final var filmes = this.categoryGateway.create(Fixture.Categories.filmes()).getId();
+        final var documentarios = this.categoryGateway.create(Fixture.Categories.documentarios()).getId();
+        final var unknown = CategoryID.unique();
+
+        assertEquals(
+                Set.of(filmes, documentarios),
+                Set.copyOf(this.categoryGateway.existsByIds(List.of(filmes, documentarios, unknown))));
+
+        this.categoryGateway.deleteById(documentarios);
+
+        assertEquals(List.of(filmes), this.categoryGateway.existsByIds(List.of(filmes, documentarios, unknown)));
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.github.allisson95.codeflix.infrastructure.existence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class IdFilterTest {
+
+    private final IdFilter target = new IdFilter(0.01);
+
+    @Test
+    void Given_ANotBuiltFilter_When_CallsMightContain_Should_NotRuleOutAnyId() {
+        assertTrue(target.mightContain("123"));
+        assertTrue(target.refreshedAt().isEmpty());
+    }
+
+    @Test
+    void Given_ABuiltFilter_When_CallsMightContain_Should_RuleOutOnlyUnknownIds() {
+        final var expectedRefreshedAt = Instant.now();
+
+        target.startRebuild();
+        final var next = target.newFilter(2);
+        next.put("1");
+        next.put("2");
+        target.finishRebuild(next, expectedRefreshedAt);
+
+        assertTrue(target.mightContain("1"));
+        assertTrue(target.mightContain("2"));
+        assertFalse(target.mightContain("3"));
+        assertEquals(Optional.of(expectedRefreshedAt), target.refreshedAt());
+    }
+
+    @Test
+    void Given_AnIdAddedDuringARebuild_When_TheRebuildFinishes_Should_KeepTheId() {
+        target.startRebuild();
+        final var next = target.newFilter(0);
+        target.add("1");
+        target.finishRebuild(next, Instant.now());
+
+        assertTrue(target.mightContain("1"));
+    }
+
+    @Test
+    void Given_AnAbortedRebuild_When_CallsMightContain_Should_KeepThePreviousFilter() {
+        target.startRebuild();
+        final var next = target.newFilter(0);
+        next.put("1");
+        target.finishRebuild(next, Instant.now());
+
+        target.startRebuild();
+        target.abortRebuild();
+        target.add("2");
+
+        assertTrue(target.mightContain("1"));
+        assertTrue(target.mightContain("2"));
+        assertFalse(target.mightContain("3"));
+    }
+
+    @Test
+    void Given_ABuiltFilter_When_CallsRefresh_Should_AddTheIdsAndAdvanceTheRefreshTime() {
+        final var builtAt = Instant.now().minusSeconds(5);
+        final var expectedRefreshedAt = Instant.now();
+
+        target.startRebuild();
+        target.finishRebuild(target.newFilter(0), builtAt);
+
+        target.refresh(List.of("1"), expectedRefreshedAt);
+
+        assertTrue(target.mightContain("1"));
+        assertFalse(target.mightContain("2"));
+        assertEquals(Optional.of(expectedRefreshedAt), target.refreshedAt());
+    }
+
+    @Test
+    void Given_ANotBuiltFilter_When_CallsRefresh_Should_StayNotBuilt() {
+        target.refresh(List.of("1"), Instant.now());
+
+        assertTrue(target.refreshedAt().isEmpty());
+    }
+
+}
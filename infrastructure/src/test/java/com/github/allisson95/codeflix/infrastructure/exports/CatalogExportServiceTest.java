@@ -0,0 +1,125 @@
+package com.github.allisson95.codeflix.infrastructure.exports;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.genre.Genre;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoGateway;
+import com.github.allisson95.codeflix.infrastructure.configuration.json.Json;
+
+@IntegrationTest
+class CatalogExportServiceTest {
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Test
+    void Given_ACatalog_When_CallsExport_Should_WriteOneLinePerAggregateWithItsAssociationIds() throws Exception {
+        final var filmes = this.categoryGateway.create(Fixture.Categories.filmes());
+        final var documentarios = this.categoryGateway.create(Fixture.Categories.documentarios());
+        final var acao = this.genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        final var terror = this.genreGateway.create(Fixture.Genres.terror());
+        final var nicolasCage = this.castMemberGateway.create(Fixture.CastMembers.nicolasCage());
+
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(filmes.getId(), documentarios.getId()),
+                Set.of(acao.getId()),
+                Set.of(nicolasCage.getId())));
+        final var anEmptyVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()));
+
+        final var out = new ByteArrayOutputStream();
+
+        final var exported = this.catalogExportService.export(out);
+
+        final var lines = out.toString(StandardCharsets.UTF_8).lines()
+                .map(it -> Json.readValue(it, JsonNode.class))
+                .toList();
+
+        assertEquals(7, exported);
+        assertEquals(7, lines.size());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+        assertEquals(List.of("category", "category", "cast_member", "genre", "genre", "video", "video"),
+                lines.stream().map(it -> it.get("kind").asText()).toList());
+
+        final var acaoLine = lineOf(lines, acao.getId().getValue());
+        assertEquals("Ação", acaoLine.get("name").asText());
+        assertEquals(List.of(filmes.getId().getValue()), idsOf(acaoLine, "categories_id"));
+        assertTrue(idsOf(lineOf(lines, terror.getId().getValue()), "categories_id").isEmpty());
+
+        final var videoLine = lineOf(lines, aVideo.getId().getValue());
+        assertEquals(aVideo.getTitle(), videoLine.get("title").asText());
+        assertEquals(aVideo.getRating().getName(), videoLine.get("rating").asText());
+        assertThat(idsOf(videoLine, "categories_id"),
+                containsInAnyOrder(filmes.getId().getValue(), documentarios.getId().getValue()));
+        assertEquals(List.of(acao.getId().getValue()), idsOf(videoLine, "genres_id"));
+        assertEquals(List.of(nicolasCage.getId().getValue()), idsOf(videoLine, "cast_members_id"));
+        assertTrue(videoLine.get("created_at").isTextual());
+
+        final var emptyVideoLine = lineOf(lines, anEmptyVideo.getId().getValue());
+        assertTrue(idsOf(emptyVideoLine, "categories_id").isEmpty());
+        assertTrue(idsOf(emptyVideoLine, "genres_id").isEmpty());
+        assertTrue(idsOf(emptyVideoLine, "cast_members_id").isEmpty());
+    }
+
+    private static JsonNode lineOf(final List<JsonNode> lines, final String anId) {
+        return lines.stream()
+                .filter(it -> anId.equals(it.get("id").asText()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static List<String> idsOf(final JsonNode aLine, final String aField) {
+        return StreamSupport.stream(aLine.get(aField).spliterator(), false)
+                .map(JsonNode::asText)
+                .toList();
+    }
+
+}
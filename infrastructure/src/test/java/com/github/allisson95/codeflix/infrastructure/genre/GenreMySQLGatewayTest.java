@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -37,6 +39,9 @@ class GenreMySQLGatewayTest {
     @Autowired
     private CategoryMySQLGateway categoryGateway;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void Given_AValidGenre_When_CallsCreateGenre_Should_PersisteGenre() {
         final var aCategory = Category.newCategory("Filmes", null, true);
@@ -116,9 +121,7 @@ class GenreMySQLGatewayTest {
     @Test
     void Given_AValidGenreWithoutCategories_When_CallsUpdateGenreWithCategories_Should_PersisteGenre() {
         final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
-        this.categoryGateway.create(filmes);
         final var series = this.categoryGateway.create(Category.newCategory("Séries", null, true));
-        this.categoryGateway.create(series);
 
         final var expectedName = "Ação";
         final var expectedIsActive = true;
@@ -161,6 +164,37 @@ class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    void Given_AValidGenreWithCategories_When_CallsUpdateGenreSwappingACategory_Should_KeepTheUnchangedOne() {
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = this.categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var documentarios = this.categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        this.genreGateway.create(aGenre);
+        this.entityManager.flush();
+
+        final var keptCategory = this.genreRepository.findById(aGenre.getId().getValue()).get()
+                .getCategories().stream()
+                .filter(it -> it.getId().getCategoryId().equals(filmes.getId().getValue()))
+                .findFirst()
+                .get();
+
+        final var actualGenre = this.genreGateway.update(
+                Genre.with(aGenre)
+                        .update("Ação", true, List.of(filmes.getId(), documentarios.getId())));
+        this.entityManager.flush();
+
+        assertThat(actualGenre.getCategories(), containsInAnyOrder(filmes.getId(), documentarios.getId()));
+
+        final var persistedGenre = this.genreRepository.findById(aGenre.getId().getValue()).get();
+
+        assertThat(persistedGenre.getCategoryIDs(), containsInAnyOrder(filmes.getId(), documentarios.getId()));
+        assertTrue(persistedGenre.getCategories().stream().anyMatch(it -> it == keptCategory));
+    }
+
     @Test
     void Given_AValidGenreWithCategories_When_CallsUpdateGenreCleaningCategories_Should_PersisteGenre() {
         final var filmes = Category.newCategory("Filmes", null, true);
@@ -309,6 +343,20 @@ class GenreMySQLGatewayTest {
         assertEquals(0, this.genreRepository.count());
     }
 
+    @Test
+    void Given_AGenreWithACategory_When_TheCategoryIsDeleted_Should_AdvanceTheGenreLastModified() {
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aGenre = this.genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        final var lastModified = this.genreGateway.findLastModifiedById(aGenre.getId()).get();
+
+        this.categoryGateway.deleteById(filmes.getId());
+
+        final var actualGenre = this.genreGateway.findById(aGenre.getId()).get();
+        assertTrue(actualGenre.getCategories().isEmpty());
+        assertTrue(actualGenre.getUpdatedAt().isAfter(lastModified));
+        assertEquals(actualGenre.getUpdatedAt(), this.genreGateway.findLastModifiedById(aGenre.getId()).get());
+    }
+
     @Test
     void Given_AnInvalidGenre_When_CallsDeleteById_Should_BeOK() {
         assertEquals(0, this.genreRepository.count());
@@ -373,6 +421,16 @@ class GenreMySQLGatewayTest {
         assertTrue(actualGenre.isEmpty());
     }
 
+    @Test
+    void Given_APrePersistedGenre_When_CallsFindLastModifiedById_Should_ReturnUpdatedAt() {
+        final var aGenre = Genre.newGenre("Ação", true);
+
+        this.genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+
+        assertEquals(aGenre.getUpdatedAt(), this.genreGateway.findLastModifiedById(aGenre.getId()).get());
+        assertTrue(this.genreGateway.findLastModifiedById(GenreID.from("empty")).isEmpty());
+    }
+
     @Test
     void Given_EmptyGenres_When_CallsFindAll_Should_ReturnAEmptyList() {
         final var expectedPage = 0;
@@ -509,6 +567,33 @@ class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    void Given_GenresWithCategories_When_CallsFindAll_Should_ReturnEachGenreCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        this.categoryGateway.create(filmes);
+        this.categoryGateway.create(series);
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(series.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        this.genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)));
+        this.entityManager.clear();
+
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(3, actualPage.items().size());
+        assertThat(actualPage.items().get(0).getCategories(), containsInAnyOrder(filmes.getId(), series.getId()));
+        assertEquals(List.of(series.getId()), actualPage.items().get(1).getCategories());
+        assertTrue(actualPage.items().get(2).getCategories().isEmpty());
+    }
+
     @Test
     void Given_PrePersistedGenres_When_CallsExistsByIds_Then_ReturnIds() {
         final var comediaRomantica = Genre.newGenre("Comédia Romântica", true);
@@ -0,0 +1,81 @@
+package com.github.allisson95.codeflix.infrastructure.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.category.Category;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.pagination.SearchQuery;
+import com.github.allisson95.codeflix.infrastructure.category.persistence.CategoryJpaEntity;
+
+@IntegrationTest
+@TestPropertySource(properties = "search.index.enabled=true")
+class CatalogSearchIndexTest {
+
+    @Autowired
+    private CatalogSearchIndex searchIndex;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.searchIndex.rebuild();
+    }
+
+    @Test
+    void Given_WordsOutOfOrder_When_CallsFindAll_Should_MatchEveryWordLikeTheFullTextSearch() {
+        final var filmes = this.categoryGateway.create(Fixture.Categories.filmes());
+        final var series = this.categoryGateway.create(Fixture.Categories.series());
+        final var documentarios = this.categoryGateway.create(Fixture.Categories.documentarios());
+
+        assertThat(namesOf("assistidas mais"), containsInAnyOrder(series.getName()));
+        assertThat(namesOf("mais assistida"), containsInAnyOrder(filmes.getName(), series.getName()));
+        assertThat(namesOf("2023 documentarios melhores"), containsInAnyOrder(documentarios.getName()));
+        assertEquals(List.of(), namesOf("assistidas terror"));
+    }
+
+    @Test
+    void Given_AWriteInARolledBackTransaction_When_CallsSearch_Should_NotIndexIt() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.categoryGateway.create(Category.newCategory("Animes", null, true));
+
+            assertEquals(Optional.of(List.of()), this.searchIndex.search(CategoryJpaEntity.class, "animes"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(Optional.of(List.of()), this.searchIndex.search(CategoryJpaEntity.class, "animes"));
+    }
+
+    @Test
+    void Given_AWriteInACommittedTransaction_When_CallsSearch_Should_IndexItAfterTheCommit() {
+        final var animes = this.transactionTemplate.execute(status ->
+                this.categoryGateway.create(Category.newCategory("Animes", null, true)));
+
+        assertEquals(
+                Optional.of(List.of(animes.getId().getValue())),
+                this.searchIndex.search(CategoryJpaEntity.class, "animes"));
+    }
+
+    private List<String> namesOf(final String terms) {
+        return this.categoryGateway.findAll(new SearchQuery(0, 10, terms, "name", "asc")).items().stream()
+                .map(Category::getName)
+                .toList();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.github.allisson95.codeflix.infrastructure.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex target = new TrigramIndex();
+
+    @Test
+    void Given_AnAccentedText_When_CallsFold_Should_StripAccentsCaseAndExtraSpaces() {
+        assertEquals("acao e animacao", TrigramIndex.fold("  Ação   e ANIMAÇÃO "));
+        assertEquals("", TrigramIndex.fold(null));
+    }
+
+    @Test
+    void Given_IndexedDocuments_When_CallsSearchWithoutAccents_Should_MatchSubstrings() {
+        target.put("1", "Séries", "As melhores séries");
+        target.put("2", "Filmes", "Os melhores filmes");
+        target.put("3", "Documentários", null);
+
+        assertThat(target.search("serie"), containsInAnyOrder("1"));
+        assertThat(target.search("MELHORES"), containsInAnyOrder("1", "2"));
+        assertThat(target.search("mentári"), containsInAnyOrder("3"));
+        assertTrue(target.search("terror").isEmpty());
+        assertTrue(target.search("  ").isEmpty());
+    }
+
+    @Test
+    void Given_AQueryShorterThanATrigram_When_CallsSearch_Should_ScanTheDocuments() {
+        target.put("1", "Ação");
+        target.put("2", "Drama");
+
+        assertThat(target.search("ç"), containsInAnyOrder("1"));
+        assertThat(target.search("a"), containsInAnyOrder("1", "2"));
+    }
+
+    @Test
+    void Given_TwoFields_When_CallsSearchAcrossTheirBoundary_Should_NotMatch() {
+        target.put("1", "Filmes", "Series");
+
+        assertTrue(target.search("mesSer").isEmpty());
+    }
+
+    @Test
+    void Given_ManyWords_When_CallsSearch_Should_RequireEveryWordInAnyOrderAndField() {
+        target.put("1", "Séries", "As melhores séries");
+        target.put("2", "Filmes", "Os melhores filmes");
+        target.put("3", "Filmes de ação", null);
+
+        assertThat(target.search("séries melhores"), containsInAnyOrder("1"));
+        assertThat(target.search("filmes, melhores"), containsInAnyOrder("2"));
+        assertThat(target.search("ação filmes"), containsInAnyOrder("3"));
+        assertThat(target.search("filmes de"), containsInAnyOrder("3"));
+        assertTrue(target.search("melhores terror").isEmpty());
+    }
+
+    @Test
+    void Given_AnUpdatedDocument_When_CallsSearch_Should_MatchOnlyTheNewText() {
+        target.put("1", "Filmes");
+        target.put("1", "Séries");
+
+        assertTrue(target.search("filmes").isEmpty());
+        assertEquals(List.of("1"), target.search("series"));
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    void Given_ManyRemovedDocuments_When_CallsSearch_Should_KeepMatchingTheLiveOnes() {
+        for (int i = 0; i < 3000; i++) {
+            target.put(String.valueOf(i), "Categoria " + i);
+        }
+        for (int i = 0; i < 2990; i++) {
+            target.remove(String.valueOf(i));
+        }
+
+        assertEquals(10, target.size());
+        assertThat(target.search("categoria 299"), containsInAnyOrder("2990", "2991", "2992", "2993", "2994",
+                "2995", "2996", "2997", "2998", "2999"));
+        assertTrue(target.search("categoria 15").isEmpty());
+    }
+
+}
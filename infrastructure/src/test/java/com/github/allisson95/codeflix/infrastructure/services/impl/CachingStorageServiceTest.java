@@ -0,0 +1,248 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.infrastructure.services.local.InMemoryStorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingStorageServiceTest {
+
+    @TempDir
+    Path diskDirectory;
+
+    private InMemoryStorageService delegate;
+
+    private CachingStorageService target;
+
+    @BeforeEach
+    void setUp() {
+        this.delegate = new InMemoryStorageService();
+        this.target = new CachingStorageService(this.delegate, 10, 5, this.diskDirectory, 20, 10, Runnable::run);
+    }
+
+    @Test
+    void Given_ASmallResource_When_CallsGetTwice_Should_ServeTheSecondFromMemory() {
+        this.delegate.store("banner", resource("abc"));
+
+        assertArrayEquals("abc".getBytes(), read(target.get("banner").get()));
+        assertArrayEquals("abc".getBytes(), read(target.get("banner").get()));
+
+        final var actualStats = target.stats();
+
+        assertEquals(1, actualStats.misses());
+        assertEquals(1, actualStats.memoryHits());
+        assertEquals(3, actualStats.memoryBytes());
+    }
+
+    @Test
+    void Given_ALargerResource_When_CallsGetTwice_Should_ServeTheSecondFromDisk() {
+        this.delegate.store("video", resource("abcdefgh"));
+
+        target.get("video");
+        final var actualResource = target.get("video").get();
+
+        assertTrue(actualResource.isStreamed());
+        assertArrayEquals("abcdefgh".getBytes(), read(actualResource));
+        assertEquals(1, target.stats().diskHits());
+        assertEquals(8, target.stats().diskBytes());
+    }
+
+    @Test
+    void Given_ALargerResource_When_CallsGet_Should_ServeItFromTheDelegateBeforeTheDiskFill() throws Exception {
+        final var fills = new ArrayList<Runnable>();
+        final var target = new CachingStorageService(this.delegate, 10, 5, this.diskDirectory, 20, 10, fills::add);
+        this.delegate.store("video", resource("abcdefgh"));
+
+        assertArrayEquals("abcdefgh".getBytes(), read(target.get("video").get()));
+        assertArrayEquals("abcdefgh".getBytes(), read(target.get("video").get()));
+
+        assertEquals(1, fills.size());
+        assertEquals(0, target.stats().diskBytes());
+        try (final var files = Files.list(this.diskDirectory.resolve("entries"))) {
+            assertEquals(0, files.count());
+        }
+
+        fills.forEach(Runnable::run);
+
+        assertArrayEquals("abcdefgh".getBytes(), read(target.get("video").get()));
+        assertEquals(1, target.stats().diskHits());
+        assertEquals(8, target.stats().diskBytes());
+    }
+
+    @Test
+    void Given_APendingDiskFill_When_TheResourceIsInvalidated_Should_NotCacheTheOldContent() throws Exception {
+        final var fills = new ArrayList<Runnable>();
+        final var target = new CachingStorageService(this.delegate, 10, 5, this.diskDirectory, 20, 10, fills::add);
+        this.delegate.store("video", resource("abcdefgh"));
+        target.get("video");
+
+        target.store("video", resource("hgfedcba"));
+        fills.forEach(Runnable::run);
+
+        assertEquals(0, target.stats().diskBytes());
+        try (final var files = Files.list(this.diskDirectory.resolve("entries"))) {
+            assertEquals(0, files.count());
+        }
+        assertArrayEquals("hgfedcba".getBytes(), read(target.get("video").get()));
+    }
+
+    @Test
+    void Given_AChangedChecksum_When_CallsGet_Should_MissAndRefresh() {
+        this.delegate.store("banner", resource("abc"));
+        target.get("banner");
+
+        this.delegate.store("banner", resource("xyz"));
+
+        assertArrayEquals("xyz".getBytes(), read(target.get("banner").get()));
+        assertEquals(2, target.stats().misses());
+        assertEquals(0, target.stats().memoryHits());
+    }
+
+    @Test
+    void Given_ACachedResource_When_CallsStoreOrDelete_Should_InvalidateIt() {
+        target.store("banner", resource("abc"));
+        target.store("video", resource("abcdefgh"));
+        target.get("banner");
+        target.get("video");
+
+        target.store("banner", resource("xyz"));
+        target.deleteAll(List.of("video"));
+
+        assertEquals(0, target.stats().memoryBytes());
+        assertEquals(0, target.stats().diskBytes());
+        assertTrue(target.get("video").isEmpty());
+        assertArrayEquals("xyz".getBytes(), read(target.get("banner").get()));
+    }
+
+    @Test
+    void Given_AFullMemoryTier_When_CachesANewResource_Should_EvictTheLeastRecentlyUsed() {
+        this.delegate.store("one", resource("1111"));
+        this.delegate.store("two", resource("2222"));
+        this.delegate.store("three", resource("3333"));
+
+        target.get("one");
+        target.get("two");
+        target.get("one");
+        target.get("three");
+
+        final var actualStats = target.stats();
+
+        assertEquals(1, actualStats.memoryEvictions());
+        assertEquals(8, actualStats.memoryBytes());
+
+        target.get("one");
+
+        assertEquals(2, target.stats().memoryHits());
+    }
+
+    @Test
+    void Given_ADiskTierOverBudget_When_CachesANewResource_Should_DeleteTheEvictedFile() throws Exception {
+        this.delegate.store("one", resource("aaaaaaaaa"));
+        this.delegate.store("two", resource("bbbbbbbbb"));
+        this.delegate.store("three", resource("ccccccccc"));
+
+        target.get("one");
+        target.get("two");
+        target.get("three");
+
+        assertEquals(1, target.stats().diskEvictions());
+
+        try (final var files = Files.list(this.diskDirectory.resolve("entries"))) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void Given_AHandedOutDiskResource_When_TheEntryIsDiscarded_Should_StillReadIt() {
+        this.delegate.store("video", resource("abcdefgh"));
+        target.get("video");
+        final var actualResource = target.get("video").get();
+
+        target.deleteAll(List.of("video"));
+
+        assertEquals(0, target.stats().diskBytes());
+        assertArrayEquals("abcdefgh".getBytes(), read(actualResource));
+    }
+
+    @Test
+    void Given_TheExpectedChecksum_When_CallsGetOnACachedResource_Should_NotAskTheDelegate() {
+        final var expectedResource = resource("abcdefgh");
+        this.delegate.store("video", expectedResource);
+        target.get("video");
+
+        this.delegate.deleteAll(List.of("video"));
+
+        final var actualResource = target.get("video", expectedResource.checksum());
+
+        assertTrue(actualResource.isPresent());
+        assertArrayEquals("abcdefgh".getBytes(), read(actualResource.get()));
+        assertEquals(1, target.stats().diskHits());
+    }
+
+    @Test
+    void Given_AnUnexpectedChecksum_When_CallsGet_Should_FallBackToTheDelegate() {
+        this.delegate.store("banner", resource("abc"));
+        target.get("banner");
+
+        this.delegate.store("banner", resource("xyz"));
+
+        assertArrayEquals("xyz".getBytes(), read(target.get("banner", resource("xyz").checksum()).get()));
+        assertEquals(0, target.stats().memoryHits());
+    }
+
+    @Test
+    void Given_AConfiguredDirectory_When_TheCacheStarts_Should_OnlyDeleteItsOwnFiles() throws Exception {
+        final var aForeignFile = Files.writeString(this.diskDirectory.resolve("keep.txt"), "keep");
+        final var aLeftover = Files.writeString(this.diskDirectory.resolve("entries").resolve("a".repeat(64)), "old");
+
+        new CachingStorageService(this.delegate, 10, 5, this.diskDirectory, 20, 10, Runnable::run);
+
+        assertTrue(Files.exists(aForeignFile));
+        assertFalse(Files.exists(aLeftover));
+    }
+
+    @Test
+    void Given_AMeterRegistry_When_BindsTheCache_Should_ExposeHitsAndMisses() {
+        final var registry = new SimpleMeterRegistry();
+        target.bindTo(registry);
+
+        this.delegate.store("banner", resource("abc"));
+        target.get("banner");
+        target.get("banner");
+
+        assertEquals(1.0, registry.get("storage.cache.misses").functionCounter().count());
+        assertEquals(1.0, registry.get("storage.cache.hits").tag("tier", "memory").functionCounter().count());
+        assertEquals(3.0, registry.get("storage.cache.size").tag("tier", "memory").gauge().value());
+    }
+
+    private static Resource resource(final String content) {
+        final var bytes = content.getBytes();
+        return Resource.of(HashingUtils.checksum(bytes), bytes, "image/png", "image.png");
+    }
+
+    private static byte[] read(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
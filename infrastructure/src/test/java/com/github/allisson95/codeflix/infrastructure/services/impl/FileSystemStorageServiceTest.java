@@ -0,0 +1,196 @@
+package com.github.allisson95.codeflix.infrastructure.services.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
+import com.github.allisson95.codeflix.domain.resource.Resource;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+
+class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new FileSystemStorageService(this.root);
+    }
+
+    @Test
+    void Given_AValidResource_When_CallsStore_Should_StoreIt() throws IOException {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedResource = resource("content");
+
+        target.store(expectedName, expectedResource);
+
+        final var actualResource = target.get(expectedName).get();
+
+        assertEquals(expectedResource.checksum(), actualResource.checksum());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.name(), actualResource.name());
+        assertEquals(expectedResource.size(), actualResource.size());
+        assertArrayEquals(expectedResource.content(), read(actualResource));
+        assertTrue(Files.isRegularFile(this.root.resolve(expectedName)));
+
+        try (final var files = Files.list(this.root.resolve("videoId-123"))) {
+            assertTrue(files.noneMatch(it -> it.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void Given_AStreamedResource_When_CallsStore_Should_StoreIt() {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var expectedContent = "streamed content".getBytes();
+        final var expectedResource = Resource.of(
+                HashingUtils.checksum(expectedContent),
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4");
+
+        target.store(expectedName, expectedResource);
+
+        assertArrayEquals(expectedContent, read(target.get(expectedName).get()));
+    }
+
+    @Test
+    void Given_AResourceWithWrongChecksum_When_CallsStore_Should_ThrowAndKeepNothing() {
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var aResource = Resource.of("wrong", "content".getBytes(), "video/mp4", "video.mp4");
+
+        assertThrows(InternalErrorException.class, () -> target.store(expectedName, aResource));
+
+        assertTrue(target.get(expectedName).isEmpty());
+        assertTrue(target.list("videoId-123").isEmpty());
+    }
+
+    @Test
+    void Given_AnExistingResource_When_CallsStoreAgain_Should_ReplaceIt() {
+        final var expectedName = "videoId-123/type-VIDEO";
+
+        target.store(expectedName, resource("first"));
+        target.store(expectedName, resource("second"));
+
+        assertArrayEquals("second".getBytes(), read(target.get(expectedName).get()));
+    }
+
+    @Test
+    void Given_AStoreInterruptedBeforeItsSidecar_When_CallsGet_Should_BeEmpty() throws IOException {
+        final var expectedName = "videoId-123/type-VIDEO";
+        Files.createDirectories(this.root.resolve("videoId-123"));
+        Files.write(this.root.resolve(expectedName), "partial".getBytes());
+
+        assertTrue(target.get(expectedName).isEmpty());
+    }
+
+    @Test
+    void Given_AnInvalidResourceName_When_CallsGet_Should_BeEmpty() {
+        assertTrue(target.get(IdUtils.uuid()).isEmpty());
+    }
+
+    @Test
+    void Given_AStoredResource_When_OpensWithOffsetAndTransfers_Should_ReadOnlyTheRange() throws IOException {
+        final var expectedName = "videoId-123/type-VIDEO";
+
+        target.store(expectedName, resource("0123456789"));
+
+        final var aSource = target.get(expectedName).get().source();
+
+        try (final var in = aSource.open(4)) {
+            assertArrayEquals("456789".getBytes(), in.readAllBytes());
+        }
+
+        final var out = new ByteArrayOutputStream();
+        final var transferred = aSource.transferTo(2, 5, Channels.newChannel(out));
+
+        assertEquals(5, transferred);
+        assertArrayEquals("23456".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    void Given_AValidPrefix_When_CallsList_Should_RetrieveAllThroughTheDirectoryLayout() {
+        final var expectedNames = List.of(
+                "videoId-123/type-VIDEO",
+                "videoId-123/type-TRAILER",
+                "videoId-123/uploads/abc/part-000000");
+
+        expectedNames.forEach(name -> target.store(name, resource(name)));
+        target.store("videoId-456/type-VIDEO", resource("other"));
+
+        assertThat(target.list("videoId-123"), containsInAnyOrder(expectedNames.toArray()));
+        assertThat(target.list("videoId-123/type-"),
+                containsInAnyOrder("videoId-123/type-VIDEO", "videoId-123/type-TRAILER"));
+        assertTrue(target.list("videoId-789").isEmpty());
+        assertTrue(target.list(null).isEmpty());
+    }
+
+    @Test
+    void Given_AStoredResource_When_CallsCopy_Should_StoreItInTheTargetWithTheGivenMetadata() {
+        final var sourceResource = resource("content");
+        final var expectedResource = Resource.of(sourceResource.checksum(), sourceResource.content(), "video/webm", "other.webm");
+
+        target.store("videoId-123/type-VIDEO", sourceResource);
+
+        target.copy("videoId-123/type-VIDEO", "videoId-456/type-VIDEO", expectedResource);
+
+        final var actualResource = target.get("videoId-456/type-VIDEO").get();
+
+        assertEquals(expectedResource.checksum(), actualResource.checksum());
+        assertEquals(expectedResource.name(), actualResource.name());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertArrayEquals(expectedResource.content(), read(actualResource));
+        assertEquals(sourceResource.name(), target.get("videoId-123/type-VIDEO").get().name());
+    }
+
+    @Test
+    void Given_AValidNames_When_CallsDelete_Should_DeleteAll() {
+        target.store("videoId-123/type-VIDEO", resource("video"));
+        target.store("videoId-123/type-TRAILER", resource("trailer"));
+
+        target.deleteAll(List.of("videoId-123/type-VIDEO", "videoId-123/unknown"));
+
+        assertThat(target.list("videoId-123"), containsInAnyOrder("videoId-123/type-TRAILER"));
+        assertFalse(Files.exists(this.root.resolve("videoId-123/type-VIDEO")));
+    }
+
+    @Test
+    void Given_ANameOutsideTheRoot_When_CallsGet_Should_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> target.get("../outside"));
+    }
+
+    private static Resource resource(final String content) {
+        final var bytes = content.getBytes();
+        return Resource.of(HashingUtils.checksum(bytes), bytes, "video/mp4", "video.mp4");
+    }
+
+    private static byte[] read(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
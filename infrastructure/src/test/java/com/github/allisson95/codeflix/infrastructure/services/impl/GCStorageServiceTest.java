@@ -2,7 +2,9 @@ package com.github.allisson95.codeflix.infrastructure.services.impl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -13,6 +15,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,10 +28,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
 import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.domain.utils.IdUtils;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -33,6 +44,8 @@ import com.google.cloud.storage.Storage.BlobListOption;
 
 class GCStorageServiceTest {
 
+    private static final Long GENERATION = 1_700_000_000_000_001L;
+
     private GCStorageService target;
 
     private Storage storage;
@@ -69,18 +82,101 @@ class GCStorageServiceTest {
     }
 
     @Test
-    void Given_AValidResource_When_CallsGet_Should_RetrieveIt() {
+    void Given_AStreamedResource_When_CallsStore_Should_StreamItToAWriter() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "content".getBytes();
+        final var expectedResource = Resource.of(
+                HashingUtils.checksum(expectedContent),
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video");
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = mockWriter(written);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        this.target.store(expectedName, expectedResource);
+
+        final var captor = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).writer(captor.capture());
+        verify(storage, times(0)).create(any(BlobInfo.class), any(byte[].class));
+        verify(writer, times(1)).close();
+
+        final var actualBlob = captor.getValue();
+
+        assertEquals(expectedName, actualBlob.getName());
+        assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+        assertArrayEquals(expectedContent, written.toByteArray());
+    }
+
+    @Test
+    void Given_AStreamedResourceWithWrongChecksum_When_CallsStore_Should_DeleteItAndThrow() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "content".getBytes();
+        final var expectedResource = Resource.of(
+                HashingUtils.checksum("other".getBytes()),
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video");
+
+        final var writer = mockWriter(new ByteArrayOutputStream());
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        assertThrows(InternalErrorException.class, () -> this.target.store(expectedName, expectedResource));
+
+        verify(storage, times(1)).delete(BlobId.of(this.bucket, expectedName));
+    }
+
+    @Test
+    void Given_AValidResource_When_CallsGet_Should_RetrieveIt() throws Exception {
         final var expectedName = IdUtils.uuid();
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
 
         final var blob = mockBlob(expectedName, expectedResource);
         doReturn(blob).when(storage).get(anyString(), anyString());
 
+        final var reader = mockReader(expectedResource.content());
+        doReturn(reader).when(storage).reader(any(BlobId.class));
+
         final var actualResource = this.target.get(expectedName).get();
 
         verify(storage, times(1)).get(this.bucket, expectedName);
+        verify(storage, times(0)).reader(any(BlobId.class));
+
+        assertTrue(actualResource.isStreamed());
+        assertEquals(expectedResource.checksum(), actualResource.checksum());
+        assertEquals(expectedResource.size(), actualResource.size());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.name(), actualResource.name());
+        assertArrayEquals(expectedResource.content(), read(actualResource));
 
-        assertEquals(expectedResource, actualResource);
+        verify(storage, times(1)).reader(BlobId.of(this.bucket, expectedName, GENERATION));
+    }
+
+    @Test
+    void Given_AValidResource_When_OpensItFromAnOffset_Should_SeekTheReader() throws Exception {
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedOffset = 3L;
+
+        final var blob = mockBlob(expectedName, expectedResource);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        final var reader = mockReader(expectedResource.content());
+        doReturn(reader).when(storage).reader(any(BlobId.class));
+
+        final var actualResource = this.target.get(expectedName).get();
+
+        try (final var in = actualResource.source().open(expectedOffset)) {
+            in.readAllBytes();
+        }
+
+        verify(reader, times(1)).seek(expectedOffset);
+        verify(reader, times(1)).close();
+        verify(storage, times(1)).reader(BlobId.of(this.bucket, expectedName, GENERATION));
     }
 
     @Test
@@ -146,14 +242,54 @@ class GCStorageServiceTest {
         assertThat(actualResources, containsInAnyOrder(expectedResources.toArray()));
     }
 
+    private ReadChannel mockReader(final byte[] content) throws Exception {
+        final var reader = Mockito.mock(ReadChannel.class);
+        final var source = ByteBuffer.wrap(content);
+        when(reader.isOpen()).thenReturn(true);
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var length = Math.min(buffer.remaining(), source.remaining());
+            final var bytes = new byte[length];
+            source.get(bytes);
+            buffer.put(bytes);
+            return length;
+        });
+        return reader;
+    }
+
+    private WriteChannel mockWriter(final ByteArrayOutputStream written) throws Exception {
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            written.write(bytes);
+            return bytes.length;
+        });
+        return writer;
+    }
+
     private Blob mockBlob(final String name, final Resource resource) {
         final var blob = Mockito.mock(Blob.class);
-        when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
+        when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name, GENERATION));
+        when(blob.getGeneration()).thenReturn(GENERATION);
         when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
         when(blob.getContent()).thenReturn(resource.content());
+        when(blob.getSize()).thenReturn(resource.size());
         when(blob.getContentType()).thenReturn(resource.contentType());
         when(blob.getName()).thenReturn(resource.name());
         return blob;
     }
 
+    private static byte[] read(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package com.github.allisson95.codeflix.infrastructure.services.local;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -12,9 +13,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.exceptions.InternalErrorException;
+import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.domain.utils.IdUtils;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
 
 class InMemoryStorageServiceTest {
 
@@ -93,6 +97,21 @@ class InMemoryStorageServiceTest {
         assertTrue(actualResource.isEmpty());
     }
 
+    @Test
+    void Given_AStoredResource_When_CallsCopy_Should_StoreItInTheTargetWithTheGivenMetadata() {
+        final var sourceName = IdUtils.uuid();
+        final var targetName = IdUtils.uuid();
+        final var sourceResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedResource = Resource.of(sourceResource.checksum(), sourceResource.content(), "video/webm", "other.webm");
+
+        target.store(sourceName, sourceResource);
+
+        target.copy(sourceName, targetName, expectedResource);
+
+        assertEquals(expectedResource, target.get(targetName).get());
+        assertEquals(sourceResource, target.get(sourceName).get());
+    }
+
     @Test
     void Given_AValidNames_When_CallsDelete_Should_DeleteAll() {
         final var expectedNames = List.of(
@@ -119,4 +138,60 @@ class InMemoryStorageServiceTest {
                 containsInAnyOrder(expectedNames.toArray()));
     }
 
+    @Test
+    void Given_APrefixWithLexicographicNeighbours_When_CallsList_Should_RetrieveOnlyTheMatchingRange() {
+        final var expectedNames = List.of("videoId-12/type-BANNER", "videoId-12/type-VIDEO");
+
+        target.store("videoId-1/type-VIDEO", resource("a"));
+        target.store("videoId-12/type-VIDEO", resource("b"));
+        target.store("videoId-12/type-BANNER", resource("c"));
+        target.store("videoId-123/type-VIDEO", resource("d"));
+        target.store("videoId-2/type-VIDEO", resource("e"));
+
+        assertEquals(expectedNames, target.list("videoId-12/"));
+        assertEquals(4, target.list("videoId-1").size());
+
+        target.deleteAll(target.list("videoId-12/"));
+
+        assertThat(((InMemoryStorageService) this.target).storage().keySet(),
+                containsInAnyOrder("videoId-1/type-VIDEO", "videoId-123/type-VIDEO", "videoId-2/type-VIDEO"));
+        assertEquals(3, ((InMemoryStorageService) this.target).bytes());
+    }
+
+    @Test
+    void Given_AByteCap_When_CallsStoreOverIt_Should_EvictTheOldestResources() {
+        final var target = new InMemoryStorageService(10);
+
+        target.store("one", resource("1111"));
+        target.store("two", resource("2222"));
+        target.store("one", resource("1111"));
+        target.store("three", resource("3333"));
+
+        assertThat(target.storage().keySet(), containsInAnyOrder("one", "three"));
+        assertEquals(8, target.bytes());
+        assertEquals(1, target.evictions());
+
+        target.copy("three", "four", resource("3333"));
+
+        assertThat(target.storage().keySet(), containsInAnyOrder("three", "four"));
+        assertEquals(8, target.bytes());
+        assertEquals(2, target.evictions());
+    }
+
+    @Test
+    void Given_AResourceLargerThanTheCap_When_CallsStore_Should_Throw() {
+        final var target = new InMemoryStorageService(4);
+        target.store("small", resource("1111"));
+
+        assertThrows(InternalErrorException.class, () -> target.store("large", resource("12345")));
+
+        assertThat(target.storage().keySet(), containsInAnyOrder("small"));
+        assertEquals(4, target.bytes());
+    }
+
+    private static Resource resource(final String content) {
+        final var bytes = content.getBytes();
+        return Resource.of(HashingUtils.checksum(bytes), bytes, "video/mp4", "video.mp4");
+    }
+
 }
@@ -0,0 +1,36 @@
+package com.github.allisson95.codeflix.infrastructure.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SqlUtilsTest {
+
+    @Test
+    void Given_SomeWords_When_CallsFullText_Should_RequireEveryWordAsAPrefix() {
+        assertEquals("+terror* +filme*", SqlUtils.fullText("terror filme", 3));
+    }
+
+    @Test
+    void Given_BooleanModeOperators_When_CallsFullText_Should_DropThem() {
+        assertEquals("+filmes* +terror* +ação*", SqlUtils.fullText("+filmes -terror \"ação\"* (<>)~", 3));
+    }
+
+    @Test
+    void Given_TermsWithPunctuationAndRepeatedWords_When_CallsWords_Should_SplitThemIntoDistinctWords() {
+        assertEquals(List.of("filmes", "de", "ação"), SqlUtils.words(" filmes, de  ação! filmes"));
+        assertEquals(List.of(), SqlUtils.words("  -- "));
+        assertEquals(List.of(), SqlUtils.words(null));
+    }
+
+    @Test
+    void Given_OnlyWordsShorterThanTheMinTokenSize_When_CallsFullText_Should_ReturnNull() {
+        assertNull(SqlUtils.fullText("de fi", 3));
+        assertEquals("+filmes*", SqlUtils.fullText("de filmes", 3));
+        assertNull(SqlUtils.fullText(null, 3));
+    }
+
+}
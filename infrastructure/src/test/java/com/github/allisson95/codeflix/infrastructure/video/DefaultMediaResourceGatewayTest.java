@@ -4,10 +4,17 @@ import static com.github.allisson95.codeflix.domain.Fixture.Videos.resource;
 import static com.github.allisson95.codeflix.domain.Fixture.Videos.videoMediaType;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.assertj.core.api.Assertions;
@@ -17,13 +24,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.github.allisson95.codeflix.IntegrationTest;
 import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.resource.Resource;
 import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
 import com.github.allisson95.codeflix.domain.video.MediaStatus;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
 import com.github.allisson95.codeflix.domain.video.VideoID;
 import com.github.allisson95.codeflix.domain.video.VideoMediaType;
 import com.github.allisson95.codeflix.domain.video.VideoResource;
 import com.github.allisson95.codeflix.infrastructure.services.StorageService;
 import com.github.allisson95.codeflix.infrastructure.services.local.InMemoryStorageService;
+import com.github.allisson95.codeflix.infrastructure.utils.HashingUtils;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupRepository;
 
 @IntegrationTest
 class DefaultMediaResourceGatewayTest {
@@ -34,6 +47,12 @@ class DefaultMediaResourceGatewayTest {
     @Autowired
     private StorageService storageService;
 
+    @Autowired
+    private MediaChecksumRepository mediaChecksumRepository;
+
+    @Autowired
+    private MediaCleanupRepository mediaCleanupRepository;
+
     @BeforeEach
     void setUp() {
         this.storageService().reset();
@@ -158,8 +177,141 @@ class DefaultMediaResourceGatewayTest {
         assertThat(storageService().storage().keySet(), containsInAnyOrder(expectedValues.toArray()));
     }
 
+    @Test
+    void Given_AValidVideoId_When_CallsScheduleClearResources_Should_EnqueueItWithoutTouchingTheStorage() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = "videoId-%s/".formatted(expectedVideoId.getValue());
+
+        storageService.store(expectedLocation + "type-VIDEO", resource(VideoMediaType.VIDEO));
+
+        this.mediaResourceGateway.scheduleClearResources(expectedVideoId);
+
+        assertEquals(1, storageService().storage().size());
+
+        final var actualCleanups = this.mediaCleanupRepository.findAll();
+
+        assertEquals(1, actualCleanups.size());
+        assertEquals(expectedVideoId.getValue(), actualCleanups.get(0).getVideoId());
+        assertEquals(expectedLocation, actualCleanups.get(0).getLocation());
+        assertEquals(0, actualCleanups.get(0).getAttempts());
+    }
+
+    @Test
+    void Given_AResourceAlreadyStoredInTheSameLocation_When_CallsStoreVideo_Should_SkipTheUpload() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+
+        this.mediaResourceGateway.storeVideo(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+
+        final var firstStored = storageService().storage().get(expectedLocation);
+
+        final var actualMedia = this.mediaResourceGateway.storeVideo(
+                expectedVideoId,
+                VideoResource.with(expectedResource, expectedType));
+
+        assertEquals(expectedLocation, actualMedia.rawLocation());
+        assertSame(firstStored, storageService().storage().get(expectedLocation));
+        assertTrue(this.mediaResourceGateway.contains(expectedVideoId, VideoResource.with(expectedResource, expectedType)));
+        assertTrue(this.mediaChecksumRepository.existsById(expectedLocation));
+    }
+
+    @Test
+    void Given_AResourceStoredForAnotherVideo_When_CallsStoreImage_Should_CopyTheExistingObject() {
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(videoTwo.getValue(), expectedType.name());
+
+        this.mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+
+        final var renamedResource = Resource.of(
+                expectedResource.checksum(),
+                expectedResource.content(),
+                "image/webp",
+                "another-banner.webp");
+
+        final var actualMedia = this.mediaResourceGateway.storeImage(
+                videoTwo,
+                VideoResource.with(renamedResource, expectedType));
+
+        assertEquals(expectedLocation, actualMedia.rawLocation());
+        assertEquals("another-banner.webp", actualMedia.name());
+        assertEquals(renamedResource, storageService().storage().get(expectedLocation));
+        assertEquals(2, this.mediaChecksumRepository.count());
+
+        this.mediaResourceGateway.clearResources(videoOne);
+
+        assertTrue(storageService().storage().containsKey(expectedLocation));
+        assertEquals(1, this.mediaChecksumRepository.count());
+    }
+
+    @Test
+    void Given_AStaleChecksumEntry_When_CallsStoreVideo_Should_UploadTheResource() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedLocation = "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), expectedType.name());
+
+        this.mediaChecksumRepository.save(MediaChecksumJpaEntity.of("videoId-gone/type-TRAILER", expectedResource));
+
+        this.mediaResourceGateway.storeVideo(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+
+        assertEquals(expectedResource, storageService().storage().get(expectedLocation));
+        assertFalse(this.mediaChecksumRepository.existsById("videoId-gone/type-TRAILER"));
+    }
+
+    @Test
+    void Given_StoredChunks_When_CallsAssembleChunks_Should_StreamThemInOrder() throws Exception {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 6L);
+        final var firstChunk = Resource.of(HashingUtils.checksum("abc".getBytes()), "abc".getBytes(), "video/mp4", "part-0");
+        final var secondChunk = Resource.of(HashingUtils.checksum("def".getBytes()), "def".getBytes(), "video/mp4", "part-1");
+
+        aSession.commitChunk(3, this.mediaResourceGateway.storeChunk(aSession, 0, firstChunk));
+        aSession.commitChunk(3, this.mediaResourceGateway.storeChunk(aSession, 1, secondChunk));
+
+        final var actualResource = this.mediaResourceGateway.assembleChunks(aSession);
+
+        assertEquals(HashingUtils.checksum("abcdef".getBytes()), actualResource.checksum());
+        assertEquals(6L, actualResource.size());
+        assertEquals("video.mp4", actualResource.name());
+        assertArrayEquals("abcdef".getBytes(), read(actualResource));
+
+        this.mediaResourceGateway.clearChunks(aSession);
+
+        assertTrue(storageService().storage().isEmpty());
+    }
+
+    @Test
+    void Given_ARetriedChunk_When_CallsAssembleChunks_Should_UseOnlyTheCommittedAttempt() {
+        final var aSession = MediaUploadSession.newSession(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4", 3L);
+        final var winner = Resource.of(HashingUtils.checksum("abc".getBytes()), "abc".getBytes(), "video/mp4", "part-0");
+        final var loser = Resource.of(HashingUtils.checksum("xyz".getBytes()), "xyz".getBytes(), "video/mp4", "part-0");
+
+        final var aKey = this.mediaResourceGateway.storeChunk(aSession, 0, winner);
+        final var aLosingKey = this.mediaResourceGateway.storeChunk(aSession, 0, loser);
+        aSession.commitChunk(3, aKey);
+
+        assertNotEquals(aKey, aLosingKey);
+        assertArrayEquals("abc".getBytes(), read(this.mediaResourceGateway.assembleChunks(aSession)));
+
+        this.mediaResourceGateway.clearChunks(aSession);
+
+        assertTrue(storageService().storage().isEmpty());
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) this.storageService;
     }
 
+    private static byte[] read(final Resource aResource) {
+        try (final var in = aResource.openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -1,13 +1,19 @@
 package com.github.allisson95.codeflix.infrastructure.video;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -28,9 +34,15 @@ import com.github.allisson95.codeflix.domain.genre.GenreGateway;
 import com.github.allisson95.codeflix.domain.genre.GenreID;
 import com.github.allisson95.codeflix.domain.video.ImageMedia;
 import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoDetails;
 import com.github.allisson95.codeflix.domain.video.VideoID;
 import com.github.allisson95.codeflix.domain.video.VideoMedia;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.domain.video.VideoMediaVersion;
 import com.github.allisson95.codeflix.domain.video.VideoSearchQuery;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.github.allisson95.codeflix.infrastructure.video.persistence.VideoRepository;
 
 @IntegrationTest
@@ -51,6 +63,9 @@ class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Category filmes;
     private Category documentarios;
     private Genre acao;
@@ -234,6 +249,55 @@ class DefaultVideoGatewayTest {
         assertNull(persistedVideo.getVideo());
     }
 
+    @Test
+    void Given_AVideoWithRelations_When_CallsUpdateChangingOnlyTheTitle_Should_NotRewriteTheRelationRows() {
+        final var aVideo = createVideoWithRelations();
+
+        final var relationWrites = recordRelationWrites(() -> this.videoGateway.update(Video.with(aVideo)
+                .update(
+                        Fixture.title(),
+                        aVideo.getDescription(),
+                        aVideo.getLaunchedAt(),
+                        aVideo.getDuration(),
+                        aVideo.getRating(),
+                        aVideo.isOpened(),
+                        aVideo.isPublished(),
+                        aVideo.getCategories(),
+                        aVideo.getGenres(),
+                        aVideo.getCastMembers())));
+
+        assertEquals(List.of(0L, 0L, 0L, 0L, 0L, 0L), relationWrites);
+        assertEquals(2, countRows("videos_categories"));
+        assertEquals(2, countRows("videos_genres"));
+        assertEquals(2, countRows("videos_cast_members"));
+    }
+
+    @Test
+    void Given_AVideoWithRelations_When_CallsUpdateSwappingOneGenre_Should_RewriteOnlyThatRow() {
+        final var aVideo = createVideoWithRelations();
+
+        final var relationWrites = recordRelationWrites(() -> this.videoGateway.update(Video.with(aVideo)
+                .update(
+                        aVideo.getTitle(),
+                        aVideo.getDescription(),
+                        aVideo.getLaunchedAt(),
+                        aVideo.getDuration(),
+                        aVideo.getRating(),
+                        aVideo.isOpened(),
+                        aVideo.isPublished(),
+                        aVideo.getCategories(),
+                        Set.of(acao.getId(), ficcaoCientifica.getId()),
+                        aVideo.getCastMembers())));
+
+        assertEquals(List.of(0L, 0L, 1L, 1L, 0L, 0L), relationWrites);
+
+        final var actualVideo = this.videoGateway.findById(aVideo.getId()).get();
+
+        assertEquals(aVideo.getCategories(), actualVideo.getCategories());
+        assertEquals(Set.of(acao.getId(), ficcaoCientifica.getId()), actualVideo.getGenres());
+        assertEquals(aVideo.getCastMembers(), actualVideo.getCastMembers());
+    }
+
     @Transactional
     @Test
     void Given_AValidVideo_When_CallsUpdate_Should_PersistIt() {
@@ -358,9 +422,39 @@ class DefaultVideoGatewayTest {
 
         assertEquals(1, this.videoRepository.count());
 
-        this.videoGateway.deleteById(anId);
+        assertTrue(this.videoGateway.deleteById(anId));
+
+        assertEquals(0, this.videoRepository.count());
+    }
+
+    @Test
+    void Given_AVideoWithMediaAndRelations_When_CallsDeleteById_Should_DeleteItsRowsAndMedia() {
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        Set.of(filmes.getId()),
+                        Set.of(acao.getId()),
+                        Set.of(nicolasCage.getId()))
+                .updateBannerMedia(ImageMedia.with("banner", "banner", "/images"))
+                .updateThumbnailMedia(ImageMedia.with("thumbnail", "thumbnail", "/images"))
+                .updateTrailerMedia(VideoMedia.with("trailer", "trailer", "/videos")));
+
+        assertEquals(2, countRows("videos_image_media"));
+        assertEquals(1, countRows("videos_video_media"));
+
+        this.videoGateway.deleteById(aVideo.getId());
 
         assertEquals(0, this.videoRepository.count());
+        assertEquals(0, countRows("videos_categories"));
+        assertEquals(0, countRows("videos_genres"));
+        assertEquals(0, countRows("videos_cast_members"));
+        assertEquals(0, countRows("videos_image_media"));
+        assertEquals(0, countRows("videos_video_media"));
     }
 
     @Test
@@ -381,7 +475,7 @@ class DefaultVideoGatewayTest {
 
         assertEquals(1, this.videoRepository.count());
 
-        this.videoGateway.deleteById(anId);
+        assertFalse(this.videoGateway.deleteById(anId));
 
         assertEquals(1, this.videoRepository.count());
     }
@@ -471,6 +565,90 @@ class DefaultVideoGatewayTest {
         assertTrue(actualVideo.isEmpty());
     }
 
+    @Test
+    void Given_AValidVideoId_When_CallsFindDetailsById_Should_ReturnTheSameAsTheAggregate() {
+        final var aVideo = this.videoGateway.create(
+                Video.newVideo(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Year.of(Fixture.year()),
+                            Fixture.duration(),
+                            Fixture.Videos.rating(),
+                            Fixture.bool(),
+                            Fixture.bool(),
+                            Set.<CategoryID>of(filmes.getId(), documentarios.getId()),
+                            Set.<GenreID>of(acao.getId(), terror.getId()),
+                            Set.<CastMemberID>of(nicolasCage.getId()))
+                        .updateBannerMedia(ImageMedia.with("0bb2827c5eacf570b6064e24e0e6653b", "banner", "/images"))
+                        .updateThumbnailHalfMedia(ImageMedia.with("0bb2827c5eacf570b6064e24e0e6653b", "thumbnail_half", "/images"))
+                        .updateVideoMedia(VideoMedia.with("0bb2827c5eacf570b6064e24e0e6653b", "video", "/videos")));
+
+        final var expectedDetails = new VideoDetails(this.videoGateway.findById(aVideo.getId()).get());
+
+        final var actualDetails = this.videoGateway.findDetailsById(aVideo.getId()).get();
+
+        assertEquals(expectedDetails, actualDetails);
+        assertEquals("banner", actualDetails.banner().name());
+        assertNull(actualDetails.thumbnail());
+        assertEquals("thumbnail_half", actualDetails.thumbnailHalf().name());
+        assertNull(actualDetails.trailer());
+        assertEquals("video", actualDetails.video().name());
+    }
+
+    @Test
+    void Given_AVideoWithoutMediasAndRelations_When_CallsFindDetailsById_Should_ReturnEmptyOnes() {
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.<CategoryID>of(),
+                Set.<GenreID>of(),
+                Set.<CastMemberID>of()));
+
+        final var actualDetails = this.videoGateway.findDetailsById(aVideo.getId()).get();
+
+        assertEquals(aVideo.getId().getValue(), actualDetails.id());
+        assertEquals(aVideo.getTitle(), actualDetails.title());
+        assertNull(actualDetails.banner());
+        assertNull(actualDetails.video());
+        assertTrue(actualDetails.categories().isEmpty());
+        assertTrue(actualDetails.genres().isEmpty());
+        assertTrue(actualDetails.castMembers().isEmpty());
+        assertTrue(this.videoGateway.findDetailsById(VideoID.unique()).isEmpty());
+    }
+
+    @Test
+    void Given_AVideoWithBanner_When_CallsFindMediaChecksum_Should_ReturnOnlyStoredMedias() {
+        final var expectedBanner = Fixture.Videos.imageMedia(VideoMediaType.BANNER);
+
+        final var aVideo = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.<CategoryID>of(),
+                Set.<GenreID>of(),
+                Set.<CastMemberID>of())
+                .updateBannerMedia(expectedBanner));
+
+        assertEquals(aVideo.getUpdatedAt(), this.videoGateway.findLastModifiedById(aVideo.getId()).get());
+        assertEquals(
+                new VideoMediaVersion(aVideo.getUpdatedAt(), expectedBanner.checksum()),
+                this.videoGateway.findMediaVersion(aVideo.getId(), VideoMediaType.BANNER).get());
+        assertEquals(
+                new VideoMediaVersion(aVideo.getUpdatedAt(), null),
+                this.videoGateway.findMediaVersion(aVideo.getId(), VideoMediaType.VIDEO).get());
+        assertTrue(this.videoGateway.findMediaVersion(VideoID.unique(), VideoMediaType.BANNER).isEmpty());
+        assertTrue(this.videoGateway.findLastModifiedById(VideoID.unique()).isEmpty());
+    }
+
     @Test
     void Given_EmptyVideos_When_CallsFindAll_Should_ReturnAEmptyList() {
         final var expectedPage = 0;
@@ -623,6 +801,38 @@ class DefaultVideoGatewayTest {
         assertEquals("Transcendence - A Revolução", actualPage.items().get(2).title());
     }
 
+    @Test
+    void Given_AVideoMatchingManyFilterValues_When_CallsFindAll_Should_ReturnItOnceAndCountItOnce() {
+        this.mockVideos();
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var expectedTerms = "";
+        final var expectedSort = "title";
+        final var expectedDirection = "asc";
+        final var expectedTotal = 3;
+
+        final var aQuery = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                expectedTerms,
+                expectedSort,
+                expectedDirection,
+                Set.<CastMemberID>of(nicolasCage.getId(), morganFreeman.getId()),
+                Set.<CategoryID>of(filmes.getId(), documentarios.getId()),
+                Set.<GenreID>of(acao.getId(), ficcaoCientifica.getId()));
+
+        final var actualPage = this.videoGateway.findAll(aQuery);
+
+        assertEquals(expectedPage, actualPage.currentPage());
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(expectedPerPage, actualPage.items().size());
+
+        assertEquals("Enigmas do Universo", actualPage.items().get(0).title());
+        assertEquals("O Apocalipse", actualPage.items().get(1).title());
+    }
+
     @Test
     void Given_AllParams_When_CallsFindAll_Should_ReturnFilteredList() {
         this.mockVideos();
@@ -772,6 +982,39 @@ class DefaultVideoGatewayTest {
         }
     }
 
+    @Test
+    void Given_ACursor_When_CallsFindAll_Should_SeekPastTheLastVideo() {
+        this.mockVideos();
+
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+
+        final var firstPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, expectedPerPage, "", "title", "asc",
+                Set.<CastMemberID>of(), Set.<CategoryID>of(), Set.<GenreID>of()));
+
+        assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, expectedPerPage, "", "title", "asc",
+                Set.<CastMemberID>of(), Set.<CategoryID>of(), Set.<GenreID>of(),
+                firstPage.nextCursor()));
+
+        assertEquals(expectedTotal, secondPage.total());
+        assertEquals("O Apocalipse", secondPage.items().get(0).title());
+        assertEquals("O Problema dos 3 Corpos", secondPage.items().get(1).title());
+        assertNotNull(secondPage.nextCursor());
+
+        final var lastPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0, expectedPerPage, "", "title", "asc",
+                Set.<CastMemberID>of(), Set.<CategoryID>of(), Set.<GenreID>of(),
+                secondPage.nextCursor()));
+
+        assertEquals(1, lastPage.items().size());
+        assertEquals("Transcendence - A Revolução", lastPage.items().get(0).title());
+        assertNull(lastPage.nextCursor());
+    }
+
     private void mockVideos() {
         this.videoGateway.create(Video.newVideo(
                 "Arcadian",
@@ -834,4 +1077,38 @@ class DefaultVideoGatewayTest {
                 Set.<CastMemberID>of()));
     }
 
+    private Video createVideoWithRelations() {
+        return this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(filmes.getId(), documentarios.getId()),
+                Set.of(acao.getId(), terror.getId()),
+                Set.of(nicolasCage.getId(), morganFreeman.getId())));
+    }
+
+    // inserts and deletes of the category, genre and cast member rows, in that order
+    private List<Long> recordRelationWrites(final Runnable anUpdate) {
+        final var statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            anUpdate.run();
+            return Stream.of(VideoCategoryJpaEntity.class, VideoGenreJpaEntity.class, VideoCastMemberJpaEntity.class)
+                    .map(it -> statistics.getEntityStatistics(it.getName()))
+                    .flatMap(it -> Stream.of(it.getInsertCount(), it.getDeleteCount()))
+                    .toList();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private long countRows(final String aTable) {
+        return ((Number) this.entityManager.createNativeQuery("SELECT COUNT(*) FROM " + aTable).getSingleResult()).longValue();
+    }
+
 }
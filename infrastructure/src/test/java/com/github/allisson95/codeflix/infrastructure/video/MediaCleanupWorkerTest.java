@@ -0,0 +1,199 @@
+package com.github.allisson95.codeflix.infrastructure.video;
+
+import static com.github.allisson95.codeflix.domain.Fixture.Videos.resource;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.utils.IdUtils;
+import com.github.allisson95.codeflix.domain.utils.InstantUtils;
+import com.github.allisson95.codeflix.domain.video.MediaResourceGateway;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.configuration.properties.storage.MediaCleanupProperties;
+import com.github.allisson95.codeflix.infrastructure.services.StorageService;
+import com.github.allisson95.codeflix.infrastructure.services.local.InMemoryStorageService;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumJpaEntity;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaChecksumRepository;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaCleanupRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@IntegrationTest
+class MediaCleanupWorkerTest {
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaChecksumRepository mediaChecksumRepository;
+
+    @Autowired
+    private MediaCleanupRepository mediaCleanupRepository;
+
+    @BeforeEach
+    void setUp() {
+        ((InMemoryStorageService) this.storageService).reset();
+    }
+
+    @Test
+    void Given_ScheduledCleanups_When_CallsDrain_Should_DeleteTheirObjectsInStorageBatches() {
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var videoThree = VideoID.unique();
+
+        final var toBeDeleted = List.of(
+                store(videoOne, VideoMediaType.VIDEO),
+                store(videoOne, VideoMediaType.BANNER),
+                store(videoTwo, VideoMediaType.VIDEO),
+                store(videoTwo, VideoMediaType.TRAILER),
+                store(videoTwo, VideoMediaType.THUMBNAIL));
+
+        final var expectedValues = List.of(
+                store(videoThree, VideoMediaType.VIDEO),
+                store(videoThree, VideoMediaType.BANNER));
+
+        this.mediaResourceGateway.scheduleClearResources(videoOne);
+        this.mediaResourceGateway.scheduleClearResources(videoTwo);
+
+        final var properties = new MediaCleanupProperties();
+        properties.setStorageBatchSize(2);
+
+        final var registry = new SimpleMeterRegistry();
+        final var worker = new MediaCleanupWorker(
+                this.storageService,
+                this.mediaChecksumRepository,
+                this.mediaCleanupRepository,
+                properties);
+        worker.bindTo(registry);
+
+        assertEquals(2.0, registry.get("media.cleanup.backlog").gauge().value());
+
+        assertEquals(2, worker.drain());
+
+        assertThat(((InMemoryStorageService) this.storageService).storage().keySet(),
+                containsInAnyOrder(expectedValues.toArray()));
+        assertTrue(toBeDeleted.stream().noneMatch(this.mediaChecksumRepository::existsById));
+        assertEquals(2, this.mediaChecksumRepository.count());
+        assertEquals(0, this.mediaCleanupRepository.count());
+        assertEquals(0.0, registry.get("media.cleanup.backlog").gauge().value());
+        assertEquals(5.0, registry.get("media.cleanup.deleted").functionCounter().count());
+        assertEquals(0, worker.drain());
+    }
+
+    @Test
+    void Given_AFailingStorage_When_CallsDrain_Should_KeepTheCleanupAndRetryWithBackoff() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = store(expectedVideoId, VideoMediaType.VIDEO);
+
+        this.mediaResourceGateway.scheduleClearResources(expectedVideoId);
+
+        final var failingStorage = mock(StorageService.class);
+        when(failingStorage.list(any())).thenReturn(List.of(expectedLocation));
+        doThrow(new IllegalStateException("bucket unavailable"))
+                .when(failingStorage).deleteAll(anyCollection());
+
+        final var properties = new MediaCleanupProperties();
+        properties.setInitialBackoff(Duration.ofMinutes(1));
+
+        final var worker = new MediaCleanupWorker(
+                failingStorage,
+                this.mediaChecksumRepository,
+                this.mediaCleanupRepository,
+                properties);
+
+        final var beforeDrain = InstantUtils.now();
+
+        assertEquals(1, worker.drain());
+
+        final var actualCleanup = this.mediaCleanupRepository.findAll().get(0);
+
+        assertEquals(1, actualCleanup.getAttempts());
+        assertNotNull(actualCleanup.getLastError());
+        assertTrue(actualCleanup.getLastError().contains("bucket unavailable"));
+        assertTrue(actualCleanup.getNextAttemptAt().isAfter(beforeDrain.plusSeconds(59)));
+        assertTrue(this.mediaChecksumRepository.existsById(expectedLocation));
+        assertTrue(((InMemoryStorageService) this.storageService).storage().containsKey(expectedLocation));
+
+        assertEquals(0, worker.drain());
+    }
+
+    @Test
+    void Given_ACleanupClaimedByAnotherWorker_When_CallsDrain_Should_SkipIt() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = store(expectedVideoId, VideoMediaType.VIDEO);
+
+        this.mediaResourceGateway.scheduleClearResources(expectedVideoId);
+
+        final var now = InstantUtils.now();
+        final var otherWorkerToken = IdUtils.uuid();
+        final var ids = this.mediaCleanupRepository.findDueIds(now, PageRequest.of(0, 10));
+
+        assertEquals(1, this.mediaCleanupRepository.claim(ids, otherWorkerToken, now, now.plus(Duration.ofMinutes(5))));
+        assertEquals(0, this.mediaCleanupRepository.claim(ids, IdUtils.uuid(), now, now.plus(Duration.ofMinutes(5))));
+
+        final var worker = new MediaCleanupWorker(
+                this.storageService,
+                this.mediaChecksumRepository,
+                this.mediaCleanupRepository,
+                new MediaCleanupProperties());
+
+        assertEquals(0, worker.drain());
+        assertEquals(1, this.mediaCleanupRepository.count());
+        assertTrue(((InMemoryStorageService) this.storageService).storage().containsKey(expectedLocation));
+    }
+
+    @Test
+    void Given_AnExpiredClaim_When_CallsDrain_Should_TakeItOverAndDeleteTheObjects() {
+        final var expectedVideoId = VideoID.unique();
+        final var expectedLocation = store(expectedVideoId, VideoMediaType.VIDEO);
+
+        this.mediaResourceGateway.scheduleClearResources(expectedVideoId);
+
+        final var now = InstantUtils.now();
+        final var deadWorkerToken = IdUtils.uuid();
+        final var ids = this.mediaCleanupRepository.findDueIds(now, PageRequest.of(0, 10));
+
+        assertEquals(1, this.mediaCleanupRepository.claim(ids, deadWorkerToken, now, now.minusSeconds(1)));
+
+        final var worker = new MediaCleanupWorker(
+                this.storageService,
+                this.mediaChecksumRepository,
+                this.mediaCleanupRepository,
+                new MediaCleanupProperties());
+
+        assertEquals(1, worker.drain());
+        assertEquals(0, this.mediaCleanupRepository.count());
+        assertFalse(((InMemoryStorageService) this.storageService).storage().containsKey(expectedLocation));
+        assertFalse(this.mediaChecksumRepository.existsById(expectedLocation));
+    }
+
+    private String store(final VideoID anId, final VideoMediaType aType) {
+        final var location = "videoId-%s/type-%s".formatted(anId.getValue(), aType.name());
+        final var aResource = resource(aType);
+        this.storageService.store(location, aResource);
+        this.mediaChecksumRepository.save(MediaChecksumJpaEntity.of(location, aResource));
+        return location;
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.github.allisson95.codeflix.infrastructure.video;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Year;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSession;
+import com.github.allisson95.codeflix.domain.video.MediaUploadSessionID;
+import com.github.allisson95.codeflix.domain.video.MediaUploadStatus;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoMediaType;
+import com.github.allisson95.codeflix.infrastructure.video.persistence.MediaUploadSessionRepository;
+
+@IntegrationTest
+class MediaUploadSessionMySQLGatewayTest {
+
+    @Autowired
+    private MediaUploadSessionMySQLGateway mediaUploadSessionGateway;
+
+    @Autowired
+    private MediaUploadSessionRepository mediaUploadSessionRepository;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    private Video video;
+
+    @BeforeEach
+    void setUp() {
+        this.video = this.videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()));
+    }
+
+    @Test
+    void testDependencies() {
+        assertNotNull(mediaUploadSessionGateway);
+        assertNotNull(mediaUploadSessionRepository);
+    }
+
+    @Test
+    void Given_TwoReadsOfTheSameSession_When_BothCommitAChunk_Should_RejectTheStaleUpdate() {
+        final var aSession = this.mediaUploadSessionGateway.create(MediaUploadSession.newSession(
+                this.video.getId(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                1024L));
+
+        final var first = this.mediaUploadSessionGateway.findById(aSession.getId()).get();
+        final var second = this.mediaUploadSessionGateway.findById(aSession.getId()).get();
+
+        final var actualSession = this.mediaUploadSessionGateway.update(first.commitChunk(512L, "part-000000-first"));
+
+        assertThrows(
+                OptimisticLockingFailureException.class,
+                () -> this.mediaUploadSessionGateway.update(second.commitChunk(512L, "part-000000-second")));
+
+        final var persistedSession = this.mediaUploadSessionGateway.findById(aSession.getId()).get();
+        assertEquals(512L, persistedSession.getCommittedOffset());
+        assertEquals(1, persistedSession.getChunks());
+        assertEquals(actualSession.getVersion(), persistedSession.getVersion());
+        assertEquals(Map.of(0, "part-000000-first"), persistedSession.getChunkKeys());
+    }
+
+    @Test
+    void Given_AValidSession_When_CallsCreate_Should_PersistIt() {
+        final var aSession = MediaUploadSession.newSession(
+                this.video.getId(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                1024L);
+
+        assertEquals(0, this.mediaUploadSessionRepository.count());
+
+        final var actualSession = this.mediaUploadSessionGateway.create(MediaUploadSession.with(aSession));
+
+        assertEquals(1, this.mediaUploadSessionRepository.count());
+
+        assertEquals(aSession.getId(), actualSession.getId());
+        assertEquals(aSession.getVideoId(), actualSession.getVideoId());
+        assertEquals(aSession.getMediaType(), actualSession.getMediaType());
+        assertEquals(aSession.getSize(), actualSession.getSize());
+        assertEquals(0, actualSession.getCommittedOffset());
+        assertEquals(MediaUploadStatus.OPEN, actualSession.getStatus());
+    }
+
+    @Test
+    void Given_ACommittedChunk_When_CallsUpdate_Should_PersistTheOffset() {
+        final var aSession = this.mediaUploadSessionGateway.create(MediaUploadSession.newSession(
+                this.video.getId(),
+                VideoMediaType.TRAILER,
+                "trailer.mp4",
+                "video/mp4",
+                1024L));
+
+        this.mediaUploadSessionGateway.update(aSession.commitChunk(512, "part-000000-a"));
+
+        final var actualSession = this.mediaUploadSessionGateway.findById(aSession.getId()).get();
+
+        assertEquals(512, actualSession.getCommittedOffset());
+        assertEquals(1, actualSession.getChunks());
+        assertEquals(Map.of(0, "part-000000-a"), actualSession.getChunkKeys());
+        assertEquals(aSession.getUpdatedAt(), actualSession.getUpdatedAt());
+    }
+
+    @Test
+    void Given_ASessionWithChunks_When_CallsDeleteById_Should_DeleteItWithItsChunkKeys() {
+        final var aSession = this.mediaUploadSessionGateway.create(MediaUploadSession.newSession(
+                this.video.getId(),
+                VideoMediaType.VIDEO,
+                "video.mp4",
+                "video/mp4",
+                1024L));
+        this.mediaUploadSessionGateway.update(aSession.commitChunk(512, "part-000000-a"));
+
+        this.mediaUploadSessionGateway.deleteById(aSession.getId());
+
+        assertEquals(0, this.mediaUploadSessionRepository.count());
+        assertTrue(this.mediaUploadSessionGateway.findById(aSession.getId()).isEmpty());
+    }
+
+    @Test
+    void Given_AnInvalidId_When_CallsDeleteById_Should_DoNothing() {
+        assertDoesNotThrow(() -> this.mediaUploadSessionGateway.deleteById(MediaUploadSessionID.from("invalid")));
+    }
+
+    @Test
+    void Given_AnInvalidId_When_CallsFindById_Should_ReturnEmpty() {
+        assertTrue(this.mediaUploadSessionGateway.findById(MediaUploadSessionID.from("invalid")).isEmpty());
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.github.allisson95.codeflix.infrastructure.video;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.github.allisson95.codeflix.IntegrationTest;
+import com.github.allisson95.codeflix.application.video.retrieve.get.VideoOutput;
+import com.github.allisson95.codeflix.domain.Fixture;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberGateway;
+import com.github.allisson95.codeflix.domain.castmember.CastMemberID;
+import com.github.allisson95.codeflix.domain.category.CategoryGateway;
+import com.github.allisson95.codeflix.domain.category.CategoryID;
+import com.github.allisson95.codeflix.domain.genre.GenreGateway;
+import com.github.allisson95.codeflix.domain.genre.GenreID;
+import com.github.allisson95.codeflix.domain.video.ImageMedia;
+import com.github.allisson95.codeflix.domain.video.Video;
+import com.github.allisson95.codeflix.domain.video.VideoID;
+import com.github.allisson95.codeflix.domain.video.VideoMedia;
+
+// Opt-in: BENCHMARK=true ./gradlew :infrastructure:test --tests '*VideoDetailsReadBenchmark'
+@IntegrationTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class VideoDetailsReadBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(VideoDetailsReadBenchmark.class);
+
+    private static final int VIDEOS = 200;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void Given_FullyPopulatedVideos_When_ReadsThemByIdThroughBothPaths_Should_ReportQueriesAndLatency() {
+        final var ids = mockVideos();
+
+        final Function<VideoID, VideoOutput> aggregatePath = it -> VideoOutput.from(this.videoGateway.findById(it).get());
+        final Function<VideoID, VideoOutput> projectionPath = it -> VideoOutput.from(this.videoGateway.findDetailsById(it).get());
+
+        ids.forEach(it -> assertEquals(aggregatePath.apply(it), projectionPath.apply(it)));
+
+        final var aggregate = measure("aggregate (findById + toAggregate)", ids, aggregatePath);
+        final var projection = measure("projection (findDetailsById)", ids, projectionPath);
+
+        assertTrue(projection.statementsPerRead() <= 2.0);
+        assertTrue(projection.statementsPerRead() < aggregate.statementsPerRead());
+    }
+
+    private Result measure(final String name, final List<VideoID> ids, final Function<VideoID, VideoOutput> aRead) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            ids.forEach(aRead::apply);
+        }
+
+        final var statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            ids.forEach(aRead::apply);
+        }
+        final var elapsed = System.nanoTime() - start;
+
+        final var reads = (double) ids.size() * MEASURED_ROUNDS;
+        final var result = new Result(
+                name,
+                elapsed / reads / 1_000,
+                statistics.getPrepareStatementCount() / reads,
+                statistics.getEntityLoadCount() / reads);
+
+        logger.info("{}: {} us/read, {} statements/read, {} entities/read",
+                result.name(),
+                "%.1f".formatted(result.microsPerRead()),
+                "%.2f".formatted(result.statementsPerRead()),
+                "%.2f".formatted(result.entitiesPerRead()));
+
+        return result;
+    }
+
+    private List<VideoID> mockVideos() {
+        final var categories = Set.<CategoryID>of(
+                this.categoryGateway.create(Fixture.Categories.filmes()).getId(),
+                this.categoryGateway.create(Fixture.Categories.documentarios()).getId());
+        final var genres = Set.<GenreID>of(
+                this.genreGateway.create(Fixture.Genres.acao()).getId(),
+                this.genreGateway.create(Fixture.Genres.terror()).getId());
+        final var castMembers = Set.<CastMemberID>of(
+                this.castMemberGateway.create(Fixture.CastMembers.nicolasCage()).getId(),
+                this.castMemberGateway.create(Fixture.CastMembers.morganFreeman()).getId());
+
+        final var ids = new ArrayList<VideoID>(VIDEOS);
+        for (int i = 0; i < VIDEOS; i++) {
+            final var aVideo = Video.newVideo(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.duration(),
+                        Fixture.Videos.rating(),
+                        Fixture.bool(),
+                        Fixture.bool(),
+                        categories,
+                        genres,
+                        castMembers)
+                    .updateBannerMedia(ImageMedia.with("banner-" + i, "banner", "/images"))
+                    .updateThumbnailMedia(ImageMedia.with("thumbnail-" + i, "thumbnail", "/images"))
+                    .updateThumbnailHalfMedia(ImageMedia.with("thumbnail-half-" + i, "thumbnail_half", "/images"))
+                    .updateTrailerMedia(VideoMedia.with("trailer-" + i, "trailer", "/videos"))
+                    .updateVideoMedia(VideoMedia.with("video-" + i, "video", "/videos"));
+
+            ids.add(this.videoGateway.create(aVideo).getId());
+        }
+        return ids;
+    }
+
+    private record Result(String name, double microsPerRead, double statementsPerRead, double entitiesPerRead) {
+
+    }
+
+}